@@ -0,0 +1,93 @@
+package dagger.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Compares {@link CompactImmutableMap} with the unmodifiable {@link LinkedHashMap} that {@link
+ * MapFactory} used before.
+ *
+ * <p>The {@code copy*} benchmarks build one map per operation, so {@code gc.alloc.rate.norm} from
+ * the GC profiler is the footprint of a map of that size. {@code IDENTITY} keys hash like the
+ * {@code Class} keys of {@code DispatchingAndroidInjector}; {@code STRING} keys like the keys of
+ * {@code HiltViewModelMap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactImmutableMapBenchmark {
+
+    public enum KeyType {
+        IDENTITY,
+        STRING,
+    }
+
+    @Param({"10", "1000", "50000"})
+    int size;
+
+    @Param
+    KeyType keyType;
+
+    private LinkedHashMap<Object, Object> source;
+    private Map<Object, Object> linkedHashMap;
+    private Map<Object, Object> compactMap;
+    private Object[] lookupKeys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        source = new LinkedHashMap<>();
+        lookupKeys = new Object[size];
+        for (int i = 0; i < size; i++) {
+            Object key = keyType == KeyType.STRING ? "com.example.ViewModel" + i : new Object();
+            source.put(key, new Object());
+            lookupKeys[i] = keyType == KeyType.STRING ? new String((String) key) : key;
+        }
+        linkedHashMap = unmodifiableMap(new LinkedHashMap<>(source));
+        compactMap = CompactImmutableMap.copyOf(source);
+    }
+
+    private Object nextKey() {
+        Object key = lookupKeys[next];
+        next = next + 1 == lookupKeys.length ? 0 : next + 1;
+        return key;
+    }
+
+    @Benchmark
+    public Object lookupLinkedHashMap() {
+        return linkedHashMap.get(nextKey());
+    }
+
+    @Benchmark
+    public Object lookupCompact() {
+        return compactMap.get(nextKey());
+    }
+
+    @Benchmark
+    public Map<Object, Object> copyLinkedHashMap() {
+        return unmodifiableMap(new LinkedHashMap<>(source));
+    }
+
+    @Benchmark
+    public Map<Object, Object> copyCompact() {
+        return CompactImmutableMap.copyOf(source);
+    }
+}
@@ -0,0 +1,137 @@
+package dagger.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Provider;
+
+/**
+ * Measures the thin {@link Provider} wrappers that generated components create for almost every
+ * binding: {@link InstanceFactory}, {@link DelegateFactory} and warm {@link DoubleCheck}/{@link
+ * SingleCheck} providers.
+ *
+ * <p>These are read-mostly and shared by every thread that uses the component, so the warm paths
+ * also run with 4 and 16 threads on the same providers, to see whether their volatile reads scale.
+ * A global {@code -Pjmh.threads=N} overrides those thread counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactoryBenchmark {
+
+    private static final Provider<Object> UNSCOPED = Object::new;
+
+    private Provider<Object> instanceFactory;
+    private DelegateFactory<Object> delegateFactory;
+    private Provider<Object> doubleCheck;
+    private Provider<Object> singleCheck;
+
+    @Setup
+    public void setUp() {
+        instanceFactory = InstanceFactory.create(new Object());
+        delegateFactory = new DelegateFactory<>();
+        DelegateFactory.setDelegate(delegateFactory, UNSCOPED);
+        doubleCheck = DoubleCheck.provider(UNSCOPED);
+        doubleCheck.get();
+        singleCheck = SingleCheck.provider(UNSCOPED);
+        singleCheck.get();
+    }
+
+    @Benchmark
+    public Object unscoped() {
+        return UNSCOPED.get();
+    }
+
+    @Benchmark
+    public Object instanceFactory() {
+        return instanceFactory.get();
+    }
+
+    @Benchmark
+    public Object delegateFactory() {
+        return delegateFactory.get();
+    }
+
+    @Benchmark
+    public Object doubleCheckWarm() {
+        return doubleCheck.get();
+    }
+
+    @Benchmark
+    public Object singleCheckWarm() {
+        return singleCheck.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object instanceFactoryThreads4() {
+        return instanceFactory.get();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object instanceFactoryThreads16() {
+        return instanceFactory.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object delegateFactoryThreads4() {
+        return delegateFactory.get();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object delegateFactoryThreads16() {
+        return delegateFactory.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object doubleCheckWarmThreads4() {
+        return doubleCheck.get();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object doubleCheckWarmThreads16() {
+        return doubleCheck.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object singleCheckWarmThreads4() {
+        return singleCheck.get();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object singleCheckWarmThreads16() {
+        return singleCheck.get();
+    }
+
+    /** Creating and initializing a scoped provider, as happens once per binding per component. */
+    @Benchmark
+    public Object doubleCheckCold() {
+        return DoubleCheck.provider(UNSCOPED).get();
+    }
+
+    @Benchmark
+    public Object singleCheckCold() {
+        return SingleCheck.provider(UNSCOPED).get();
+    }
+}
@@ -0,0 +1,180 @@
+package dagger.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Provider;
+
+/**
+ * Measures the startup of a component with {@code scoped} scoped bindings, each at the top of a
+ * chain of {@code chainLength} unscoped {@code @Inject} constructors, in the two shapes that Dagger
+ * generates for it in default mode.
+ *
+ * <p>{@code FACTORIES} is the default: the component creates a {@code Factory} of every binding in
+ * each chain, each holding a {@code Provider} field of the next, and wraps the top one in a {@link
+ * DoubleCheck}. {@code INLINED_CHAINS} is {@code -Adagger.inlineUnscopedChains=ENABLED}: only the
+ * scoped bindings get a provider, a switching provider that creates the whole chain with nested
+ * {@code new} expressions when it is first called.
+ *
+ * <p>{@code construct} is the time to create the component; {@code constructAndGetAll} adds
+ * requesting every scoped binding once, as an app that uses all of them at startup would.
+ *
+ * <p>Both shapes are written by hand after the code that the processor generates, not generated by
+ * it, so this measures the cost of the framework objects that the option avoids, not what it saves
+ * in a real component. For that, build the component with {@code
+ * -Adagger.processorMetricsDir=<dir>}, with and without the option, and compare the {@code
+ * frameworkFields} counter of its {@code generate} phase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class InlinedChainsStartupBenchmark {
+
+    public enum Shape {
+        FACTORIES,
+        INLINED_CHAINS,
+    }
+
+    @Param
+    Shape shape;
+
+    @Param({"500"})
+    int scoped;
+
+    @Param({"4"})
+    int chainLength;
+
+    @Benchmark
+    public Object construct() {
+        return newComponent();
+    }
+
+    @Benchmark
+    public Object constructAndGetAll() {
+        Component component = newComponent();
+        Object last = null;
+        for (int i = 0; i < scoped; i++) {
+            last = component.get(i);
+        }
+        return last;
+    }
+
+    private Component newComponent() {
+        return shape == Shape.FACTORIES
+                ? new FactoriesComponent(scoped, chainLength)
+                : new InlinedChainsComponent(scoped, chainLength);
+    }
+
+    /** A binding with an {@code @Inject} constructor that depends on the next one in its chain. */
+    static final class Node {
+        final Node next;
+
+        Node(Node next) {
+            this.next = next;
+        }
+    }
+
+    /** The {@code Node_Factory} that Dagger generates for each binding. */
+    static final class NodeFactory implements Factory<Node> {
+        private final Provider<Node> nextProvider;
+
+        NodeFactory(Provider<Node> nextProvider) {
+            this.nextProvider = nextProvider;
+        }
+
+        @Override
+        public Node get() {
+            return new Node(nextProvider == null ? null : nextProvider.get());
+        }
+    }
+
+    interface Component {
+        Object get(int scopedIndex);
+    }
+
+    /** The fields of each chain's factories, and the scoped provider at its top. */
+    static final class FactoriesComponent implements Component {
+        private final Provider<Node>[] chainProviders;
+        private final Provider<Node>[] scopedProviders;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        FactoriesComponent(int scoped, int chainLength) {
+            chainProviders = new Provider[scoped * chainLength];
+            scopedProviders = new Provider[scoped];
+            for (int i = 0; i < scoped; i++) {
+                Provider<Node> next = null;
+                for (int level = 0; level < chainLength; level++) {
+                    next = new NodeFactory(next);
+                    chainProviders[i * chainLength + level] = next;
+                }
+                scopedProviders[i] = DoubleCheck.provider(new NodeFactory(next));
+            }
+        }
+
+        @Override
+        public Object get(int scopedIndex) {
+            return scopedProviders[scopedIndex].get();
+        }
+    }
+
+    /** Only the scoped providers, which switch on their id to create the whole chain inline. */
+    static final class InlinedChainsComponent implements Component {
+        private final int chainLength;
+        private final Provider<Node>[] scopedProviders;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        InlinedChainsComponent(int scoped, int chainLength) {
+            this.chainLength = chainLength;
+            scopedProviders = new Provider[scoped];
+            for (int i = 0; i < scoped; i++) {
+                scopedProviders[i] = DoubleCheck.provider(new SwitchingProvider(this, i));
+            }
+        }
+
+        /** Stands in for the private method that {@code new}s each binding of one chain. */
+        Node chain() {
+            Node next = null;
+            for (int level = 0; level <= chainLength; level++) {
+                next = new Node(next);
+            }
+            return next;
+        }
+
+        @Override
+        public Object get(int scopedIndex) {
+            return scopedProviders[scopedIndex].get();
+        }
+
+        private static final class SwitchingProvider implements Provider<Node> {
+            private final InlinedChainsComponent component;
+            private final int id;
+
+            SwitchingProvider(InlinedChainsComponent component, int id) {
+                this.component = component;
+                this.id = id;
+            }
+
+            @Override
+            public Node get() {
+                // The generated switch has a case per id, each creating the chain of its binding.
+                switch (id) {
+                    default:
+                        return component.chain();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package dagger.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Provider;
+
+/**
+ * Measures {@link MapFactory} and {@link MapProviderFactory} for {@code Map<String, V>} and {@code
+ * Map<String, Provider<V>>} multibindings.
+ *
+ * <p>The {@code build*} benchmarks include creating the factory from its builder, which a component
+ * does once during initialization; the others measure the per-request cost. The {@code get}
+ * benchmarks also run with 4 and 16 threads sharing the factories, as a component's threads do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapFactoryBenchmark {
+
+    /** The number of {@code @IntoMap} contributions. */
+    @Param({"10", "1000", "50000"})
+    int contributions;
+
+    private String[] keys;
+    private Provider<Object>[] values;
+    private MapFactory<String, Object> mapFactory;
+    private MapProviderFactory<String, Object> mapProviderFactory;
+    private String lookupKey;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Setup
+    public void setUp() {
+        keys = new String[contributions];
+        values = new Provider[contributions];
+        for (int i = 0; i < contributions; i++) {
+            keys[i] = "key" + i;
+            values[i] = InstanceFactory.create(new Object());
+        }
+        mapFactory = newMapFactory();
+        mapProviderFactory = newMapProviderFactory();
+        lookupKey = keys[contributions / 2];
+    }
+
+    private MapFactory<String, Object> newMapFactory() {
+        MapFactory.Builder<String, Object> builder = MapFactory.builder(contributions);
+        for (int i = 0; i < contributions; i++) {
+            builder.put(keys[i], values[i]);
+        }
+        return builder.build();
+    }
+
+    private MapProviderFactory<String, Object> newMapProviderFactory() {
+        MapProviderFactory.Builder<String, Object> builder = MapProviderFactory.builder(contributions);
+        for (int i = 0; i < contributions; i++) {
+            builder.put(keys[i], values[i]);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public Map<String, Object> mapFactoryGet() {
+        return mapFactory.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Map<String, Object> mapFactoryGetThreads4() {
+        return mapFactory.get();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Map<String, Object> mapFactoryGetThreads16() {
+        return mapFactory.get();
+    }
+
+    @Benchmark
+    public Map<String, Object> buildMapFactoryAndGet() {
+        return newMapFactory().get();
+    }
+
+    @Benchmark
+    public Object mapFactoryGetAndLookup() {
+        return mapFactory.get().get(lookupKey);
+    }
+
+    @Benchmark
+    public Map<String, Provider<Object>> mapProviderFactoryGet() {
+        return mapProviderFactory.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Map<String, Provider<Object>> mapProviderFactoryGetThreads4() {
+        return mapProviderFactory.get();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Map<String, Provider<Object>> mapProviderFactoryGetThreads16() {
+        return mapProviderFactory.get();
+    }
+
+    @Benchmark
+    public Map<String, Provider<Object>> buildMapProviderFactoryAndGet() {
+        return newMapProviderFactory().get();
+    }
+
+    @Benchmark
+    public Object mapProviderFactoryLookup() {
+        return mapProviderFactory.get().get(lookupKey).get();
+    }
+}
@@ -0,0 +1,152 @@
+package dagger.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Provider;
+
+/**
+ * Compares {@link DoubleCheck}, {@link SingleCheck} and {@link LockFreeCheck}.
+ *
+ * <p>{@link #coldBurst} models a component warming up: each invocation creates {@code bindings}
+ * fresh scoped providers and releases {@code threads} threads at once, each of which calls {@code
+ * get()} on every provider. {@link #warmGet} measures the steady-state cost once initialized.
+ */
+@Fork(1)
+public class ScopedProviderBenchmark {
+
+    public enum Check {
+        DOUBLE_CHECK {
+            @Override
+            Provider<Object> wrap(Provider<Object> provider) {
+                return DoubleCheck.provider(provider);
+            }
+        },
+        SINGLE_CHECK {
+            @Override
+            Provider<Object> wrap(Provider<Object> provider) {
+                return SingleCheck.provider(provider);
+            }
+        },
+        LOCK_FREE_CHECK {
+            @Override
+            Provider<Object> wrap(Provider<Object> provider) {
+                return LockFreeCheck.provider(provider);
+            }
+        };
+
+        abstract Provider<Object> wrap(Provider<Object> provider);
+    }
+
+    private static final Provider<Object> UNSCOPED = Object::new;
+
+    @State(Scope.Benchmark)
+    public static class Burst {
+        @Param
+        Check check;
+
+        @Param({"1", "4", "16", "64"})
+        int threads;
+
+        @Param({"1000"})
+        int bindings;
+
+        ExecutorService executor;
+        CountDownLatch start;
+        CountDownLatch done;
+        volatile Object sink;
+
+        @Setup(Level.Trial)
+        public void startThreads() {
+            executor = Executors.newFixedThreadPool(threads);
+        }
+
+        @TearDown(Level.Trial)
+        public void stopThreads() {
+            executor.shutdownNow();
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Setup(Level.Invocation)
+        public void createProviders() throws InterruptedException {
+            Provider<Object>[] providers = new Provider[bindings];
+            for (int i = 0; i < bindings; i++) {
+                providers[i] = check.wrap(UNSCOPED);
+            }
+            CountDownLatch ready = new CountDownLatch(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+            for (int t = 0; t < threads; t++) {
+                executor.execute(
+                        () -> {
+                            ready.countDown();
+                            try {
+                                start.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return;
+                            }
+                            Object last = null;
+                            for (Provider<Object> provider : providers) {
+                                last = provider.get();
+                            }
+                            sink = last;
+                            done.countDown();
+                        });
+            }
+            // Only time the burst itself, not handing the work to the threads.
+            ready.await();
+            this.start = start;
+            this.done = done;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Warm {
+        @Param
+        Check check;
+
+        Provider<Object> provider;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            provider = check.wrap(UNSCOPED);
+            provider.get();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 50)
+    public void coldBurst(Burst burst) throws InterruptedException {
+        burst.start.countDown();
+        burst.done.await();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Object warmGet(Warm warm) {
+        return warm.provider.get();
+    }
+}
@@ -0,0 +1,126 @@
+package dagger.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Provider;
+
+/**
+ * Measures {@link SetFactory}, which rebuilds its set on every {@link SetFactory#get()}.
+ *
+ * <p>{@link #get} is the warm path that a component takes for each {@code Set<T>} request; {@link
+ * #buildAndGet} adds the cost of creating the factory, as a component does during initialization.
+ * Run with {@code -prof gc} (the default in {@code build.gradle}) to see the allocation rate. The
+ * warm paths also run with 4 and 16 threads sharing the factory, as a component's threads do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetFactoryBenchmark {
+
+    /** The number of {@code @IntoSet} contributions. */
+    @Param({"1", "16", "256"})
+    int individualProviders;
+
+    /** The number of {@code @ElementsIntoSet} contributions, each contributing four elements. */
+    @Param({"0", "4"})
+    int collectionProviders;
+
+    private List<Provider<Object>> individuals;
+    private List<Provider<Collection<Object>>> collections;
+    private SetFactory<Object> factory;
+    private Provider<Set<Object>> memoizedFactory;
+
+    @Setup
+    public void setUp() {
+        individuals = new ArrayList<>(individualProviders);
+        for (int i = 0; i < individualProviders; i++) {
+            individuals.add(InstanceFactory.create(new Object()));
+        }
+        collections = new ArrayList<>(collectionProviders);
+        for (int i = 0; i < collectionProviders; i++) {
+            List<Object> elements = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                elements.add(new Object());
+            }
+            collections.add(InstanceFactory.create(elements));
+        }
+        factory = newFactory();
+        memoizedFactory = newBuilder().buildMemoized();
+    }
+
+    private SetFactory<Object> newFactory() {
+        return newBuilder().build();
+    }
+
+    private SetFactory.Builder<Object> newBuilder() {
+        SetFactory.Builder<Object> builder =
+                SetFactory.builder(individualProviders, collectionProviders);
+        for (int i = 0; i < individuals.size(); i++) {
+            builder.addProvider(individuals.get(i));
+        }
+        for (int i = 0; i < collections.size(); i++) {
+            builder.addCollectionProvider(collections.get(i));
+        }
+        return builder;
+    }
+
+    @Benchmark
+    public Set<Object> get() {
+        return factory.get();
+    }
+
+    /** What a component uses when every contribution is scoped or a bound instance. */
+    @Benchmark
+    public Set<Object> getMemoized() {
+        return memoizedFactory.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Set<Object> getThreads4() {
+        return factory.get();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Set<Object> getThreads16() {
+        return factory.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Set<Object> getMemoizedThreads4() {
+        return memoizedFactory.get();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Set<Object> getMemoizedThreads16() {
+        return memoizedFactory.get();
+    }
+
+    @Benchmark
+    public Set<Object> buildAndGet() {
+        return newFactory().get();
+    }
+}
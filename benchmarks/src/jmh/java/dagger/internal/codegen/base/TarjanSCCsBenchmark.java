@@ -0,0 +1,93 @@
+package dagger.internal.codegen.base;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.graph.SuccessorsFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TarjanSCCs#compute} on the shapes of graph that binding graphs produce.
+ *
+ * <p>{@code CHAIN} is one path through every node and back to the first, so the whole graph is a
+ * single SCC found at a depth of {@code size}; it is the case that overflowed the stack when the
+ * search was recursive. {@code SPARSE} gives each node three random successors, like a large
+ * component's dependencies; {@code DAG} only points to later nodes, so every SCC is a single node.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class TarjanSCCsBenchmark {
+
+    public enum Shape {
+        CHAIN,
+        SPARSE,
+        DAG,
+    }
+
+    private static final int SUCCESSORS_PER_NODE = 3;
+
+    @Param({"10000", "100000", "1000000"})
+    int size;
+
+    @Param
+    Shape shape;
+
+    private ImmutableList<Integer> nodes;
+    private SuccessorsFunction<Integer> successors;
+
+    @Setup
+    public void setUp() {
+        ImmutableList.Builder<Integer> nodesBuilder = ImmutableList.builderWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            nodesBuilder.add(i);
+        }
+        nodes = nodesBuilder.build();
+
+        List<ImmutableList<Integer>> successorLists = new ArrayList<>(size);
+        Random random = new Random(0);
+        for (int i = 0; i < size; i++) {
+            switch (shape) {
+                case CHAIN:
+                    successorLists.add(ImmutableList.of(nodes.get((i + 1) % size)));
+                    break;
+                case SPARSE:
+                case DAG:
+                    ImmutableList.Builder<Integer> builder = ImmutableList.builder();
+                    for (int j = 0; j < SUCCESSORS_PER_NODE; j++) {
+                        if (shape == Shape.SPARSE) {
+                            builder.add(nodes.get(random.nextInt(size)));
+                        } else if (i + 1 < size) {
+                            builder.add(nodes.get(i + 1 + random.nextInt(size - i - 1)));
+                        }
+                    }
+                    successorLists.add(builder.build());
+                    break;
+            }
+        }
+        successors = successorLists::get;
+    }
+
+    @Benchmark
+    public ImmutableSet<ImmutableSet<Integer>> compute() {
+        return TarjanSCCs.compute(nodes, successors);
+    }
+}
@@ -0,0 +1,235 @@
+package dagger.internal.codegen.kotlin;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import kotlinx.metadata.KmClassVisitor;
+import kotlinx.metadata.KmConstructorVisitor;
+import kotlinx.metadata.KmExtensionType;
+import kotlinx.metadata.KmFunctionExtensionVisitor;
+import kotlinx.metadata.KmFunctionVisitor;
+import kotlinx.metadata.KmPropertyExtensionVisitor;
+import kotlinx.metadata.KmPropertyVisitor;
+import kotlinx.metadata.KmTypeVisitor;
+import kotlinx.metadata.jvm.JvmFieldSignature;
+import kotlinx.metadata.jvm.JvmFunctionExtensionVisitor;
+import kotlinx.metadata.jvm.JvmMethodSignature;
+import kotlinx.metadata.jvm.JvmPropertyExtensionVisitor;
+import kotlinx.metadata.jvm.KotlinClassHeader;
+import kotlinx.metadata.jvm.KotlinClassMetadata;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures one processing round's look-ups of the Kotlin metadata of {@code classes} classes, each
+ * with {@code members} functions and as many properties, in the three ways that {@code
+ * KotlinMetadataFactory} can answer a flag check such as {@code KotlinMetadataUtil.isObjectClass}.
+ *
+ * <p>{@code decodeEverything} is what it did before: decode the class and every member's
+ * signatures. {@code decodeFlagsOnly} is a first look-up now: parse the same metadata, but visit
+ * only the class's flags, name and companion object, skipping its members' signatures. {@code cachedAcrossRounds} is a look-up in a later round:
+ * fingerprint the metadata annotation and find the decoded metadata by class name and fingerprint.
+ * The visitors mirror those of {@code KotlinMetadata}, which needs javac elements to run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class KotlinMetadataDecodingBenchmark {
+
+    @Param({"3000"})
+    int classes;
+
+    @Param({"10"})
+    int members;
+
+    private final List<String> names = new ArrayList<>();
+    private final List<KotlinClassHeader> headers = new ArrayList<>();
+    private final Map<String, Object> decodedByNameAndFingerprint = new HashMap<>();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < classes; i++) {
+            String name = "bench/Class" + i;
+            KotlinClassHeader header = write(name);
+            names.add(name);
+            headers.add(header);
+            decodedByNameAndFingerprint.put(cacheKey(name, header), new Object());
+        }
+    }
+
+    @Benchmark
+    public void decodeEverything(Blackhole blackhole) {
+        for (KotlinClassHeader header : headers) {
+            MemberVisitor visitor = new MemberVisitor(blackhole);
+            read(header).accept(visitor);
+            blackhole.consume(visitor.flags);
+        }
+    }
+
+    @Benchmark
+    public void decodeFlagsOnly(Blackhole blackhole) {
+        for (KotlinClassHeader header : headers) {
+            HeaderVisitor visitor = new HeaderVisitor();
+            read(header).accept(visitor);
+            blackhole.consume(visitor.flags);
+        }
+    }
+
+    @Benchmark
+    public void cachedAcrossRounds(Blackhole blackhole) {
+        for (int i = 0; i < classes; i++) {
+            blackhole.consume(decodedByNameAndFingerprint.get(cacheKey(names.get(i), headers.get(i))));
+        }
+    }
+
+    private static KotlinClassMetadata.Class read(KotlinClassHeader header) {
+        return (KotlinClassMetadata.Class) KotlinClassMetadata.read(header);
+    }
+
+    /** The key of {@code KotlinMetadataFactory}'s cache of decoded metadata. */
+    private static String cacheKey(String name, KotlinClassHeader header) {
+        Hasher hasher = Hashing.farmHashFingerprint64().newHasher().putInt(header.getKind());
+        for (int version : header.getMetadataVersion()) {
+            hasher.putInt(version);
+        }
+        for (String data : header.getData1()) {
+            hasher.putString(data, UTF_8).putChar('\0');
+        }
+        for (String data : header.getData2()) {
+            hasher.putString(data, UTF_8).putChar('\0');
+        }
+        long fingerprint =
+                hasher
+                        .putString(header.getExtraString(), UTF_8)
+                        .putChar('\0')
+                        .putString(header.getPackageName(), UTF_8)
+                        .putInt(header.getExtraInt())
+                        .hash()
+                        .asLong();
+        return name + "@" + Long.toHexString(fingerprint);
+    }
+
+    /** Writes the metadata that kotlinc would for a class with a constructor and the members. */
+    private KotlinClassHeader write(String name) {
+        KotlinClassMetadata.Class.Writer writer = new KotlinClassMetadata.Class.Writer();
+        writer.visit(0, name);
+        KmConstructorVisitor constructor = writer.visitConstructor(0);
+        constructor.visitEnd();
+        for (int i = 0; i < members; i++) {
+            KmFunctionVisitor function = writer.visitFunction(0, "function" + i);
+            visitStringType(function.visitReturnType(0));
+            JvmFunctionExtensionVisitor functionSignature =
+                    (JvmFunctionExtensionVisitor) function.visitExtensions(JvmFunctionExtensionVisitor.TYPE);
+            functionSignature.visit(new JvmMethodSignature("function" + i, "()Ljava/lang/String;"));
+            functionSignature.visitEnd();
+            function.visitEnd();
+
+            KmPropertyVisitor property = writer.visitProperty(0, "property" + i, 0, 0);
+            visitStringType(property.visitReturnType(0));
+            JvmPropertyExtensionVisitor propertySignature =
+                    (JvmPropertyExtensionVisitor) property.visitExtensions(JvmPropertyExtensionVisitor.TYPE);
+            propertySignature.visit(
+                    0,
+                    new JvmFieldSignature("property" + i, "Ljava/lang/String;"),
+                    new JvmMethodSignature("getProperty" + i, "()Ljava/lang/String;"),
+                    null);
+            propertySignature.visitEnd();
+            property.visitEnd();
+        }
+        writer.visitEnd();
+        return writer.write().getHeader();
+    }
+
+    private static void visitStringType(KmTypeVisitor type) {
+        type.visitClass("kotlin/String");
+        type.visitEnd();
+    }
+
+    /** Like {@code KotlinMetadata.ClassHeaderVisitor}. */
+    private static class HeaderVisitor extends KmClassVisitor {
+        int flags;
+        String name;
+        String companionObjectName;
+
+        @Override
+        public void visit(int flags, String name) {
+            this.flags = flags;
+            this.name = name;
+        }
+
+        @Override
+        public void visitCompanionObject(String companionObjectName) {
+            this.companionObjectName = companionObjectName;
+        }
+    }
+
+    /** Like {@code KotlinMetadata.ClassVisitor}, which also decodes every member's signatures. */
+    private static final class MemberVisitor extends HeaderVisitor {
+        private final Blackhole blackhole;
+
+        MemberVisitor(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public KmFunctionVisitor visitFunction(int flags, String name) {
+            return new KmFunctionVisitor() {
+                @Override
+                public KmFunctionExtensionVisitor visitExtensions(KmExtensionType type) {
+                    return type.equals(JvmFunctionExtensionVisitor.TYPE)
+                            ? new JvmFunctionExtensionVisitor() {
+                        @Override
+                        public void visit(JvmMethodSignature signature) {
+                            blackhole.consume(signature.asString());
+                        }
+                    }
+                            : null;
+                }
+            };
+        }
+
+        @Override
+        public KmPropertyVisitor visitProperty(int flags, String name, int getterFlags, int setterFlags) {
+            return new KmPropertyVisitor() {
+                @Override
+                public KmPropertyExtensionVisitor visitExtensions(KmExtensionType type) {
+                    return type.equals(JvmPropertyExtensionVisitor.TYPE)
+                            ? new JvmPropertyExtensionVisitor() {
+                        @Override
+                        public void visit(
+                                int jvmFlags,
+                                JvmFieldSignature fieldSignature,
+                                JvmMethodSignature getterSignature,
+                                JvmMethodSignature setterSignature) {
+                            blackhole.consume(fieldSignature.asString());
+                            blackhole.consume(getterSignature.asString());
+                        }
+                    }
+                            : null;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package dagger.internal.codegen.validation;
+
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.Trees;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+/**
+ * Measures the type declaration walk of {@code BindingGraphValidationCache}'s fingerprint for
+ * {@code types} source types that, like Android activities, extend a large classpath hierarchy
+ * (Guava's {@code ForwardingSortedSetMultimap}) and inject classpath types.
+ *
+ * <p>{@code walkEverything} is what it did before: describe every type reached, with its members,
+ * and walk on to its supertypes. {@code stopAtClasspathTypes} is what it does now: describe
+ * classpath types by their header only, and walk no further from them. The types are compiled and
+ * completed by javac in the setup, as they are by the time a component is validated.
+ *
+ * <p>The validation that a cache hit saves needs the processor, so it is not measured here; run a
+ * build with {@code -Adagger.processorMetricsDir} and compare the {@code bindingGraphCache} phase's
+ * {@code fingerprint} time with the {@code validate} phase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class TypeDeclarationsBenchmark {
+
+    @Param({"10", "200"})
+    int types;
+
+    private final List<TypeElement> roots = new ArrayList<>();
+    private TypeDeclarations everything;
+    private TypeDeclarations stopAtClasspath;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<JavaFileObject> sources = new ArrayList<>();
+        for (int i = 0; i < types; i++) {
+            sources.add(source("Screen" + i, screen(i)));
+        }
+        JavacTask task =
+                (JavacTask)
+                        ToolProvider.getSystemJavaCompiler()
+                                .getTask(
+                                        null,
+                                        null,
+                                        null,
+                                        Arrays.asList(
+                                                "-proc:none", "-classpath", System.getProperty("java.class.path")),
+                                        null,
+                                        sources);
+        task.analyze();
+        for (int i = 0; i < types; i++) {
+            roots.add(task.getElements().getTypeElement("app.Screen" + i));
+        }
+        Trees trees = Trees.instance(task);
+        everything = new TypeDeclarations(type -> true);
+        stopAtClasspath = new TypeDeclarations(type -> trees.getTree(type) != null);
+        // Complete every type the walks reach, as resolution and validation would have.
+        everything.describe(roots);
+    }
+
+    @Benchmark
+    public Map<String, String> walkEverything() {
+        return everything.describe(roots);
+    }
+
+    @Benchmark
+    public Map<String, String> stopAtClasspathTypes() {
+        return stopAtClasspath.describe(roots);
+    }
+
+    private static String screen(int i) {
+        return "package app;\n"
+                + "\n"
+                + "import com.google.common.collect.ForwardingSortedSetMultimap;\n"
+                + "import com.google.common.collect.ImmutableSortedMap;\n"
+                + "import com.google.common.collect.SortedSetMultimap;\n"
+                + "import com.google.common.util.concurrent.AbstractFuture;\n"
+                + "import javax.inject.Inject;\n"
+                + "\n"
+                + "public class Screen" + i + " extends ForwardingSortedSetMultimap<String, Object> {\n"
+                + "  @Inject ImmutableSortedMap<String, Object> arguments;\n"
+                + "\n"
+                + "  @Inject\n"
+                + "  Screen" + i + "(AbstractFuture<String> result) {}\n"
+                + "\n"
+                + "  @Override\n"
+                + "  protected SortedSetMultimap<String, Object> delegate() {\n"
+                + "    return null;\n"
+                + "  }\n"
+                + "}\n";
+    }
+
+    private static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(
+                URI.create("string:///app/" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package dagger.producers;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Provider;
+
+import dagger.producers.internal.AbstractProducesMethodProducer;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+
+/**
+ * Compares the entry-point latency of a synthetic deep-and-wide production graph on a FIFO
+ * executor and on a {@link PrioritizingExecutor}.
+ *
+ * <p>Each operation is one request: a fresh graph of an entry point that depends on {@code width}
+ * producers, each of which depends on all {@code width} producers of the next level, {@code
+ * levels} deep, as a request-scoped production component would build. Every producer method burns
+ * {@code work} CPU tokens. Sixteen threads issue requests against {@code threads} executor threads,
+ * so the executor is always saturated; the {@code p0.99} of the sample-time result is the p99
+ * entry-point latency. The depths are those that Dagger generates: each level's distance from the
+ * entry point.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class PrioritizingExecutorBenchmark {
+
+    public enum Scheduling {
+        FIFO,
+        PRIORITY,
+    }
+
+    @Param
+    Scheduling scheduling;
+
+    @Param({"4"})
+    int threads;
+
+    @Param({"6"})
+    int levels;
+
+    @Param({"16"})
+    int width;
+
+    @Param({"1000"})
+    int work;
+
+    private ProducerToken[][] tokens;
+    private ExecutorService executor;
+    private Provider<Executor> executorProvider;
+
+    private static final Provider<ProductionComponentMonitor> NO_MONITOR =
+            new Provider<ProductionComponentMonitor>() {
+                @Override
+                public ProductionComponentMonitor get() {
+                    return ProductionComponentMonitor.noOp();
+                }
+            };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokens = new ProducerToken[levels][];
+        Map<ProducerToken, Integer> depths = new HashMap<>();
+        for (int level = 0; level < levels; level++) {
+            tokens[level] = new ProducerToken[level == 0 ? 1 : width];
+            for (int i = 0; i < tokens[level].length; i++) {
+                tokens[level][i] = ProducerToken.create("level" + level + "#" + i);
+                depths.put(tokens[level][i], level);
+            }
+        }
+        executor =
+                scheduling == Scheduling.PRIORITY
+                        ? new PrioritizingExecutor(threads, depths)
+                        : Executors.newFixedThreadPool(threads);
+        executorProvider =
+                new Provider<Executor>() {
+                    @Override
+                    public Executor get() {
+                        return executor;
+                    }
+                };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object entryPoint() throws Exception {
+        List<Node> next = Collections.emptyList();
+        for (int level = levels - 1; level >= 0; level--) {
+            List<Node> current = new ArrayList<>(tokens[level].length);
+            for (ProducerToken token : tokens[level]) {
+                current.add(new Node(token, next));
+            }
+            next = current;
+        }
+        return next.get(0).get().get();
+    }
+
+    private final class Node extends AbstractProducesMethodProducer<List<Object>, Object> {
+        private final List<Node> dependencies;
+
+        Node(ProducerToken token, List<Node> dependencies) {
+            super(NO_MONITOR, token, executorProvider);
+            this.dependencies = dependencies;
+        }
+
+        @Override
+        protected ListenableFuture<List<Object>> collectDependencies() {
+            List<ListenableFuture<Object>> futures = new ArrayList<>(dependencies.size());
+            for (Node dependency : dependencies) {
+                futures.add(dependency.get());
+            }
+            return Futures.allAsList(futures);
+        }
+
+        @Override
+        protected ListenableFuture<Object> callProducesMethod(List<Object> inputs) {
+            Blackhole.consumeCPU(work);
+            return Futures.<Object>immediateFuture(inputs.size());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package dagger.producers.internal;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Provider;
+
+import dagger.producers.monitoring.ProductionComponentMonitor;
+
+/**
+ * Runs {@code executions} producer graphs at once, each a single producer method that blocks for
+ * {@code blockMillis} like a JDBC or RPC call, and waits for all of them.
+ *
+ * <p>With a platform-thread pool the time is about {@code executions / poolSize * blockMillis};
+ * {@code VIRTUAL_THREADS}, the executor of {@link dagger.producers.Blocking @Blocking} producers,
+ * runs them all at once. On a JVM before Java 21 it measures the fallback, a platform thread per
+ * blocked producer, instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BlockingProducerBenchmark {
+
+    public enum ExecutorKind {
+        POOL_OF_64,
+        POOL_OF_512,
+        VIRTUAL_THREADS,
+    }
+
+    @Param
+    ExecutorKind executor;
+
+    @Param({"10000"})
+    int executions;
+
+    @Param({"10"})
+    int blockMillis;
+
+    private ExecutorService pool;
+    private Provider<Executor> executorProvider;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (executor) {
+            case POOL_OF_64:
+                pool = Executors.newFixedThreadPool(64);
+                break;
+            case POOL_OF_512:
+                pool = Executors.newFixedThreadPool(512);
+                break;
+            case VIRTUAL_THREADS:
+                executorProvider = VirtualThreadExecutor::get;
+                return;
+        }
+        Executor platformThreads = pool;
+        executorProvider = () -> platformThreads;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public List<Object> concurrentExecutions() throws InterruptedException, ExecutionException {
+        List<ListenableFuture<Object>> results = new ArrayList<>(executions);
+        for (int i = 0; i < executions; i++) {
+            results.add(new BlockingProducer(executorProvider, blockMillis).get());
+        }
+        return Futures.allAsList(results).get();
+    }
+
+    private static final class BlockingProducer extends AbstractProducesMethodProducer<Object, Object> {
+        private static final Provider<ProductionComponentMonitor> NO_OP_MONITOR =
+                ProductionComponentMonitor::noOp;
+
+        private final int blockMillis;
+
+        BlockingProducer(Provider<Executor> executorProvider, int blockMillis) {
+            super(NO_OP_MONITOR, null, executorProvider);
+            this.blockMillis = blockMillis;
+        }
+
+        @Override
+        protected ListenableFuture<Object> collectDependencies() {
+            return Futures.immediateFuture(null);
+        }
+
+        @Override
+        protected ListenableFuture<Object> callProducesMethod(Object unused) throws Exception {
+            Thread.sleep(blockMillis);
+            return Futures.immediateFuture(Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package dagger.producers.internal;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Provider;
+
+import dagger.producers.Producer;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+/**
+ * Issues {@code requests} hedged requests at once and waits for all of them. Each request asks two
+ * chains of producers for the same answer, takes whichever finishes first, and cancels the other,
+ * as a producer method given two {@code Producer<T>} dependencies would. The first chain is {@code
+ * levels} producers long; the second, a slower backend, twice that, so it is the one cancelled.
+ *
+ * <p>The views between producers are those that generated factories create: ordinary ones, or
+ * with {@code -Adagger.eagerProducerCancellation=ENABLED}, eagerly cancelling ones, which let the
+ * losing chain's remaining producers be skipped instead of taking up the executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class EagerCancellationBenchmark {
+
+    public enum Views {
+        ORDINARY,
+        EAGERLY_CANCELLING,
+    }
+
+    @Param
+    Views views;
+
+    @Param({"4"})
+    int threads;
+
+    @Param({"64"})
+    int requests;
+
+    @Param({"8"})
+    int levels;
+
+    @Param({"1000"})
+    int work;
+
+    private ExecutorService executor;
+    private Provider<Executor> executorProvider;
+
+    private static final ProducerToken TOKEN = ProducerToken.create("level");
+
+    private static final Provider<ProductionComponentMonitor> NO_MONITOR =
+            new Provider<ProductionComponentMonitor>() {
+                @Override
+                public ProductionComponentMonitor get() {
+                    return ProductionComponentMonitor.noOp();
+                }
+            };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(threads);
+        executorProvider =
+                new Provider<Executor>() {
+                    @Override
+                    public Executor get() {
+                        return executor;
+                    }
+                };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object hedgedRequests() throws Exception {
+        List<ListenableFuture<Object>> results = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            results.add(hedge(view(chain(levels)).get(), view(chain(levels * 2)).get()));
+        }
+        return Futures.allAsList(results).get();
+    }
+
+    private static ListenableFuture<Object> hedge(
+            final ListenableFuture<Object> first, final ListenableFuture<Object> second) {
+        final SettableFuture<Object> winner = SettableFuture.create();
+        Runnable pick =
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        if (winner.setFuture(first.isDone() ? first : second)) {
+                            first.cancel(false);
+                            second.cancel(false);
+                        }
+                    }
+                };
+        first.addListener(pick, directExecutor());
+        second.addListener(pick, directExecutor());
+        return winner;
+    }
+
+    private Producer<Object> chain(int length) {
+        Node node = new Node(null);
+        for (int level = 1; level < length; level++) {
+            node = new Node(view(node));
+        }
+        return node;
+    }
+
+    private Producer<Object> view(Producer<Object> producer) {
+        return views == Views.EAGERLY_CANCELLING
+                ? Producers.eagerlyCancellingViewOf(producer)
+                : Producers.nonCancellationPropagatingViewOf(producer);
+    }
+
+    private final class Node extends AbstractProducesMethodProducer<Object, Object> {
+        private final Producer<Object> dependency;
+
+        Node(Producer<Object> dependency) {
+            super(NO_MONITOR, TOKEN, executorProvider);
+            this.dependency = dependency;
+        }
+
+        @Override
+        protected ListenableFuture<Object> collectDependencies() {
+            return dependency == null ? Futures.immediateFuture(null) : dependency.get();
+        }
+
+        @Override
+        protected ListenableFuture<Object> callProducesMethod(Object input) {
+            Blackhole.consumeCPU(work);
+            return Futures.<Object>immediateFuture(work);
+        }
+    }
+}
@@ -8,7 +8,6 @@ import javax.inject.Provider;
 
 import static dagger.internal.DaggerCollections.newLinkedHashMapWithExpectedSize;
 import static dagger.internal.Preconditions.checkNotNull;
-import static java.util.Collections.unmodifiableMap;
 
 /**
  * An {@code abstract} {@link Factory} implementation used to implement {@link Map} bindings.
@@ -18,14 +17,14 @@ import static java.util.Collections.unmodifiableMap;
  * @param <V2> the value type of the map that this provides
  */
 abstract class AbstractMapFactory<K, V, V2> implements Factory<Map<K, V2>> {
-    private final Map<K, Provider<V>> contributingMap;
+    private final CompactImmutableMap<K, Provider<V>> contributingMap;
 
     AbstractMapFactory(Map<K, Provider<V>> map) {
-        this.contributingMap = unmodifiableMap(map);
+        this.contributingMap = CompactImmutableMap.copyOf(map);
     }
 
     /** The map of {@link Provider}s that contribute to this map binding. */
-    final Map<K, Provider<V>> contributingMap() {
+    final CompactImmutableMap<K, Provider<V>> contributingMap() {
         return contributingMap;
     }
 
@@ -0,0 +1,193 @@
+package dagger.internal;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+/**
+ * An immutable {@link Map} backed by parallel key and value arrays plus an open-addressing hash
+ * table of indexes into them. Iteration order is the order in which the keys were given.
+ *
+ * <p>Unlike a {@link java.util.LinkedHashMap} this needs no entry object per mapping, which matters
+ * for the large class- and string-keyed maps of multibindings. Maps created by {@link
+ * #withValues(Object[])} share the keys and the hash table of the original map, so {@link
+ * MapFactory#get()} only has to allocate the new values.
+ *
+ * <p>Null keys are not permitted; null values are. Like the unmodifiable map it replaces, the map is
+ * serializable if its keys and values are.
+ */
+final class CompactImmutableMap<K, V> extends AbstractMap<K, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final CompactImmutableMap<Object, Object> EMPTY =
+            new CompactImmutableMap<>(new Object[0], new Object[0], new int[1]);
+
+    private final Object[] keys;
+    private final Object[] values;
+    // Slots hold (index + 1) of the key in keys; 0 is an empty slot. The length is a power of two.
+    private final int[] table;
+    private transient Set<Entry<K, V>> entrySet;
+
+    private CompactImmutableMap(Object[] keys, Object[] values, int[] table) {
+        this.keys = keys;
+        this.values = values;
+        this.table = table;
+    }
+
+    /** Returns an immutable copy of {@code map}, iterating in the same order. */
+    @SuppressWarnings("unchecked") // the empty map holds no keys or values
+    static <K, V> CompactImmutableMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof CompactImmutableMap) {
+            return (CompactImmutableMap<K, V>) map;
+        }
+        int size = map.size();
+        if (size == 0) {
+            return (CompactImmutableMap<K, V>) EMPTY;
+        }
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        int[] table = new int[tableSize(size)];
+        int mask = table.length - 1;
+        int i = 0;
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            Object key = checkNotNull(entry.getKey(), "key");
+            int slot = smear(key.hashCode()) & mask;
+            while (table[slot] != 0) {
+                if (keys[table[slot] - 1].equals(key)) {
+                    throw new IllegalArgumentException("Duplicate key: " + key);
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = entry.getValue();
+            table[slot] = ++i;
+        }
+        return new CompactImmutableMap<>(keys, values, table);
+    }
+
+    /** Keeps the load factor at or below 0.5 so that linear probes stay short. */
+    private static int tableSize(int size) {
+        int tableSize = Integer.highestOneBit(size) << 2;
+        return tableSize > 0 ? tableSize : 1 << 30;
+    }
+
+    private static int smear(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * Returns a map with the same keys, in the same order, mapped to {@code newValues}. {@code
+     * newValues[i]} is the value of the i-th key; the array is not copied.
+     */
+    <V2> CompactImmutableMap<K, V2> withValues(Object[] newValues) {
+        if (newValues.length != keys.length) {
+            throw new IllegalArgumentException(
+                    "Expected " + keys.length + " values, got " + newValues.length);
+        }
+        return new CompactImmutableMap<>(keys, newValues, table);
+    }
+
+    /** Returns the value of the i-th key in iteration order. */
+    @SuppressWarnings("unchecked")
+    V valueAt(int i) {
+        return (V) values[i];
+    }
+
+    private int indexOf(Object key) {
+        if (key == null || keys.length == 0) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        for (int slot = smear(key.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (index < 0) {
+                return -1;
+            }
+            Object candidate = keys[index];
+            if (candidate == key || candidate.equals(key)) {
+                return index;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> result = entrySet;
+        if (result == null) {
+            // Racy but idempotent: every EntrySet instance is equivalent.
+            result = entrySet = new EntrySet();
+        }
+        return result;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            int index = indexOf(entry.getKey());
+            if (index < 0) {
+                return false;
+            }
+            Object value = values[index];
+            return value == null ? entry.getValue() == null : value.equals(entry.getValue());
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<Entry<K, V>>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < keys.length;
+                }
+
+                @SuppressWarnings("unchecked")
+                @Override
+                public Entry<K, V> next() {
+                    if (next >= keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    int i = next++;
+                    return new SimpleImmutableEntry<>((K) keys[i], (V) values[i]);
+                }
+            };
+        }
+    }
+}
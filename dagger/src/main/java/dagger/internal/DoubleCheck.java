@@ -69,7 +69,7 @@ public final class DoubleCheck<T> implements Provider<T>, Lazy<T> {
     // to work around an Eclipse type inference bug: https://github.com/google/dagger/issues/949.
     public static <P extends Provider<T>, T> Provider<T> provider(P delegate) {
         checkNotNull(delegate);
-        if (delegate instanceof DoubleCheck) {
+        if (delegate instanceof DoubleCheck || delegate instanceof LockFreeCheck) {
             /* This should be a rare case, but if we have a scoped @Binds that delegates to a scoped
              * binding, we shouldn't cache the value again. */
             return delegate;
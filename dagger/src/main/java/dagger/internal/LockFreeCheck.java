@@ -0,0 +1,106 @@
+package dagger.internal;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import javax.inject.Provider;
+
+import dagger.Lazy;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+/**
+ * A {@link Lazy} and {@link Provider} implementation that memoizes the value returned from a
+ * delegate like {@link DoubleCheck}, but claims the right to initialize the value with a
+ * compare-and-set instead of taking the monitor of the provider.
+ *
+ * <p>Exactly one thread calls the delegate; threads racing with it spin until the value has been
+ * published. This avoids monitor inflation when many threads hit the same scoped binding for the
+ * first time, at the cost of burning CPU while a slow delegate is running. Recursive calls from the
+ * initializing thread are detected the same way {@link DoubleCheck} does, via {@link
+ * DoubleCheck#reentrantCheck(Object, Object)}.
+ * <p>
+ * 使用CAS替代synchronized实现的单例Provider，通过{@code -Adagger.lockFreeScopedProviders=ENABLED}启用。
+ */
+public final class LockFreeCheck<T> implements Provider<T>, Lazy<T> {
+
+    // A MemoizedSentinel so that DoubleCheck.reentrantCheck treats it as "not yet initialized".
+    private static final Object UNINITIALIZED = new MemoizedSentinel();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeCheck, Thread> OWNER =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeCheck.class, Thread.class, "owner");
+
+    private volatile Provider<T> provider;
+    private volatile Object instance = UNINITIALIZED;
+    // The thread calling the delegate; cleared once it returns, so a published instance does not keep
+    // the thread that created it reachable.
+    private volatile Thread owner;
+
+    private LockFreeCheck(Provider<T> provider) {
+        assert provider != null;
+        this.provider = provider;
+    }
+
+    @SuppressWarnings("unchecked") // cast only happens when result comes from the provider
+    @Override
+    public T get() {
+        Object result = instance;
+        if (result == UNINITIALIZED) {
+            result = initialize();
+        }
+        return (T) result;
+    }
+
+    private Object initialize() {
+        Thread current = Thread.currentThread();
+        while (true) {
+            Object result = instance;
+            if (result != UNINITIALIZED) {
+                return result;
+            }
+            Thread currentOwner = owner;
+            if (currentOwner == current) {
+                // A recursive call from the initializing thread. Like the reentrant monitor in
+                // DoubleCheck, let it call the delegate; the outer call checks the results agree.
+                result = provider.get();
+                instance = DoubleCheck.reentrantCheck(instance, result);
+                return result;
+            }
+            if (currentOwner == null && OWNER.compareAndSet(this, null, current)) {
+                try {
+                    result = instance;
+                    if (result != UNINITIALIZED) {
+                        // The previous owner published the instance after we first read it.
+                        return result;
+                    }
+                    result = provider.get();
+                    instance = DoubleCheck.reentrantCheck(instance, result);
+                    /* Null out the reference to the provider. We are never going to need it again, so
+                     * we can make it eligible for GC. */
+                    provider = null;
+                    return result;
+                } finally {
+                    // After the instance is published the fast path in get() never reads the owner
+                    // again; if the delegate threw, this lets another caller retry, as DoubleCheck does.
+                    owner = null;
+                }
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Returns a {@link Provider} that caches the value from the given delegate provider.
+     */
+    // This method is declared this way instead of "<T> Provider<T> provider(Provider<T> delegate)"
+    // to work around an Eclipse type inference bug: https://github.com/google/dagger/issues/949.
+    public static <P extends Provider<T>, T> Provider<T> provider(P delegate) {
+        checkNotNull(delegate);
+        if (delegate instanceof LockFreeCheck || delegate instanceof DoubleCheck) {
+            /* This should be a rare case, but if we have a scoped @Binds that delegates to a scoped
+             * binding, we shouldn't cache the value again. */
+            return delegate;
+        }
+        return new LockFreeCheck<T>(delegate);
+    }
+}
@@ -6,9 +6,6 @@ import java.util.Map;
 
 import javax.inject.Provider;
 
-import static dagger.internal.DaggerCollections.newLinkedHashMapWithExpectedSize;
-import static java.util.Collections.unmodifiableMap;
-
 /**
  * A {@link Factory} implementation used to implement {@link Map} bindings. This factory returns a
  * {@code Map<K, V>} when calling {@link #get} (as specified by {@link Factory}).
@@ -38,11 +35,13 @@ public final class MapFactory<K, V> extends AbstractMapFactory<K, V, V> {
      */
     @Override
     public Map<K, V> get() {
-        Map<K, V> result = newLinkedHashMapWithExpectedSize(contributingMap().size());
-        for (Map.Entry<K, Provider<V>> entry : contributingMap().entrySet()) {
-            result.put(entry.getKey(), entry.getValue().get());
+        CompactImmutableMap<K, Provider<V>> contributingMap = contributingMap();
+        // Reuses the keys and hash table of the contributing map; only the values are new.
+        Object[] values = new Object[contributingMap.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = contributingMap.valueAt(i).get();
         }
-        return unmodifiableMap(result);
+        return contributingMap.withValues(values);
     }
 
     /** A builder for {@link MapFactory}. */
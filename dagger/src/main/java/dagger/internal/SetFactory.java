@@ -74,6 +74,17 @@ public final class SetFactory<T> implements Factory<Set<T>> {
 
             return new SetFactory<T>(individualProviders, collectionProviders);
         }
+
+        /**
+         * Returns a {@link Provider} that builds the set once and then returns that same instance.
+         *
+         * <p>Generated code only calls this when every contributing provider always returns the same
+         * value (scoped bindings and bound instances), so rebuilding the set on each call could never
+         * produce a different result.
+         */
+        public Provider<Set<T>> buildMemoized() {
+            return DoubleCheck.provider(build());
+        }
     }
 
 
@@ -31,6 +31,7 @@ import androidx.room.compiler.processing.XFiler;
 import androidx.room.compiler.processing.XMessager;
 import androidx.room.compiler.processing.XTypeElement;
 import androidx.room.compiler.processing.compat.XConverters;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerationException;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.binding.AssistedInjectionAnnotations;
@@ -72,6 +73,7 @@ final class AssistedFactoryProcessingStep extends TypeCheckingProcessingStep<XTy
     private final DaggerElements elements;
     private final DaggerTypes types;
     private final BindingFactory bindingFactory;
+    private final ProcessingMetrics metrics;
 
     @Inject
     AssistedFactoryProcessingStep(
@@ -81,7 +83,8 @@ final class AssistedFactoryProcessingStep extends TypeCheckingProcessingStep<XTy
             SourceVersion sourceVersion,
             DaggerElements elements,
             DaggerTypes types,
-            BindingFactory bindingFactory
+            BindingFactory bindingFactory,
+            ProcessingMetrics metrics
     ) {
         this.processingEnv = processingEnv;
         this.messager = messager;
@@ -90,6 +93,7 @@ final class AssistedFactoryProcessingStep extends TypeCheckingProcessingStep<XTy
         this.elements = elements;
         this.types = types;
         this.bindingFactory = bindingFactory;
+        this.metrics = metrics;
     }
 
     @Override
@@ -239,7 +243,7 @@ final class AssistedFactoryProcessingStep extends TypeCheckingProcessingStep<XTy
      */
     private final class AssistedFactoryImplGenerator extends SourceFileGenerator<ProvisionBinding> {
         AssistedFactoryImplGenerator() {
-            super(filer, elements, sourceVersion);
+            super(filer, elements, sourceVersion, metrics);
         }
 
         @Override
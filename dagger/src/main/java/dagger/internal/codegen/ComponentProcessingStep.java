@@ -6,6 +6,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.squareup.javapoet.ClassName;
 
+import java.util.Optional;
 import java.util.Set;
 
 import javax.inject.Inject;
@@ -15,6 +16,7 @@ import javax.lang.model.element.TypeElement;
 import androidx.room.compiler.processing.XMessager;
 import androidx.room.compiler.processing.XTypeElement;
 import androidx.room.compiler.processing.compat.XConverters;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.binding.BindingGraph;
 import dagger.internal.codegen.binding.BindingGraphFactory;
@@ -49,6 +51,7 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
     private final BindingGraphFactory bindingGraphFactory;
     private final SourceFileGenerator<BindingGraph> componentGenerator;
     private final BindingGraphValidator bindingGraphValidator;
+    private final ProcessingMetrics metrics;
 
     @Inject
     ComponentProcessingStep(
@@ -59,7 +62,8 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
             ComponentDescriptorFactory componentDescriptorFactory,
             BindingGraphFactory bindingGraphFactory,
             SourceFileGenerator<BindingGraph> componentGenerator,
-            BindingGraphValidator bindingGraphValidator) {
+            BindingGraphValidator bindingGraphValidator,
+            ProcessingMetrics metrics) {
         this.messager = messager;
         this.componentValidator = componentValidator;
         this.creatorValidator = creatorValidator;
@@ -68,6 +72,7 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
         this.bindingGraphFactory = bindingGraphFactory;
         this.componentGenerator = componentGenerator;
         this.bindingGraphValidator = bindingGraphValidator;
+        this.metrics = metrics;
     }
 
     @Override
@@ -108,11 +113,20 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
             return;
         }
 
-        if (!validateFullBindingGraph(componentDescriptor)) {
+        Optional<BindingGraph> fullBindingGraph = createFullBindingGraph(componentDescriptor);
+        if (fullBindingGraph.isPresent() && !isValid(fullBindingGraph.get())) {
             return;
         }
-        BindingGraph bindingGraph = bindingGraphFactory.create(componentDescriptor, false);
-        if (bindingGraphValidator.isValid(bindingGraph.topLevelBindingGraph())) {
+        BindingGraph bindingGraph;
+        try (ProcessingMetrics.Span span = metrics.start("resolve", subject(componentDescriptor))) {
+            // Nothing changed since the full binding graph was resolved, so its lookups can be re-used.
+            bindingGraph =
+                    fullBindingGraph.isPresent()
+                            ? bindingGraphFactory.createFromFullBindingGraph(fullBindingGraph.get())
+                            : bindingGraphFactory.create(componentDescriptor, false);
+        }
+        countResolved("resolve", bindingGraph);
+        if (isValid(bindingGraph)) {
             generateComponent(bindingGraph);
         }
     }
@@ -128,7 +142,31 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
     }
 
     private void generateComponent(BindingGraph bindingGraph) {
-        componentGenerator.generate(bindingGraph, messager);
+        try (ProcessingMetrics.Span span =
+                     metrics.start("generate", subject(bindingGraph.componentDescriptor()))) {
+            componentGenerator.generate(bindingGraph, messager);
+        }
+    }
+
+    private boolean isValid(BindingGraph bindingGraph) {
+        try (ProcessingMetrics.Span span =
+                     metrics.start("validate", subject(bindingGraph.componentDescriptor()))) {
+            return bindingGraphValidator.isValid(bindingGraph.topLevelBindingGraph());
+        }
+    }
+
+    private void countResolved(String phase, BindingGraph bindingGraph) {
+        if (metrics.isEnabled()) {
+            String subject = subject(bindingGraph.componentDescriptor());
+            metrics.count(phase, subject, "nodes",
+                    bindingGraph.topLevelBindingGraph().network().nodes().size());
+            metrics.count(phase, subject, "bindings",
+                    bindingGraph.topLevelBindingGraph().bindings().size());
+        }
+    }
+
+    private static String subject(ComponentDescriptor componentDescriptor) {
+        return componentDescriptor.typeElement().getQualifiedName().toString();
     }
 
     //校验component 的Builder或Factory注解
@@ -145,15 +183,25 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
 
     @CanIgnoreReturnValue
     private boolean validateFullBindingGraph(ComponentDescriptor componentDescriptor) {
+        return createFullBindingGraph(componentDescriptor)
+                .map(this::isValid)
+                .orElse(true);
+    }
+
+    private Optional<BindingGraph> createFullBindingGraph(ComponentDescriptor componentDescriptor) {
 
         TypeElement component = componentDescriptor.typeElement();
 
         if (!bindingGraphValidator.shouldDoFullBindingGraphValidation(component)) {
-            return true;
+            return Optional.empty();
         }
 
-        BindingGraph fullBindingGraph = bindingGraphFactory.create(componentDescriptor, true);
-        return bindingGraphValidator.isValid(fullBindingGraph.topLevelBindingGraph());
+        BindingGraph fullBindingGraph;
+        try (ProcessingMetrics.Span span = metrics.start("resolveFull", subject(componentDescriptor))) {
+            fullBindingGraph = bindingGraphFactory.create(componentDescriptor, true);
+        }
+        countResolved("resolveFull", fullBindingGraph);
+        return Optional.of(fullBindingGraph);
     }
 
     private boolean isValid(ComponentDescriptor componentDescriptor) {
@@ -11,6 +11,7 @@ import net.ltgt.gradle.incap.IncrementalAnnotationProcessor;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.annotation.processing.Processor;
 import javax.inject.Inject;
@@ -27,6 +28,7 @@ import dagger.Component;
 import dagger.Module;
 import dagger.Provides;
 import dagger.internal.codegen.base.ClearableCache;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerationException;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.binding.InjectBindingRegistry;
@@ -42,9 +44,11 @@ import dagger.internal.codegen.validation.ExternalBindingGraphPlugins;
 import dagger.internal.codegen.validation.InjectBindingRegistryModule;
 import dagger.internal.codegen.validation.MonitoringModuleProcessingStep;
 import dagger.internal.codegen.validation.MultibindingAnnotationsProcessingStep;
+import dagger.internal.codegen.validation.RetainedValidationReports;
 import dagger.internal.codegen.validation.ValidationBindingGraphPlugins;
 import dagger.spi.model.BindingGraphPlugin;
 
+import static dagger.internal.codegen.extension.DaggerStreams.toImmutableList;
 import static net.ltgt.gradle.incap.IncrementalAnnotationProcessorType.ISOLATING;
 
 /**
@@ -72,6 +76,10 @@ public class ComponentProcessor extends JavacBasicAnnotationProcessor {
     ExternalBindingGraphPlugins externalBindingGraphPlugins;
     @Inject
     Set<ClearableCache> clearableCaches;
+    @Inject
+    RetainedValidationReports retainedValidationReports;
+    @Inject
+    ProcessingMetrics metrics;
 
     public ComponentProcessor() {
         this.testingPlugins = Optional.empty();
@@ -176,9 +184,10 @@ public class ComponentProcessor extends JavacBasicAnnotationProcessor {
                 ComponentProcessingStep componentProcessingStep,
                 ComponentHjarProcessingStep componentHjarProcessingStep,
                 BindingMethodProcessingStep bindingMethodProcessingStep,
-                CompilerOptions compilerOptions
+                CompilerOptions compilerOptions,
+                ProcessingMetrics metrics
         ) {
-            return ImmutableList.of(
+            return Stream.<XProcessingStep>of(
                     mapKeyProcessingStep,
                     injectProcessingStep,
                     assistedInjectProcessingStep,
@@ -191,7 +200,9 @@ public class ComponentProcessor extends JavacBasicAnnotationProcessor {
                     compilerOptions.headerCompilation()
                             ? componentHjarProcessingStep
                             : componentProcessingStep,
-                    bindingMethodProcessingStep);
+                    bindingMethodProcessingStep)
+                    .map(metrics::instrument)
+                    .collect(toImmutableList());
         }
     }
 
@@ -199,13 +210,14 @@ public class ComponentProcessor extends JavacBasicAnnotationProcessor {
     public void postRound(XProcessingEnv env, XRoundEnv roundEnv) {//第四个执行
         // TODO(bcorso): Add a way to determine if processing is over without converting to Javac here.
         if (!XConverters.toJavac(roundEnv).processingOver()) {
-            try {
+            try (ProcessingMetrics.Span span = metrics.start("postRound", "requiredBindings")) {
                 injectBindingRegistry.generateSourcesForRequiredBindings(
                         factoryGenerator, membersInjectorGenerator);
             } catch (SourceFileGenerationException e) {
                 e.printMessageTo(processingEnv.getMessager());
             }
         }
+        retainedValidationReports.endRound(roundEnv);
         clearableCaches.forEach(ClearableCache::clearCache);
     }
 }
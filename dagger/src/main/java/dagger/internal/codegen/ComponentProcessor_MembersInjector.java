@@ -13,11 +13,13 @@ import dagger.MembersInjector;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.InjectedFieldSignature;
 import dagger.internal.codegen.base.ClearableCache;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.binding.InjectBindingRegistry;
 import dagger.internal.codegen.binding.MembersInjectionBinding;
 import dagger.internal.codegen.binding.ProvisionBinding;
 import dagger.internal.codegen.validation.ExternalBindingGraphPlugins;
+import dagger.internal.codegen.validation.RetainedValidationReports;
 import dagger.internal.codegen.validation.ValidationBindingGraphPlugins;
 
 @DaggerGenerated
@@ -45,6 +47,10 @@ public final class ComponentProcessor_MembersInjector implements MembersInjector
 
     private final Provider<Set<ClearableCache>> clearableCachesProvider;
 
+    private final Provider<RetainedValidationReports> retainedValidationReportsProvider;
+
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public ComponentProcessor_MembersInjector(
             Provider<InjectBindingRegistry> injectBindingRegistryProvider,
             Provider<SourceFileGenerator<ProvisionBinding>> factoryGeneratorProvider,
@@ -52,7 +58,9 @@ public final class ComponentProcessor_MembersInjector implements MembersInjector
             Provider<ImmutableList<XProcessingStep>> processingStepsProvider,
             Provider<ValidationBindingGraphPlugins> validationBindingGraphPluginsProvider,
             Provider<ExternalBindingGraphPlugins> externalBindingGraphPluginsProvider,
-            Provider<Set<ClearableCache>> clearableCachesProvider) {
+            Provider<Set<ClearableCache>> clearableCachesProvider,
+            Provider<RetainedValidationReports> retainedValidationReportsProvider,
+            Provider<ProcessingMetrics> metricsProvider) {
         this.injectBindingRegistryProvider = injectBindingRegistryProvider;
         this.factoryGeneratorProvider = factoryGeneratorProvider;
         this.membersInjectorGeneratorProvider = membersInjectorGeneratorProvider;
@@ -60,6 +68,8 @@ public final class ComponentProcessor_MembersInjector implements MembersInjector
         this.validationBindingGraphPluginsProvider = validationBindingGraphPluginsProvider;
         this.externalBindingGraphPluginsProvider = externalBindingGraphPluginsProvider;
         this.clearableCachesProvider = clearableCachesProvider;
+        this.retainedValidationReportsProvider = retainedValidationReportsProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     public static MembersInjector<ComponentProcessor> create(
@@ -69,7 +79,9 @@ public final class ComponentProcessor_MembersInjector implements MembersInjector
             Provider<ImmutableList<XProcessingStep>> processingStepsProvider,
             Provider<ValidationBindingGraphPlugins> validationBindingGraphPluginsProvider,
             Provider<ExternalBindingGraphPlugins> externalBindingGraphPluginsProvider,
-            Provider<Set<ClearableCache>> clearableCachesProvider
+            Provider<Set<ClearableCache>> clearableCachesProvider,
+            Provider<RetainedValidationReports> retainedValidationReportsProvider,
+            Provider<ProcessingMetrics> metricsProvider
     ) {
         return new ComponentProcessor_MembersInjector(
                 injectBindingRegistryProvider,
@@ -78,7 +90,9 @@ public final class ComponentProcessor_MembersInjector implements MembersInjector
                 processingStepsProvider,
                 validationBindingGraphPluginsProvider,
                 externalBindingGraphPluginsProvider,
-                clearableCachesProvider);
+                clearableCachesProvider,
+                retainedValidationReportsProvider,
+                metricsProvider);
     }
 
     @Override
@@ -90,6 +104,8 @@ public final class ComponentProcessor_MembersInjector implements MembersInjector
         injectValidationBindingGraphPlugins(instance, validationBindingGraphPluginsProvider.get());
         injectExternalBindingGraphPlugins(instance, externalBindingGraphPluginsProvider.get());
         injectClearableCaches(instance, clearableCachesProvider.get());
+        injectRetainedValidationReports(instance, retainedValidationReportsProvider.get());
+        injectMetrics(instance, metricsProvider.get());
     }
 
 
@@ -134,4 +150,15 @@ public final class ComponentProcessor_MembersInjector implements MembersInjector
                                              Set<ClearableCache> clearableCaches) {
         instance.clearableCaches = clearableCaches;
     }
+
+    @InjectedFieldSignature("dagger.internal.codegen.ComponentProcessor.retainedValidationReports")
+    public static void injectRetainedValidationReports(ComponentProcessor instance,
+                                                       RetainedValidationReports retainedValidationReports) {
+        instance.retainedValidationReports = retainedValidationReports;
+    }
+
+    @InjectedFieldSignature("dagger.internal.codegen.ComponentProcessor.metrics")
+    public static void injectMetrics(ComponentProcessor instance, ProcessingMetrics metrics) {
+        instance.metrics = metrics;
+    }
 }
@@ -10,6 +10,7 @@ import androidx.room.compiler.processing.XProcessingStep;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
 import dagger.internal.Preconditions;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.validation.BindingMethodProcessingStep;
 import dagger.internal.codegen.validation.BindsInstanceProcessingStep;
@@ -52,6 +53,8 @@ public final class ComponentProcessor_ProcessingStepsModule_ProcessingStepsFacto
 
     private final Provider<CompilerOptions> compilerOptionsProvider;
 
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public ComponentProcessor_ProcessingStepsModule_ProcessingStepsFactory(
             Provider<MapKeyProcessingStep> mapKeyProcessingStepProvider,
             Provider<InjectProcessingStep> injectProcessingStepProvider,
@@ -65,7 +68,8 @@ public final class ComponentProcessor_ProcessingStepsModule_ProcessingStepsFacto
             Provider<ComponentProcessingStep> componentProcessingStepProvider,
             Provider<ComponentHjarProcessingStep> componentHjarProcessingStepProvider,
             Provider<BindingMethodProcessingStep> bindingMethodProcessingStepProvider,
-            Provider<CompilerOptions> compilerOptionsProvider) {
+            Provider<CompilerOptions> compilerOptionsProvider,
+            Provider<ProcessingMetrics> metricsProvider) {
         this.mapKeyProcessingStepProvider = mapKeyProcessingStepProvider;
         this.injectProcessingStepProvider = injectProcessingStepProvider;
         this.assistedInjectProcessingStepProvider = assistedInjectProcessingStepProvider;
@@ -79,11 +83,12 @@ public final class ComponentProcessor_ProcessingStepsModule_ProcessingStepsFacto
         this.componentHjarProcessingStepProvider = componentHjarProcessingStepProvider;
         this.bindingMethodProcessingStepProvider = bindingMethodProcessingStepProvider;
         this.compilerOptionsProvider = compilerOptionsProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
     public ImmutableList<XProcessingStep> get() {
-        return processingSteps(mapKeyProcessingStepProvider.get(), injectProcessingStepProvider.get(), assistedInjectProcessingStepProvider.get(), assistedFactoryProcessingStepProvider.get(), assistedProcessingStepProvider.get(), monitoringModuleProcessingStepProvider.get(), multibindingAnnotationsProcessingStepProvider.get(), bindsInstanceProcessingStepProvider.get(), moduleProcessingStepProvider.get(), componentProcessingStepProvider.get(), componentHjarProcessingStepProvider.get(), bindingMethodProcessingStepProvider.get(), compilerOptionsProvider.get());
+        return processingSteps(mapKeyProcessingStepProvider.get(), injectProcessingStepProvider.get(), assistedInjectProcessingStepProvider.get(), assistedFactoryProcessingStepProvider.get(), assistedProcessingStepProvider.get(), monitoringModuleProcessingStepProvider.get(), multibindingAnnotationsProcessingStepProvider.get(), bindsInstanceProcessingStepProvider.get(), moduleProcessingStepProvider.get(), componentProcessingStepProvider.get(), componentHjarProcessingStepProvider.get(), bindingMethodProcessingStepProvider.get(), compilerOptionsProvider.get(), metricsProvider.get());
     }
 
     public static ComponentProcessor_ProcessingStepsModule_ProcessingStepsFactory create(
@@ -99,8 +104,9 @@ public final class ComponentProcessor_ProcessingStepsModule_ProcessingStepsFacto
             Provider<ComponentProcessingStep> componentProcessingStepProvider,
             Provider<ComponentHjarProcessingStep> componentHjarProcessingStepProvider,
             Provider<BindingMethodProcessingStep> bindingMethodProcessingStepProvider,
-            Provider<CompilerOptions> compilerOptionsProvider) {
-        return new ComponentProcessor_ProcessingStepsModule_ProcessingStepsFactory(mapKeyProcessingStepProvider, injectProcessingStepProvider, assistedInjectProcessingStepProvider, assistedFactoryProcessingStepProvider, assistedProcessingStepProvider, monitoringModuleProcessingStepProvider, multibindingAnnotationsProcessingStepProvider, bindsInstanceProcessingStepProvider, moduleProcessingStepProvider, componentProcessingStepProvider, componentHjarProcessingStepProvider, bindingMethodProcessingStepProvider, compilerOptionsProvider);
+            Provider<CompilerOptions> compilerOptionsProvider,
+            Provider<ProcessingMetrics> metricsProvider) {
+        return new ComponentProcessor_ProcessingStepsModule_ProcessingStepsFactory(mapKeyProcessingStepProvider, injectProcessingStepProvider, assistedInjectProcessingStepProvider, assistedFactoryProcessingStepProvider, assistedProcessingStepProvider, monitoringModuleProcessingStepProvider, multibindingAnnotationsProcessingStepProvider, bindsInstanceProcessingStepProvider, moduleProcessingStepProvider, componentProcessingStepProvider, componentHjarProcessingStepProvider, bindingMethodProcessingStepProvider, compilerOptionsProvider, metricsProvider);
     }
 
 
@@ -111,7 +117,8 @@ public final class ComponentProcessor_ProcessingStepsModule_ProcessingStepsFacto
                                                                  MultibindingAnnotationsProcessingStep multibindingAnnotationsProcessingStep,
                                                                  BindsInstanceProcessingStep bindsInstanceProcessingStep, Object moduleProcessingStep,
                                                                  Object componentProcessingStep, Object componentHjarProcessingStep,
-                                                                 BindingMethodProcessingStep bindingMethodProcessingStep, CompilerOptions compilerOptions) {
-        return Preconditions.checkNotNullFromProvides(ComponentProcessor.ProcessingStepsModule.processingSteps((MapKeyProcessingStep) mapKeyProcessingStep, (InjectProcessingStep) injectProcessingStep, (AssistedInjectProcessingStep) assistedInjectProcessingStep, (AssistedFactoryProcessingStep) assistedFactoryProcessingStep, (AssistedProcessingStep) assistedProcessingStep, monitoringModuleProcessingStep, multibindingAnnotationsProcessingStep, bindsInstanceProcessingStep, (ModuleProcessingStep) moduleProcessingStep, (ComponentProcessingStep) componentProcessingStep, (ComponentHjarProcessingStep) componentHjarProcessingStep, bindingMethodProcessingStep, compilerOptions));
+                                                                 BindingMethodProcessingStep bindingMethodProcessingStep, CompilerOptions compilerOptions,
+                                                                 ProcessingMetrics metrics) {
+        return Preconditions.checkNotNullFromProvides(ComponentProcessor.ProcessingStepsModule.processingSteps((MapKeyProcessingStep) mapKeyProcessingStep, (InjectProcessingStep) injectProcessingStep, (AssistedInjectProcessingStep) assistedInjectProcessingStep, (AssistedFactoryProcessingStep) assistedFactoryProcessingStep, (AssistedProcessingStep) assistedProcessingStep, monitoringModuleProcessingStep, multibindingAnnotationsProcessingStep, bindsInstanceProcessingStep, (ModuleProcessingStep) moduleProcessingStep, (ComponentProcessingStep) componentProcessingStep, (ComponentHjarProcessingStep) componentHjarProcessingStep, bindingMethodProcessingStep, compilerOptions, metrics));
     }
 }
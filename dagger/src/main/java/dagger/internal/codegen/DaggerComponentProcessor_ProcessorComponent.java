@@ -27,7 +27,10 @@ import dagger.internal.SetFactory;
 import dagger.internal.SingleCheck;
 import dagger.internal.codegen.base.ClearableCache;
 import dagger.internal.codegen.base.ElementFormatter_Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerator;
+import dagger.internal.codegen.base.SourceFileWriter;
+import dagger.internal.codegen.base.SourceFileWriter_Factory;
 import dagger.internal.codegen.binding.BindingDeclarationFormatter;
 import dagger.internal.codegen.binding.BindingDeclarationFormatter_Factory;
 import dagger.internal.codegen.binding.BindingFactory;
@@ -94,6 +97,8 @@ import dagger.internal.codegen.langmodel.DaggerTypes;
 import dagger.internal.codegen.validation.AnyBindingMethodValidator;
 import dagger.internal.codegen.validation.AnyBindingMethodValidator_Factory;
 import dagger.internal.codegen.validation.BindingGraphValidator;
+import dagger.internal.codegen.validation.BindingGraphValidationCache;
+import dagger.internal.codegen.validation.BindingGraphValidationCache_Factory;
 import dagger.internal.codegen.validation.BindingGraphValidator_Factory;
 import dagger.internal.codegen.validation.BindingMethodProcessingStep;
 import dagger.internal.codegen.validation.BindingMethodProcessingStep_Factory;
@@ -122,6 +127,8 @@ import dagger.internal.codegen.validation.ExternalBindingGraphPlugins_Factory;
 import dagger.internal.codegen.validation.InjectBindingRegistryImpl_Factory;
 import dagger.internal.codegen.validation.InjectValidator;
 import dagger.internal.codegen.validation.InjectValidator_Factory;
+import dagger.internal.codegen.validation.RetainedValidationReports;
+import dagger.internal.codegen.validation.RetainedValidationReports_Factory;
 import dagger.internal.codegen.validation.MapKeyValidator;
 import dagger.internal.codegen.validation.MapKeyValidator_Factory;
 import dagger.internal.codegen.validation.MembersInjectionValidator_Factory;
@@ -207,6 +214,7 @@ import dagger.internal.codegen.writing.PrivateMethodRequestRepresentation_Factor
 import dagger.internal.codegen.writing.ProducerCreationExpression_Factory;
 import dagger.internal.codegen.writing.ProducerCreationExpression_Factory_Impl;
 import dagger.internal.codegen.writing.ProducerFactoryGenerator;
+import dagger.internal.codegen.writing.ProducerDepthsGenerator_Factory;
 import dagger.internal.codegen.writing.ProducerFactoryGenerator_Factory;
 import dagger.internal.codegen.writing.ProducerFromProviderCreationExpression_Factory;
 import dagger.internal.codegen.writing.ProducerFromProviderCreationExpression_Factory_Impl;
@@ -271,6 +279,10 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
 
     private Provider<CompilerOptions> bindCompilerOptionsProvider;
 
+    private Provider<ProcessingMetrics> processingMetricsProvider;
+
+    private Provider<RetainedValidationReports> retainedValidationReportsProvider;
+
     private Provider<InjectValidator> injectValidatorProvider;
 
     private Provider<KeyFactory> keyFactoryProvider;
@@ -281,6 +293,9 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
     private Provider injectionSiteFactoryProvider;
 
     private Provider<BindingFactory> bindingFactoryProvider;
+
+    private Provider<SourceFileWriter> sourceFileWriterProvider;
+
     @SuppressWarnings("rawtypes")
     private Provider injectBindingRegistryImplProvider;
 
@@ -377,6 +392,8 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
 
     private Provider<ExternalBindingGraphPlugins> externalBindingGraphPluginsProvider;
 
+    private Provider<BindingGraphValidationCache> bindingGraphValidationCacheProvider;
+
     private Provider<BindingGraphValidator> bindingGraphValidatorProvider;
 
     private Provider<ModuleValidator> moduleValidatorProvider;
@@ -416,7 +433,8 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
                 daggerTypesProvider.get(),
                 daggerElementsProvider.get(),
                 bindCompilerOptionsProvider.get(),
-                kotlinMetadataUtil()
+                kotlinMetadataUtil(),
+                processingMetricsProvider.get()
         );
     }
 
@@ -431,7 +449,8 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
                 daggerElementsProvider.get(),
                 daggerTypesProvider.get(),
                 sourceVersion(),
-                kotlinMetadataUtil()
+                kotlinMetadataUtil(),
+                processingMetricsProvider.get()
         );
     }
 
@@ -449,11 +468,11 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
     }
 
     private AnnotationCreatorGenerator annotationCreatorGenerator() {
-        return AnnotationCreatorGenerator_Factory.newInstance(xFiler(), daggerElementsProvider.get(), sourceVersion());
+        return AnnotationCreatorGenerator_Factory.newInstance(xFiler(), daggerElementsProvider.get(), sourceVersion(), processingMetricsProvider.get());
     }
 
     private UnwrappedMapKeyGenerator unwrappedMapKeyGenerator() {
-        return UnwrappedMapKeyGenerator_Factory.newInstance(xFiler(), daggerElementsProvider.get(), sourceVersion());
+        return UnwrappedMapKeyGenerator_Factory.newInstance(xFiler(), daggerElementsProvider.get(), sourceVersion(), processingMetricsProvider.get());
     }
 
     private MapKeyProcessingStep mapKeyProcessingStep() {
@@ -515,7 +534,8 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
                 sourceVersion(),
                 daggerElementsProvider.get(),
                 daggerTypesProvider.get(),
-                bindingFactory()
+                bindingFactory(),
+                processingMetricsProvider.get()
         );
 
     }
@@ -531,7 +551,7 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
     }
 
     private Object monitoringModuleGenerator() {
-        return MonitoringModuleGenerator_Factory.newInstance(xFiler(), daggerElementsProvider.get(), sourceVersion());
+        return MonitoringModuleGenerator_Factory.newInstance(xFiler(), daggerElementsProvider.get(), sourceVersion(), processingMetricsProvider.get());
     }
 
     private MonitoringModuleProcessingStep monitoringModuleProcessingStep() {
@@ -564,7 +584,8 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
                 daggerElementsProvider.get(),
                 sourceVersion(),
                 bindCompilerOptionsProvider.get(),
-                keyFactory()
+                keyFactory(),
+                processingMetricsProvider.get()
         );
     }
 
@@ -580,7 +601,7 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
     }
 
     private ModuleProxies.ModuleConstructorProxyGenerator moduleConstructorProxyGenerator() {
-        return ModuleProxies_ModuleConstructorProxyGenerator_Factory.newInstance(xFiler(), daggerElementsProvider.get(), sourceVersion(), moduleProxies(), kotlinMetadataUtil());
+        return ModuleProxies_ModuleConstructorProxyGenerator_Factory.newInstance(xFiler(), daggerElementsProvider.get(), sourceVersion(), moduleProxies(), kotlinMetadataUtil(), processingMetricsProvider.get());
     }
 
     private SourceFileGenerator<TypeElement> moduleGeneratorSourceFileGeneratorOfTypeElement() {
@@ -595,7 +616,8 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
                 xFiler(),
                 daggerTypesProvider.get(),
                 daggerElementsProvider.get(),
-                sourceVersion()
+                sourceVersion(),
+                processingMetricsProvider.get()
         );
     }
 
@@ -651,7 +673,9 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
                 xFiler(),
                 daggerElementsProvider.get(),
                 sourceVersion(),
-                new TopLevelImplementationComponentFactory(processorComponent)
+                new TopLevelImplementationComponentFactory(processorComponent),
+                ProducerDepthsGenerator_Factory.newInstance(bindCompilerOptionsProvider.get()),
+                processingMetricsProvider.get()
         );
     }
 
@@ -664,7 +688,8 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
                 componentDescriptorFactory(),
                 bindingGraphFactoryProvider.get(),
                 (SourceFileGenerator<BindingGraph>) componentGenerator(),
-                bindingGraphValidatorProvider.get()
+                bindingGraphValidatorProvider.get(),
+                processingMetricsProvider.get()
         );
     }
 
@@ -674,7 +699,9 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
                 daggerElementsProvider.get(),
                 daggerTypesProvider.get(),
                 sourceVersion(),
-                kotlinMetadataUtil()
+                kotlinMetadataUtil(),
+                bindCompilerOptionsProvider.get(),
+                processingMetricsProvider.get()
         );
     }
 
@@ -707,7 +734,8 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
                 componentProcessingStep(),
                 componentHjarProcessingStep(),
                 bindingMethodProcessingStep(),
-                bindCompilerOptionsProvider.get()
+                bindCompilerOptionsProvider.get(),
+                processingMetricsProvider.get()
         );
     }
 
@@ -809,7 +837,8 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
                 daggerTypesProvider.get(),
                 daggerElementsProvider.get(),
                 bindCompilerOptionsProvider.get(),
-                processingOptionsMapOfStringAndString()
+                processingOptionsMapOfStringAndString(),
+                processingMetricsProvider.get()
         );
     }
 
@@ -819,7 +848,8 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
                 diagnosticReporterFactory(),
                 xFiler(),
                 daggerTypesProvider.get(), daggerElementsProvider.get(),
-                processingOptionsMapOfStringAndString()
+                processingOptionsMapOfStringAndString(),
+                processingMetricsProvider.get()
         );
     }
 
@@ -827,13 +857,16 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
     private Set<ClearableCache> setOfClearableCache() {
         return ImmutableSet.<ClearableCache>of(
                 daggerElementsProvider.get(),
+                processingMetricsProvider.get(),
                 anyBindingMethodValidatorProvider.get(),
                 injectValidatorProvider.get(),
                 factoryProvider5.get(),
                 bindingGraphFactoryProvider.get(),
                 componentValidatorProvider.get(),
                 componentCreatorValidatorProvider.get(),
-                kotlinMetadataFactoryProvider.get()
+                kotlinMetadataFactoryProvider.get(),
+                bindingGraphValidationCacheProvider.get(),
+                sourceFileWriterProvider.get()
         );
     }
 
@@ -865,7 +898,11 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
 
         this.bindCompilerOptionsProvider = SingleCheck.provider((Provider) processingEnvironmentCompilerOptionsProvider);
 
-        this.injectValidatorProvider = DoubleCheck.provider(InjectValidator_Factory.create(daggerTypesProvider, daggerElementsProvider, dependencyRequestValidatorProvider, bindCompilerOptionsProvider, injectionAnnotationsProvider, kotlinMetadataUtilProvider));
+        this.processingMetricsProvider = DoubleCheck.provider(ProcessingEnvironmentModule_ProcessingMetricsFactory.create(bindCompilerOptionsProvider, messagerProvider));
+
+        this.retainedValidationReportsProvider = DoubleCheck.provider(RetainedValidationReports_Factory.create(bindCompilerOptionsProvider, processingMetricsProvider));
+
+        this.injectValidatorProvider = DoubleCheck.provider(InjectValidator_Factory.create(daggerTypesProvider, daggerElementsProvider, dependencyRequestValidatorProvider, bindCompilerOptionsProvider, injectionAnnotationsProvider, kotlinMetadataUtilProvider, retainedValidationReportsProvider));
 
         this.keyFactoryProvider = KeyFactory_Factory.create(daggerTypesProvider, daggerElementsProvider, injectionAnnotationsProvider);
 
@@ -875,7 +912,11 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
 
         this.bindingFactoryProvider = BindingFactory_Factory.create(daggerTypesProvider, daggerElementsProvider, keyFactoryProvider, dependencyRequestFactoryProvider, injectionSiteFactoryProvider, injectionAnnotationsProvider, kotlinMetadataUtilProvider);
 
-        this.injectBindingRegistryImplProvider = DoubleCheck.provider(InjectBindingRegistryImpl_Factory.create(daggerElementsProvider, daggerTypesProvider, messagerProvider, injectValidatorProvider, keyFactoryProvider, bindingFactoryProvider, bindCompilerOptionsProvider));
+        this.filerProvider = ProcessingEnvironmentModule_FilerFactory.create(bindCompilerOptionsProvider, xProcessingEnvProvider);
+
+        this.sourceFileWriterProvider = DoubleCheck.provider(SourceFileWriter_Factory.create(xProcessingEnvProvider, bindCompilerOptionsProvider));
+
+        this.injectBindingRegistryImplProvider = DoubleCheck.provider(InjectBindingRegistryImpl_Factory.create(daggerElementsProvider, daggerTypesProvider, messagerProvider, injectValidatorProvider, keyFactoryProvider, bindingFactoryProvider, bindCompilerOptionsProvider, sourceFileWriterProvider));
 
         this.providesMethodValidatorProvider = ProvidesMethodValidator_Factory.create(daggerElementsProvider, daggerTypesProvider, kotlinMetadataUtilProvider, dependencyRequestValidatorProvider, injectionAnnotationsProvider);
 
@@ -893,7 +934,7 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
 
         this.indexValidatorsProvider = BindingMethodValidatorsModule_IndexValidatorsFactory.create(setOfBindingMethodValidatorProvider);
 
-        this.anyBindingMethodValidatorProvider = DoubleCheck.provider(AnyBindingMethodValidator_Factory.create(indexValidatorsProvider));
+        this.anyBindingMethodValidatorProvider = DoubleCheck.provider(AnyBindingMethodValidator_Factory.create(indexValidatorsProvider, retainedValidationReportsProvider));
 
         this.methodSignatureFormatterProvider = MethodSignatureFormatter_Factory.create(daggerTypesProvider, injectionAnnotationsProvider);
 
@@ -943,21 +984,20 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
 
         this.diagnosticReporterFactoryProvider = DiagnosticReporterFactory_Factory.create(messagerProvider, factoryProvider6);
 
-        this.filerProvider = ProcessingEnvironmentModule_FilerFactory.create(bindCompilerOptionsProvider, xProcessingEnvProvider);
-
-        this.validationBindingGraphPluginsProvider = ValidationBindingGraphPlugins_Factory.create(providePluginsProvider, diagnosticReporterFactoryProvider, filerProvider, daggerTypesProvider, daggerElementsProvider, bindCompilerOptionsProvider, processingOptionsProvider);
+        this.validationBindingGraphPluginsProvider = ValidationBindingGraphPlugins_Factory.create(providePluginsProvider, diagnosticReporterFactoryProvider, filerProvider, daggerTypesProvider, daggerElementsProvider, bindCompilerOptionsProvider, processingOptionsProvider, processingMetricsProvider);
 
         this.externalPluginsProvider = InstanceFactory.create(externalPluginsParam);
 
-        this.externalBindingGraphPluginsProvider = ExternalBindingGraphPlugins_Factory.create(externalPluginsProvider, diagnosticReporterFactoryProvider, filerProvider, daggerTypesProvider, daggerElementsProvider, processingOptionsProvider);
+        this.externalBindingGraphPluginsProvider = ExternalBindingGraphPlugins_Factory.create(externalPluginsProvider, diagnosticReporterFactoryProvider, filerProvider, daggerTypesProvider, daggerElementsProvider, processingOptionsProvider, processingMetricsProvider);
 
-        this.bindingGraphValidatorProvider = DoubleCheck.provider(BindingGraphValidator_Factory.create(validationBindingGraphPluginsProvider, externalBindingGraphPluginsProvider, bindCompilerOptionsProvider));
+        this.bindingGraphValidationCacheProvider = DoubleCheck.provider(BindingGraphValidationCache_Factory.create(bindCompilerOptionsProvider, processingOptionsProvider, processingMetricsProvider, xProcessingEnvProvider));
+        this.bindingGraphValidatorProvider = DoubleCheck.provider(BindingGraphValidator_Factory.create(validationBindingGraphPluginsProvider, externalBindingGraphPluginsProvider, bindCompilerOptionsProvider, bindingGraphValidationCacheProvider));
 
         this.moduleValidatorProvider = DoubleCheck.provider(ModuleValidator_Factory.create(daggerTypesProvider, daggerElementsProvider, anyBindingMethodValidatorProvider, methodSignatureFormatterProvider, componentDescriptorFactoryProvider, bindingGraphFactoryProvider, bindingGraphValidatorProvider, kotlinMetadataUtilProvider));
 
-        this.componentCreatorValidatorProvider = DoubleCheck.provider(ComponentCreatorValidator_Factory.create(daggerElementsProvider, daggerTypesProvider, kotlinMetadataUtilProvider));
+        this.componentCreatorValidatorProvider = DoubleCheck.provider(ComponentCreatorValidator_Factory.create(daggerElementsProvider, daggerTypesProvider, kotlinMetadataUtilProvider, retainedValidationReportsProvider));
 
-        this.componentValidatorProvider = DoubleCheck.provider(ComponentValidator_Factory.create(daggerElementsProvider, daggerTypesProvider, moduleValidatorProvider, componentCreatorValidatorProvider, dependencyRequestValidatorProvider, membersInjectionValidatorProvider, methodSignatureFormatterProvider, dependencyRequestFactoryProvider, kotlinMetadataUtilProvider));
+        this.componentValidatorProvider = DoubleCheck.provider(ComponentValidator_Factory.create(daggerElementsProvider, daggerTypesProvider, moduleValidatorProvider, componentCreatorValidatorProvider, dependencyRequestValidatorProvider, membersInjectionValidatorProvider, methodSignatureFormatterProvider, dependencyRequestFactoryProvider, kotlinMetadataUtilProvider, retainedValidationReportsProvider));
 
         this.moduleProxiesProvider = ModuleProxies_Factory.create(daggerElementsProvider, kotlinMetadataUtilProvider);
 
@@ -986,6 +1026,10 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
         ComponentProcessor_MembersInjector.injectExternalBindingGraphPlugins(instance, externalBindingGraphPlugins());
 
         ComponentProcessor_MembersInjector.injectClearableCaches(instance, setOfClearableCache());
+
+        ComponentProcessor_MembersInjector.injectRetainedValidationReports(instance, retainedValidationReportsProvider.get());
+
+        ComponentProcessor_MembersInjector.injectMetrics(instance, processingMetricsProvider.get());
         return instance;
     }
 
@@ -1441,7 +1485,7 @@ final class DaggerComponentProcessor_ProcessorComponent implements ComponentProc
             this.factoryProvider29 = SetFactoryCreationExpression_Factory_Impl.create(setFactoryCreationExpressionProvider);
 
             this.unscopedFrameworkInstanceCreationExpressionFactoryProvider = UnscopedFrameworkInstanceCreationExpressionFactory_Factory.create(componentImplementationProvider, componentRequirementExpressionsProvider, factoryProvider20, factoryProvider21, factoryProvider22, factoryProvider23, factoryProvider24, factoryProvider25, factoryProvider26, factoryProvider27, factoryProvider28, factoryProvider29);
-            this.legacyBindingRepresentationProvider = LegacyBindingRepresentation_Factory.create(bindingGraphProvider, componentImplementationProvider, factoryProvider, factoryProvider2, factoryProvider3, factoryProvider4, factoryProvider5, factoryProvider6, factoryProvider7, factoryProvider8, factoryProvider9, unscopedDirectInstanceRequestRepresentationFactoryProvider, factoryProvider19, unscopedFrameworkInstanceCreationExpressionFactoryProvider, processorComponent.daggerTypesProvider);
+            this.legacyBindingRepresentationProvider = LegacyBindingRepresentation_Factory.create(bindingGraphProvider, componentImplementationProvider, factoryProvider, factoryProvider2, factoryProvider3, factoryProvider4, factoryProvider5, factoryProvider6, factoryProvider7, factoryProvider8, factoryProvider9, unscopedDirectInstanceRequestRepresentationFactoryProvider, factoryProvider19, unscopedFrameworkInstanceCreationExpressionFactoryProvider, processorComponent.daggerTypesProvider, processorComponent.bindCompilerOptionsProvider);
             this.factoryProvider30 = LegacyBindingRepresentation_Factory_Impl.create(legacyBindingRepresentationProvider);
 
             DelegateFactory.setDelegate(componentRequestRepresentationsProvider,
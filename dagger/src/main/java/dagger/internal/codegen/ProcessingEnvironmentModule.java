@@ -16,6 +16,7 @@ import dagger.Module;
 import dagger.Provides;
 import dagger.Reusable;
 import dagger.internal.codegen.base.ClearableCache;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions;
 import dagger.internal.codegen.compileroption.ProcessingOptions;
@@ -78,4 +79,14 @@ interface ProcessingEnvironmentModule {
     @Binds
     @IntoSet
     ClearableCache daggerElementAsClearableCache(DaggerElements elements);
+
+    @Provides
+    @Singleton
+    static ProcessingMetrics processingMetrics(CompilerOptions compilerOptions, XMessager messager) {
+        return new ProcessingMetrics(compilerOptions.processorMetricsDirectory(), messager);
+    }
+
+    @Binds
+    @IntoSet
+    ClearableCache processingMetricsAsClearableCache(ProcessingMetrics metrics);
 }
@@ -0,0 +1,48 @@
+package dagger.internal.codegen;
+
+
+import javax.annotation.Generated;
+import javax.inject.Provider;
+
+import androidx.room.compiler.processing.XMessager;
+import dagger.internal.DaggerGenerated;
+import dagger.internal.Factory;
+import dagger.internal.Preconditions;
+import dagger.internal.codegen.base.ProcessingMetrics;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+
+@DaggerGenerated
+@Generated(
+        value = "dagger.internal.codegen.ComponentProcessor",
+        comments = "https://dagger.dev"
+)
+@SuppressWarnings({
+        "unchecked",
+        "rawtypes"
+})
+public final class ProcessingEnvironmentModule_ProcessingMetricsFactory implements Factory<ProcessingMetrics> {
+    private final Provider<CompilerOptions> compilerOptionsProvider;
+
+    private final Provider<XMessager> messagerProvider;
+
+    public ProcessingEnvironmentModule_ProcessingMetricsFactory(
+            Provider<CompilerOptions> compilerOptionsProvider, Provider<XMessager> messagerProvider) {
+        this.compilerOptionsProvider = compilerOptionsProvider;
+        this.messagerProvider = messagerProvider;
+    }
+
+    @Override
+    public ProcessingMetrics get() {
+        return processingMetrics(compilerOptionsProvider.get(), messagerProvider.get());
+    }
+
+    public static ProcessingEnvironmentModule_ProcessingMetricsFactory create(
+            Provider<CompilerOptions> compilerOptionsProvider, Provider<XMessager> messagerProvider) {
+        return new ProcessingEnvironmentModule_ProcessingMetricsFactory(compilerOptionsProvider, messagerProvider);
+    }
+
+    public static ProcessingMetrics processingMetrics(CompilerOptions compilerOptions,
+                                                      XMessager messager) {
+        return Preconditions.checkNotNullFromProvides(ProcessingEnvironmentModule.processingMetrics(compilerOptions, messager));
+    }
+}
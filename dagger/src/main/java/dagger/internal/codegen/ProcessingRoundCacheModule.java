@@ -19,10 +19,12 @@ package dagger.internal.codegen;
 import dagger.Binds;
 import dagger.Module;
 import dagger.internal.codegen.base.ClearableCache;
+import dagger.internal.codegen.base.SourceFileWriter;
 import dagger.internal.codegen.binding.BindingGraphFactory;
 import dagger.internal.codegen.binding.ModuleDescriptor;
 import dagger.internal.codegen.kotlin.KotlinMetadataFactory;
 import dagger.internal.codegen.validation.AnyBindingMethodValidator;
+import dagger.internal.codegen.validation.BindingGraphValidationCache;
 import dagger.internal.codegen.validation.ComponentCreatorValidator;
 import dagger.internal.codegen.validation.ComponentValidator;
 import dagger.internal.codegen.validation.InjectValidator;
@@ -61,4 +63,12 @@ interface ProcessingRoundCacheModule {
     @Binds
     @IntoSet
     ClearableCache kotlinMetadata(KotlinMetadataFactory cache);
+
+    @Binds
+    @IntoSet
+    ClearableCache bindingGraphValidationCache(BindingGraphValidationCache cache);
+
+    @Binds
+    @IntoSet
+    ClearableCache sourceFileWriter(SourceFileWriter cache);
 }
@@ -0,0 +1,256 @@
+package dagger.internal.codegen.base;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.tools.Diagnostic;
+
+import androidx.room.compiler.processing.XElement;
+import androidx.room.compiler.processing.XMessager;
+import androidx.room.compiler.processing.XProcessingEnv;
+import androidx.room.compiler.processing.XProcessingStep;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Records where annotation processing time goes: the wall time, the bytes allocated by the
+ * processing thread and any counters, for each phase (processing step, binding resolution, plugin,
+ * generator) and subject (component, plugin name, ...).
+ *
+ * <p>When enabled with {@code -Adagger.processorMetricsDir=<dir>}, a report of each round is written
+ * to that directory when the round ends, as {@code dagger-metrics-<start>-round-<n>.json} and {@code
+ * .csv}. Times and allocations are inclusive of nested phases: a component's resolution is also
+ * part of the time of {@code ComponentProcessingStep}. When disabled, {@link #start} returns a span
+ * that does nothing and nothing is recorded.
+ * <p>
+ * 注解处理各阶段的耗时、内存分配及计数统计，每轮结束时输出JSON/CSV报告。
+ */
+public final class ProcessingMetrics implements ClearableCache {
+    private static final Span NO_OP_SPAN = new Span(null, null);
+
+    private final Optional<File> reportDirectory;
+    private final XMessager messager;
+    private final long startMillis = System.currentTimeMillis();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final List<Runnable> beforeReport = new ArrayList<>();
+    private int round;
+
+    public ProcessingMetrics(Optional<String> reportDirectory, XMessager messager) {
+        this.reportDirectory = reportDirectory.map(File::new);
+        this.messager = messager;
+    }
+
+    public boolean isEnabled() {
+        return reportDirectory.isPresent();
+    }
+
+    /**
+     * Starts timing {@code subject} in {@code phase}. The time is recorded when the returned span is
+     * {@linkplain Span#close() closed}.
+     */
+    public Span start(String phase, String subject) {
+        return isEnabled() ? new Span(this, entry(phase, subject)) : NO_OP_SPAN;
+    }
+
+    /** Adds {@code delta} to the counter named {@code counter} of {@code subject} in {@code phase}. */
+    public void count(String phase, String subject, String counter, long delta) {
+        if (isEnabled()) {
+            entry(phase, subject).counters.merge(counter, delta, Long::sum);
+        }
+    }
+
+    /**
+     * Runs {@code flush} before each round's report is written, so that counters that are too hot to
+     * {@linkplain #count count} one at a time can be added once per round.
+     */
+    public void beforeReport(Runnable flush) {
+        if (isEnabled()) {
+            beforeReport.add(flush);
+        }
+    }
+
+    private Entry entry(String phase, String subject) {
+        return entries.computeIfAbsent(phase + '\0' + subject, unused -> new Entry(phase, subject));
+    }
+
+    private long allocatedBytes() {
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+            if (sunThreads.isThreadAllocatedMemorySupported()
+                    && sunThreads.isThreadAllocatedMemoryEnabled()) {
+                return sunThreads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return 0;
+    }
+
+    /** Returns {@code step}, timing each of its calls if metrics are enabled. */
+    public XProcessingStep instrument(XProcessingStep step) {
+        if (!isEnabled()) {
+            return step;
+        }
+        String subject = step.getClass().getSimpleName();
+        return new XProcessingStep() {
+            @Override
+            public Set<String> annotations() {
+                return step.annotations();
+            }
+
+            @Override
+            public Set<XElement> process(
+                    XProcessingEnv env, Map<String, ? extends Set<? extends XElement>> elementsByAnnotation) {
+                count("step", subject, "elements",
+                        elementsByAnnotation.values().stream().mapToInt(Set::size).sum());
+                Set<XElement> deferred;
+                try (Span span = start("step", subject)) {
+                    deferred = step.process(env, elementsByAnnotation);
+                }
+                count("step", subject, "deferred", deferred.size());
+                return deferred;
+            }
+        };
+    }
+
+    /** Writes the report of the round that just ended, if enabled, and starts a new one. */
+    @Override
+    public void clearCache() {
+        round++;
+        beforeReport.forEach(Runnable::run);
+        if (!isEnabled() || entries.isEmpty()) {
+            return;
+        }
+        File directory = reportDirectory.get();
+        String baseName = String.format("dagger-metrics-%d-round-%d", startMillis, round);
+        try {
+            Files.createDirectories(directory.toPath());
+            try (Writer json = Files.newBufferedWriter(new File(directory, baseName + ".json").toPath(), UTF_8)) {
+                writeJson(json);
+            }
+            try (Writer csv = Files.newBufferedWriter(new File(directory, baseName + ".csv").toPath(), UTF_8)) {
+                writeCsv(csv);
+            }
+        } catch (IOException e) {
+            messager.printMessage(
+                    Diagnostic.Kind.WARNING,
+                    "Could not write Dagger processor metrics to " + directory + ": " + e.getMessage());
+        }
+        entries.clear();
+    }
+
+    private void writeJson(Writer writer) throws IOException {
+        writer.append("{\"round\":").append(String.valueOf(round)).append(",\"entries\":[");
+        boolean first = true;
+        for (Entry entry : entries.values()) {
+            writer.append(first ? "\n" : ",\n");
+            first = false;
+            writer.append("{\"phase\":").append(jsonString(entry.phase))
+                    .append(",\"subject\":").append(jsonString(entry.subject))
+                    .append(",\"invocations\":").append(String.valueOf(entry.invocations))
+                    .append(",\"wallNanos\":").append(String.valueOf(entry.wallNanos))
+                    .append(",\"allocatedBytes\":").append(String.valueOf(entry.allocatedBytes))
+                    .append(",\"counters\":{");
+            boolean firstCounter = true;
+            for (Map.Entry<String, Long> counter : entry.counters.entrySet()) {
+                writer.append(firstCounter ? "" : ",")
+                        .append(jsonString(counter.getKey()))
+                        .append(':')
+                        .append(String.valueOf(counter.getValue()));
+                firstCounter = false;
+            }
+            writer.append("}}");
+        }
+        writer.append("\n]}\n");
+    }
+
+    /** One row per metric, so that counters do not need columns of their own. */
+    private void writeCsv(Writer writer) throws IOException {
+        writer.append("round,phase,subject,metric,value\n");
+        for (Entry entry : entries.values()) {
+            writeCsvRow(writer, entry, "invocations", entry.invocations);
+            writeCsvRow(writer, entry, "wallNanos", entry.wallNanos);
+            writeCsvRow(writer, entry, "allocatedBytes", entry.allocatedBytes);
+            for (Map.Entry<String, Long> counter : entry.counters.entrySet()) {
+                writeCsvRow(writer, entry, counter.getKey(), counter.getValue());
+            }
+        }
+    }
+
+    private void writeCsvRow(Writer writer, Entry entry, String metric, long value)
+            throws IOException {
+        writer.append(String.valueOf(round)).append(',')
+                .append(csvString(entry.phase)).append(',')
+                .append(csvString(entry.subject)).append(',')
+                .append(csvString(metric)).append(',')
+                .append(String.valueOf(value)).append('\n');
+    }
+
+    private static String jsonString(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private static String csvString(String value) {
+        return value.indexOf(',') < 0 && value.indexOf('"') < 0
+                ? value
+                : '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static final class Entry {
+        final String phase;
+        final String subject;
+        final Map<String, Long> counters = new LinkedHashMap<>();
+        long invocations;
+        long wallNanos;
+        long allocatedBytes;
+
+        Entry(String phase, String subject) {
+            this.phase = phase;
+            this.subject = subject;
+        }
+    }
+
+    /** A timed phase, recorded when closed. */
+    public static final class Span implements AutoCloseable {
+        private final ProcessingMetrics metrics;
+        private final Entry entry;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+
+        private Span(ProcessingMetrics metrics, Entry entry) {
+            this.metrics = metrics;
+            this.entry = entry;
+            this.startNanos = metrics == null ? 0 : System.nanoTime();
+            this.startAllocatedBytes = metrics == null ? 0 : metrics.allocatedBytes();
+        }
+
+        @Override
+        public void close() {
+            if (metrics == null) {
+                return;
+            }
+            entry.invocations++;
+            entry.wallNanos += System.nanoTime() - startNanos;
+            entry.allocatedBytes += metrics.allocatedBytes() - startAllocatedBytes;
+        }
+    }
+}
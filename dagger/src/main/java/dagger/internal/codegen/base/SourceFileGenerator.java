@@ -24,6 +24,7 @@ import dagger.internal.codegen.langmodel.DaggerElements;
 
 import static com.google.auto.common.GeneratedAnnotations.generatedAnnotation;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static dagger.internal.codegen.extension.DaggerStreams.toImmutableList;
 import static dagger.internal.codegen.javapoet.AnnotationSpecs.Suppression.RAWTYPES;
 import static dagger.internal.codegen.javapoet.AnnotationSpecs.Suppression.UNCHECKED;
 
@@ -43,15 +44,18 @@ public abstract class SourceFileGenerator<T> {
     private final XFiler filer;
     private final DaggerElements elements;
     private final SourceVersion sourceVersion;
+    private final ProcessingMetrics metrics;
 
-    public SourceFileGenerator(XFiler filer, DaggerElements elements, SourceVersion sourceVersion) {
+    public SourceFileGenerator(
+            XFiler filer, DaggerElements elements, SourceVersion sourceVersion, ProcessingMetrics metrics) {
         this.filer = checkNotNull(filer);
         this.elements = checkNotNull(elements);
         this.sourceVersion = checkNotNull(sourceVersion);
+        this.metrics = checkNotNull(metrics);
     }
 
     public SourceFileGenerator(SourceFileGenerator<T> delegate) {
-        this(delegate.filer, delegate.elements, delegate.sourceVersion);
+        this(delegate.filer, delegate.elements, delegate.sourceVersion, delegate.metrics);
     }
 
 
@@ -78,20 +82,57 @@ public abstract class SourceFileGenerator<T> {
 
     /**
      * Generates a source file to be compiled for {@code T}.
+     *
+     * <p>The time is recorded in the {@code generate} phase of the processor's metrics under the
+     * generator's name, with the number of files written as {@code filesWritten}.
      */
     public void generate(T input) throws SourceFileGenerationException {
-        for (TypeSpec.Builder type : topLevelTypes(input)) {
-            try {
-                buildJavaFile(input, type).writeTo(XConverters.toJavac(filer));
-            } catch (Exception e) {
-                // if the code above threw a SFGE, use that
-                Throwables.propagateIfPossible(e, SourceFileGenerationException.class);
-                // otherwise, throw a new one
-                throw new SourceFileGenerationException(Optional.empty(), e, originatingElement(input));
+        try (ProcessingMetrics.Span span = metrics.start("generate", metricsSubject())) {
+            for (TypeSpec.Builder type : topLevelTypes(input)) {
+                try {
+                    buildJavaFile(input, type).writeTo(XConverters.toJavac(filer));
+                } catch (Exception e) {
+                    // if the code above threw a SFGE, use that
+                    Throwables.propagateIfPossible(e, SourceFileGenerationException.class);
+                    // otherwise, throw a new one
+                    throw new SourceFileGenerationException(Optional.empty(), e, originatingElement(input));
+                }
+                metrics.count("generate", metricsSubject(), "filesWritten", 1);
             }
         }
     }
 
+    /**
+     * Builds the source files for {@code input} on this thread and adds them to {@code batch}, which
+     * renders them on its writer's threads while the next ones are built, and runs {@code onWritten}
+     * once they have all been written. A failure is recorded by the batch and thrown by its
+     * {@linkplain SourceFileWriter.Batch#flush() flush}.
+     *
+     * <p>Only the time spent building the files is recorded in the {@code generate} phase; rendering
+     * them is not on this thread. {@code filesWritten} is counted once they have been written.
+     */
+    public void generate(T input, SourceFileWriter.Batch batch, Runnable onWritten) {
+        try (ProcessingMetrics.Span span = metrics.start("generate", metricsSubject())) {
+            ImmutableList<JavaFile> javaFiles =
+                    topLevelTypes(input).stream()
+                            .map(type -> buildJavaFile(input, type))
+                            .collect(toImmutableList());
+            batch.add(
+                    javaFiles,
+                    originatingElement(input),
+                    () -> {
+                        metrics.count("generate", metricsSubject(), "filesWritten", javaFiles.size());
+                        onWritten.run();
+                    });
+        } catch (RuntimeException e) {
+            batch.fail(new SourceFileGenerationException(Optional.empty(), e, originatingElement(input)));
+        }
+    }
+
+    private String metricsSubject() {
+        return getClass().getSimpleName();
+    }
+
     private JavaFile buildJavaFile(T input, TypeSpec.Builder typeSpecBuilder) {
         typeSpecBuilder.addOriginatingElement(originatingElement(input));//设置注解处理器的源元素
         typeSpecBuilder.addAnnotation(DaggerGenerated.class);
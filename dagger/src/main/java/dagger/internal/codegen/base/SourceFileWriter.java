@@ -0,0 +1,259 @@
+package dagger.internal.codegen.base;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.googlejavaformat.java.Formatter;
+import com.google.googlejavaformat.java.FormatterException;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.processing.Filer;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.lang.model.element.Element;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import androidx.room.compiler.processing.XProcessingEnv;
+import androidx.room.compiler.processing.compat.XConverters;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
+import static dagger.internal.codegen.extension.DaggerStreams.toImmutableList;
+
+/**
+ * Writes generated {@link JavaFile}s, rendering and formatting their source on a pool of threads
+ * when {@code -Adagger.parallelSourceWriting=ENABLED}.
+ *
+ * <p>The {@link JavaFile}s are built on the processing thread, since javac's elements and types are
+ * not thread-safe. Each is then rendered and, unless disabled, formatted with google-java-format on
+ * the pool, whose {@link Formatter} is thread-safe. The files are created and written through the
+ * processing environment's own filer on the processing thread, in the order they were {@linkplain
+ * Batch#add added}, so the output is the same as when the processor's formatting filer writes them
+ * one at a time, including the note about a file that cannot be formatted. At most {@value
+ * #INPUTS_IN_FLIGHT_PER_THREAD} inputs' files per thread are rendered ahead of the one being written,
+ * which bounds the memory held by rendered sources.
+ *
+ * <p>The threads are started by the first batch of a round and shut down when the round ends, so
+ * none of them outlive processing.
+ * <p>
+ * 在线程池中渲染并格式化生成的源码，再按原顺序在处理线程上写入，输出与串行写入一致。
+ */
+@Singleton
+public final class SourceFileWriter implements ClearableCache {
+    private static final int INPUTS_IN_FLIGHT_PER_THREAD = 4;
+
+    private final XProcessingEnv processingEnv;
+    private final CompilerOptions compilerOptions;
+    private final Formatter formatter = new Formatter();
+    private ExecutorService executor;
+
+    @Inject
+    SourceFileWriter(XProcessingEnv processingEnv, CompilerOptions compilerOptions) {
+        this.processingEnv = processingEnv;
+        this.compilerOptions = compilerOptions;
+    }
+
+    /** Returns {@code true} if files are rendered concurrently. */
+    public boolean isConcurrent() {
+        return compilerOptions.parallelSourceWriting();
+    }
+
+    /** Returns a new batch of files to write, in order. */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    @Override
+    public void clearCache() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Files that are rendered as soon as they are added and written in the order they were added. A
+     * file that fails does not stop the other inputs' files from being written; the first failure is
+     * thrown by {@link #flush()}. Closing the batch abandons the files that have not been written.
+     */
+    public final class Batch implements AutoCloseable {
+        private final Deque<PendingFiles> pending = new ArrayDeque<>();
+        private SourceFileGenerationException failure;
+
+        /**
+         * Starts rendering the files of one input, first writing the oldest input's files if too many
+         * are pending. {@code onWritten} is run once all of them have been written.
+         */
+        void add(ImmutableList<JavaFile> javaFiles, Element originatingElement, Runnable onWritten) {
+            if (pending.size() >= threads() * INPUTS_IN_FLIGHT_PER_THREAD) {
+                writeNext();
+            }
+            boolean format =
+                    compilerOptions.formatGeneratedSource() && !compilerOptions.headerCompilation();
+            pending.add(
+                    new PendingFiles(
+                            javaFiles,
+                            originatingElement,
+                            onWritten,
+                            javaFiles.stream()
+                                    .map(javaFile -> executor().submit(() -> render(javaFile, format)))
+                                    .collect(toImmutableList())));
+        }
+
+        /** Records {@code failure}, to be thrown by {@link #flush()} if it is the first. */
+        void fail(SourceFileGenerationException failure) {
+            if (this.failure == null) {
+                this.failure = failure;
+            }
+        }
+
+        /** Returns {@code true} if a file of this batch has failed. */
+        public boolean failed() {
+            return failure != null;
+        }
+
+        /** Writes every pending file, and then throws the first failure, if any. */
+        public void flush() throws SourceFileGenerationException {
+            while (!pending.isEmpty()) {
+                writeNext();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        /**
+         * Writes the files of the oldest input, stopping at the first that fails, as {@link
+         * SourceFileGenerator#generate(Object)} does.
+         */
+        private void writeNext() {
+            PendingFiles files = pending.remove();
+            for (int i = 0; i < files.javaFiles.size(); i++) {
+                JavaFile javaFile = files.javaFiles.get(i);
+                try {
+                    write(javaFile, getUninterruptibly(files.sources.get(i)));
+                } catch (ExecutionException e) {
+                    fail(files.failure(javaFile, e.getCause()));
+                    return;
+                } catch (IOException | RuntimeException e) {
+                    fail(files.failure(javaFile, e));
+                    return;
+                }
+            }
+            files.onWritten.run();
+        }
+
+        @Override
+        public void close() {
+            pending.forEach(files -> files.sources.forEach(source -> source.cancel(true)));
+            pending.clear();
+        }
+    }
+
+    private static final class PendingFiles {
+        final ImmutableList<JavaFile> javaFiles;
+        final Element originatingElement;
+        final Runnable onWritten;
+        final ImmutableList<Future<RenderedSource>> sources;
+
+        PendingFiles(
+                ImmutableList<JavaFile> javaFiles,
+                Element originatingElement,
+                Runnable onWritten,
+                ImmutableList<Future<RenderedSource>> sources) {
+            this.javaFiles = javaFiles;
+            this.originatingElement = originatingElement;
+            this.onWritten = onWritten;
+            this.sources = sources;
+        }
+
+        SourceFileGenerationException failure(JavaFile javaFile, Throwable cause) {
+            return new SourceFileGenerationException(
+                    Optional.of(ClassName.get(javaFile.packageName, javaFile.typeSpec.name)),
+                    cause,
+                    originatingElement);
+        }
+    }
+
+    /** The source of a file, and whether it could be formatted if it was to be. */
+    private static final class RenderedSource {
+        final String source;
+        final boolean formattingFailed;
+
+        RenderedSource(String source, boolean formattingFailed) {
+            this.source = source;
+            this.formattingFailed = formattingFailed;
+        }
+    }
+
+    /** Renders {@code javaFile} and formats it, on a thread of the pool. */
+    private RenderedSource render(JavaFile javaFile, boolean format) {
+        String source = javaFile.toString();
+        if (!format) {
+            return new RenderedSource(source, false);
+        }
+        try {
+            return new RenderedSource(formatter.formatSource(source), false);
+        } catch (FormatterException e) {
+            return new RenderedSource(source, true);
+        }
+    }
+
+    /**
+     * Writes {@code source} to a new source file of the processing environment's filer, as {@link
+     * JavaFile#writeTo} through google-java-format's {@code FormattingFiler} would.
+     */
+    private void write(JavaFile javaFile, RenderedSource source) throws IOException {
+        String fileName =
+                javaFile.packageName.isEmpty()
+                        ? javaFile.typeSpec.name
+                        : javaFile.packageName + "." + javaFile.typeSpec.name;
+        Filer filer = XConverters.toJavac(processingEnv.getFiler());
+        JavaFileObject sourceFile =
+                filer.createSourceFile(
+                        fileName, javaFile.typeSpec.originatingElements.toArray(new Element[0]));
+        if (source.formattingFailed) {
+            processingEnv.getMessager()
+                    .printMessage(Diagnostic.Kind.NOTE, "Error formatting " + sourceFile.getName());
+        }
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(source.source);
+        } catch (IOException e) {
+            try {
+                sourceFile.delete();
+            } catch (Exception ignored) {
+                // The write failure is the one to report.
+            }
+            throw e;
+        }
+    }
+
+    private int threads() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /** Returns the threads that render the sources, starting them if this round has none yet. */
+    private ExecutorService executor() {
+        if (executor == null) {
+            executor =
+                    Executors.newFixedThreadPool(
+                            threads(),
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("dagger-source-writer-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,48 @@
+package dagger.internal.codegen.base;
+
+
+import javax.annotation.Generated;
+import javax.inject.Provider;
+
+import androidx.room.compiler.processing.XProcessingEnv;
+import dagger.internal.DaggerGenerated;
+import dagger.internal.Factory;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+
+@DaggerGenerated
+@Generated(
+        value = "dagger.internal.codegen.ComponentProcessor",
+        comments = "https://dagger.dev"
+)
+@SuppressWarnings({
+        "unchecked",
+        "rawtypes"
+})
+public final class SourceFileWriter_Factory implements Factory<SourceFileWriter> {
+    private final Provider<XProcessingEnv> processingEnvProvider;
+
+    private final Provider<CompilerOptions> compilerOptionsProvider;
+
+    public SourceFileWriter_Factory(
+            Provider<XProcessingEnv> processingEnvProvider,
+            Provider<CompilerOptions> compilerOptionsProvider) {
+        this.processingEnvProvider = processingEnvProvider;
+        this.compilerOptionsProvider = compilerOptionsProvider;
+    }
+
+    @Override
+    public SourceFileWriter get() {
+        return newInstance(processingEnvProvider.get(), compilerOptionsProvider.get());
+    }
+
+    public static SourceFileWriter_Factory create(
+            Provider<XProcessingEnv> processingEnvProvider,
+            Provider<CompilerOptions> compilerOptionsProvider) {
+        return new SourceFileWriter_Factory(processingEnvProvider, compilerOptionsProvider);
+    }
+
+    public static SourceFileWriter newInstance(XProcessingEnv processingEnv,
+                                               CompilerOptions compilerOptions) {
+        return new SourceFileWriter(processingEnv, compilerOptions);
+    }
+}
@@ -4,15 +4,13 @@ package dagger.internal.codegen.base;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import com.google.common.graph.SuccessorsFunction;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkState;
 import static java.lang.Math.min;
@@ -33,66 +31,133 @@ public final class TarjanSCCs {
         return new TarjanSCC<>(nodes, successorsFunction).compute();
     }
 
+    /**
+     * Works on dense int ids rather than on the nodes themselves: each node is hashed once, when it
+     * is first seen, and the index, low-link and stack state live in primitive arrays. The depth-first
+     * search keeps its own stack of successor iterators, so a deep chain of dependencies cannot
+     * overflow the thread's stack. The nodes are visited in the same order as the recursive
+     * formulation, so the components come out in the same order.
+     * <p>
+     * 非递归实现，节点映射为连续int id，状态保存在基本类型数组中，避免深依赖链导致栈溢出。
+     */
     private static class TarjanSCC<NodeT> {
         private final ImmutableCollection<NodeT> nodes;
         private final SuccessorsFunction<NodeT> successorsFunction;
-        private final Deque<NodeT> stack;
-        private final Set<NodeT> onStack;
-        private final Map<NodeT, Integer> indexes;
-        private final Map<NodeT, Integer> lowLinks;
+        private final Map<NodeT, Integer> ids;
+        private final List<NodeT> nodesById;
+        // The index of each node, plus one, so that 0 means "not yet visited".
+        private int[] indexes;
+        private int[] lowLinks;
+        private boolean[] onStack;
+        private int nextIndex;
+        // The nodes of the SCCs that are still being built.
+        private int[] stack;
+        private int stackSize;
+        // The depth-first search path, and where each node on it is in its successors.
+        private int[] path;
+        private Iterator<? extends NodeT>[] successors;
+        private int pathSize;
         private final List<ImmutableSet<NodeT>> stronglyConnectedComponents = new ArrayList<>();
 
+        @SuppressWarnings({"rawtypes", "unchecked"}) // generic array creation
         TarjanSCC(ImmutableCollection<NodeT> nodes, SuccessorsFunction<NodeT> successorsFunction) {
             this.nodes = nodes;
             this.successorsFunction = successorsFunction;
-            this.stack = new ArrayDeque<>(nodes.size());
-            this.onStack = Sets.newHashSetWithExpectedSize(nodes.size());
-            this.indexes = Maps.newHashMapWithExpectedSize(nodes.size());
-            this.lowLinks = Maps.newHashMapWithExpectedSize(nodes.size());
+            int capacity = Math.max(nodes.size(), 16);
+            this.ids = Maps.newHashMapWithExpectedSize(capacity);
+            this.nodesById = new ArrayList<>(capacity);
+            this.indexes = new int[capacity];
+            this.lowLinks = new int[capacity];
+            this.onStack = new boolean[capacity];
+            this.stack = new int[capacity];
+            this.path = new int[capacity];
+            this.successors = new Iterator[capacity];
         }
 
         private ImmutableSet<ImmutableSet<NodeT>> compute() {
-            checkState(indexes.isEmpty(), "TarjanSCC#compute() can only be called once per instance!");
+            checkState(nextIndex == 0, "TarjanSCC#compute() can only be called once per instance!");
             for (NodeT node : nodes) {
-                if (!indexes.containsKey(node)) {
-                    stronglyConnect(node);
+                int id = id(node);
+                if (indexes[id] == 0) {
+                    stronglyConnect(id);
                 }
             }
             return ImmutableSet.copyOf(stronglyConnectedComponents);
         }
 
-        private void stronglyConnect(NodeT node) {
-            // Set the index and lowLink for node to the smallest unused index and add it to the stack
-            lowLinks.put(node, indexes.size());
-            indexes.put(node, indexes.size());
-            stack.push(node);
-            onStack.add(node);
+        /** Returns the id of {@code node}, assigning the next one if it has not been seen before. */
+        private int id(NodeT node) {
+            Integer id = ids.get(node);
+            if (id != null) {
+                return id;
+            }
+            int newId = nodesById.size();
+            ids.put(node, newId);
+            nodesById.add(node);
+            if (newId == indexes.length) {
+                // Successors need not be in nodes, so the graph can be larger than expected.
+                int capacity = newId * 2;
+                indexes = Arrays.copyOf(indexes, capacity);
+                lowLinks = Arrays.copyOf(lowLinks, capacity);
+                onStack = Arrays.copyOf(onStack, capacity);
+                stack = Arrays.copyOf(stack, capacity);
+                path = Arrays.copyOf(path, capacity);
+                successors = Arrays.copyOf(successors, capacity);
+            }
+            return newId;
+        }
 
-            for (NodeT successor : successorsFunction.successors(node)) {
-                if (!indexes.containsKey(successor)) {
-                    // Successor has not been processed.
-                    stronglyConnect(successor);
-                    lowLinks.put(node, min(lowLinks.get(node), lowLinks.get(successor)));
-                } else if (onStack.contains(successor)) {
-                    // Successor is on the stack and hence in the current SCC.
-                    lowLinks.put(node, min(lowLinks.get(node), indexes.get(successor)));
-                } else {
-                    // Successor is not on the stack and hence in an already processed SCC, so ignore.
+        private void stronglyConnect(int root) {
+            visit(root);
+            while (pathSize > 0) {
+                int node = path[pathSize - 1];
+                Iterator<? extends NodeT> nodeSuccessors = successors[pathSize - 1];
+                if (nodeSuccessors.hasNext()) {
+                    int successor = id(nodeSuccessors.next());
+                    if (indexes[successor] == 0) {
+                        // Successor has not been processed.
+                        visit(successor);
+                    } else if (onStack[successor]) {
+                        // Successor is on the stack and hence in the current SCC.
+                        lowLinks[node] = min(lowLinks[node], indexes[successor]);
+                    } else {
+                        // Successor is not on the stack and hence in an already processed SCC, so ignore.
+                    }
+                    continue;
                 }
-            }
 
-            // If node is the root of the SCC, pop the stack until reaching the root to get all SCC nodes.
-            if (lowLinks.get(node).equals(indexes.get(node))) {
-                ImmutableSet.Builder<NodeT> scc = ImmutableSet.builder();
-                NodeT currNode;
-                do {
-                    currNode = stack.pop();
-                    onStack.remove(currNode);
-                    scc.add(currNode);
-                } while (!node.equals(currNode));
-                stronglyConnectedComponents.add(scc.build());
+                // All successors are done: return from node to its parent on the path.
+                successors[--pathSize] = null;
+                if (lowLinks[node] == indexes[node]) {
+                    // Node is the root of the SCC, so pop the stack until reaching it to get all SCC nodes.
+                    ImmutableSet.Builder<NodeT> scc = ImmutableSet.builder();
+                    int currNode;
+                    do {
+                        currNode = stack[--stackSize];
+                        onStack[currNode] = false;
+                        scc.add(nodesById.get(currNode));
+                    } while (currNode != node);
+                    stronglyConnectedComponents.add(scc.build());
+                }
+                if (pathSize > 0) {
+                    int parent = path[pathSize - 1];
+                    lowLinks[parent] = min(lowLinks[parent], lowLinks[node]);
+                }
             }
         }
+
+        /**
+         * Sets the index and lowLink for node to the smallest unused index, adds it to the stack and
+         * descends into it.
+         */
+        private void visit(int node) {
+            indexes[node] = lowLinks[node] = ++nextIndex;
+            stack[stackSize++] = node;
+            onStack[node] = true;
+            path[pathSize] = node;
+            successors[pathSize] = successorsFunction.successors(nodesById.get(node)).iterator();
+            pathSize++;
+        }
     }
 
     private TarjanSCCs() {}
@@ -76,6 +76,10 @@ public final class BindingGraphFactory implements ClearableCache {
     private final ModuleDescriptor.Factory moduleDescriptorFactory;
     private final BindingGraphConverter bindingGraphConverter;
     private final Map<Key, ImmutableSet<Key>> keysMatchingRequestCache = new HashMap<>();
+    // The component of the last full binding graph created in this round, and the lookups made by
+    // its root resolver, until createFromFullBindingGraph() re-uses them.
+    private ComponentDescriptor fullBindingGraphComponent;
+    private Map<Key, ResolvedBindings> fullBindingGraphLookups = ImmutableMap.of();
     private final CompilerOptions compilerOptions;
 
     @Inject
@@ -106,19 +110,57 @@ public final class BindingGraphFactory implements ClearableCache {
             ComponentDescriptor componentDescriptor,
             boolean createFullBindingGraph
     ) {
+        return create(componentDescriptor, createFullBindingGraph, ImmutableMap.of());
+    }
 
-        return bindingGraphConverter.convert(
+    /**
+     * Creates the binding graph of the component of {@code fullBindingGraph} that only includes the
+     * bindings reachable from an entry point, re-using the bindings looked up for the full binding
+     * graph in the root component.
+     *
+     * <p>{@code fullBindingGraph} must be the last full binding graph created by this factory, in the
+     * current processing round, so that nothing changed since its bindings were looked up; otherwise
+     * the graph is created from scratch. Either way the kept lookups are released.
+     */
+    public BindingGraph createFromFullBindingGraph(BindingGraph fullBindingGraph) {
+        ComponentDescriptor componentDescriptor = fullBindingGraph.componentDescriptor();
+        Map<Key, ResolvedBindings> reusableLookups =
+                componentDescriptor.equals(fullBindingGraphComponent)
+                        ? fullBindingGraphLookups
+                        : ImmutableMap.of();
+        fullBindingGraphComponent = null;
+        fullBindingGraphLookups = ImmutableMap.of();
+        return create(componentDescriptor, false, reusableLookups);
+    }
 
-                createLegacyBindingGraph(Optional.empty(),
+    private BindingGraph create(
+            ComponentDescriptor componentDescriptor,
+            boolean createFullBindingGraph,
+            Map<Key, ResolvedBindings> reusableLookups) {
+        // Only the root lookups of a full binding graph are ever re-used, so only those are recorded.
+        Optional<Map<Key, ResolvedBindings>> lookups =
+                createFullBindingGraph ? Optional.of(new HashMap<>()) : Optional.empty();
+        LegacyBindingGraph legacyBindingGraph =
+                createLegacyBindingGraph(
+                        Optional.empty(),
                         componentDescriptor,
-                        createFullBindingGraph),
-                createFullBindingGraph);
+                        createFullBindingGraph,
+                        reusableLookups,
+                        lookups);
+        if (createFullBindingGraph) {
+            // Only one is kept, so at most one component's lookups are held at a time.
+            fullBindingGraphComponent = componentDescriptor;
+            fullBindingGraphLookups = lookups.get();
+        }
+        return bindingGraphConverter.convert(legacyBindingGraph, createFullBindingGraph);
     }
 
     private LegacyBindingGraph createLegacyBindingGraph(
             Optional<Resolver> parentResolver,
             ComponentDescriptor componentDescriptor,
-            boolean createFullBindingGraph) {
+            boolean createFullBindingGraph,
+            Map<Key, ResolvedBindings> reusableLookups,
+            Optional<Map<Key, ResolvedBindings>> lookups) {
 
         //收集明确的绑定
         //1. 如果是component类，对该component类生成一个ProvisionBinding绑定,Key的type类型是component类
@@ -262,7 +304,9 @@ public final class BindingGraphFactory implements ClearableCache {
 
                         //K：BindingDeclaration对象中的Key
                         // V：component#modules和该item使用的注解modules#incluedes所有的module类使用BindsOptionalOf生成的OptionalBindingDeclaration
-                        indexBindingDeclarationsByKey(optionalsBuilder.build()));
+                        indexBindingDeclarationsByKey(optionalsBuilder.build()),
+                        reusableLookups,
+                        lookups);
 
         //component节点上非private、非static、abstract(接口除外)的有参数的方法集合
         componentDescriptor.entryPointMethods().stream()
@@ -301,7 +345,11 @@ public final class BindingGraphFactory implements ClearableCache {
             if (resolvedSubcomponents.add(subcomponent)) {
                 subgraphs.add(
                         createLegacyBindingGraph(
-                                Optional.of(requestResolver), subcomponent, createFullBindingGraph));
+                                Optional.of(requestResolver),
+                                subcomponent,
+                                createFullBindingGraph,
+                                ImmutableMap.of(),
+                                Optional.empty()));
             }
         }
 
@@ -373,6 +421,8 @@ public final class BindingGraphFactory implements ClearableCache {
     @Override
     public void clearCache() {
         keysMatchingRequestCache.clear();
+        fullBindingGraphComponent = null;
+        fullBindingGraphLookups = ImmutableMap.of();
     }
 
 
@@ -424,6 +474,10 @@ public final class BindingGraphFactory implements ClearableCache {
         final Map<Key, Boolean> keyDependsOnLocalBindingsCache = new HashMap<>();
         final Map<Binding, Boolean> bindingDependsOnLocalBindingsCache = new HashMap<>();
         final Queue<ComponentDescriptor> subcomponentsToResolve = new ArrayDeque<>();
+        // Lookups made for this component's full binding graph, and a record of the lookups made by
+        // this resolver, if they may be re-used.
+        final Map<Key, ResolvedBindings> reusableLookups;
+        final Optional<Map<Key, ResolvedBindings>> lookups;
 
         Resolver(
                 Optional<Resolver> parentResolver,
@@ -432,9 +486,13 @@ public final class BindingGraphFactory implements ClearableCache {
                 ImmutableSetMultimap<Key, MultibindingDeclaration> multibindingDeclarations,
                 ImmutableSetMultimap<Key, SubcomponentDeclaration> subcomponentDeclarations,
                 ImmutableSetMultimap<Key, DelegateDeclaration> delegateDeclarations,
-                ImmutableSetMultimap<Key, OptionalBindingDeclaration> optionalBindingDeclarations) {
+                ImmutableSetMultimap<Key, OptionalBindingDeclaration> optionalBindingDeclarations,
+                Map<Key, ResolvedBindings> reusableLookups,
+                Optional<Map<Key, ResolvedBindings>> lookups) {
 
             this.parentResolver = parentResolver;
+            this.reusableLookups = checkNotNull(reusableLookups);
+            this.lookups = checkNotNull(lookups);
             this.componentDescriptor = checkNotNull(componentDescriptor);
             this.explicitBindings = checkNotNull(explicitBindings);
             this.explicitBindingsSet = ImmutableSet.copyOf(explicitBindings.values());
@@ -473,6 +531,22 @@ public final class BindingGraphFactory implements ClearableCache {
          * </ul>
          */
         ResolvedBindings lookUpBindings(Key requestKey) {
+            ResolvedBindings resolvedBindings = reusableLookups.get(requestKey);
+            if (resolvedBindings != null) {
+                // Adding the subcomponents to resolve is the only effect a lookup has on the resolvers.
+                resolvedBindings.contributionBindings().stream()
+                        .filter(binding -> binding.kind().equals(SUBCOMPONENT_CREATOR))
+                        .forEach(binding -> addSubcomponentToOwningResolver((ProvisionBinding) binding));
+            } else {
+                resolvedBindings = lookUpBindingsUncached(requestKey);
+            }
+            if (lookups.isPresent()) {
+                lookups.get().put(requestKey, resolvedBindings);
+            }
+            return resolvedBindings;
+        }
+
+        private ResolvedBindings lookUpBindingsUncached(Key requestKey) {
 
             Set<ContributionBinding> bindings = new LinkedHashSet<>();
 
@@ -1,5 +1,7 @@
 package dagger.internal.codegen.compileroption;
 
+import java.util.Optional;
+
 import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
 
@@ -24,6 +26,16 @@ public abstract class CompilerOptions {
      */
     public abstract boolean fastInit(TypeElement element);
 
+    /**
+     * Returns true if scoped bindings in {@code component} should be memoized with {@link
+     * dagger.internal.LockFreeCheck} instead of {@link dagger.internal.DoubleCheck}.
+     *
+     * <p>{@code LockFreeCheck} claims initialization with a compare-and-set rather than a monitor,
+     * which avoids lock contention when many threads request the same scoped bindings at once.
+     * {@code @Reusable} bindings are unaffected and keep using {@link dagger.internal.SingleCheck}.
+     */
+    public abstract boolean lockFreeScopedProviders(TypeElement component);
+
     public abstract boolean formatGeneratedSource();
 
     public abstract boolean writeProducerNameInToken();
@@ -82,6 +94,41 @@ public abstract class CompilerOptions {
 
     public abstract boolean experimentalDaggerErrorMessages();
 
+    /**
+     * Returns {@code true} if a producer whose consumers have all cancelled their futures should be
+     * cancelled too, instead of running to completion for nobody.
+     */
+    public abstract boolean eagerProducerCancellation();
+
+    /**
+     * Returns {@code true} if a component with production components in its hierarchy should get a
+     * {@code <component>_ProducerDepths} class, for {@code PrioritizingExecutor}.
+     */
+    public abstract boolean producerDepths();
+
+    /**
+     * Returns {@code true} if, outside of fastInit mode, the {@code Provider} of an {@code @Inject}
+     * constructor or {@code @Provides} method with dependencies should call its instance expression
+     * instead of wrapping the binding's {@code Factory}, which needs a {@code Provider} of each
+     * dependency. Chains of unscoped bindings are then created by nested {@code new} expressions and
+     * private methods, and only need framework fields where a {@code Provider} or {@code Lazy} is
+     * requested.
+     */
+    public abstract boolean inlineUnscopedChains();
+
+    /**
+     * Returns {@code true} if the sources of the {@code @Inject} bindings' factories and members
+     * injectors should be rendered on a pool of threads. The files are still formatted and written
+     * one at a time by the filer, in the same order and with the same contents as without it.
+     */
+    public abstract boolean parallelSourceWriting();
+
+    /**
+     * Returns {@code true} if the validators should remember, across processing rounds, the elements
+     * from class files that they reported nothing about, instead of validating them again each round.
+     */
+    public abstract boolean retainClassFileValidationReports();
+
     /**
      * Returns the number of bindings allowed per shard.
      */
@@ -89,6 +136,30 @@ public abstract class CompilerOptions {
         return 3500;
     }
 
+    /**
+     * Returns the directory in which binding graphs that passed validation are remembered across
+     * builds, or empty if they should always be validated.
+     */
+    public Optional<String> bindingGraphCacheDirectory() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the maximum number of entries kept in {@link #bindingGraphCacheDirectory()} before
+     * the least recently used ones are evicted.
+     */
+    public int bindingGraphCacheMaxEntries() {
+        return 10_000;
+    }
+
+    /**
+     * Returns the directory to which a report of the time, allocations and counts of each processing
+     * phase is written at the end of every round, or empty if no metrics should be recorded.
+     */
+    public Optional<String> processorMetricsDirectory() {
+        return Optional.empty();
+    }
+
     /**
      * This option enables a fix to an issue where Dagger previously would erroneously allow
      * multibinding contributions in a component to have dependencies on child components. This will
@@ -1,6 +1,7 @@
 package dagger.internal.codegen.compileroption;
 
 import com.google.common.base.Ascii;
+import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -28,12 +29,18 @@ import static dagger.internal.codegen.compileroption.FeatureStatus.DISABLED;
 import static dagger.internal.codegen.compileroption.FeatureStatus.ENABLED;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.EXPERIMENTAL_AHEAD_OF_TIME_SUBCOMPONENTS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.EXPERIMENTAL_ANDROID_MODE;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.EAGER_PRODUCER_CANCELLATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.EXPERIMENTAL_DAGGER_ERROR_MESSAGES;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.FAST_INIT;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.FLOATING_BINDS_METHODS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.FORMAT_GENERATED_SOURCE;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.IGNORE_PRIVATE_AND_STATIC_INJECTION_FOR_COMPONENT;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.INLINE_UNSCOPED_CHAINS;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.LOCK_FREE_SCOPED_PROVIDERS;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.PARALLEL_SOURCE_WRITING;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.RETAIN_CLASS_FILE_VALIDATION_REPORTS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.PLUGINS_VISIT_FULL_BINDING_GRAPHS;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.PRODUCER_DEPTHS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.STRICT_MULTIBINDING_VALIDATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.VALIDATE_TRANSITIVE_COMPONENT_DEPENDENCIES;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.WARN_IF_INJECTION_FACTORY_NOT_GENERATED_UPSTREAM;
@@ -61,6 +68,16 @@ import static java.util.stream.Stream.concat;
 public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions {
     // EnumOption<T> doesn't support integer inputs so just doing this as a 1-off for now.
     private static final String KEYS_PER_COMPONENT_SHARD = "dagger.keysPerComponentShard";
+    // A comma-separated list of component names that opt into LOCK_FREE_SCOPED_PROVIDERS without
+    // enabling it for every component.
+    private static final String LOCK_FREE_SCOPED_PROVIDERS_COMPONENTS =
+            "dagger.lockFreeScopedProvidersComponents";
+    // A directory in which to remember binding graphs that passed validation, and its size bound.
+    private static final String BINDING_GRAPH_CACHE_DIR = "dagger.bindingGraphCacheDir";
+    private static final String BINDING_GRAPH_CACHE_MAX_ENTRIES =
+            "dagger.bindingGraphCacheMaxEntries";
+    // A directory to which a metrics report of each processing round is written.
+    private static final String PROCESSOR_METRICS_DIR = "dagger.processorMetricsDir";
 
     private final XMessager messager;
     private final Map<String, String> options;//存放支持的命令集合
@@ -96,6 +113,19 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
         return isEnabled(FAST_INIT);
     }
 
+    @Override
+    public boolean lockFreeScopedProviders(TypeElement component) {
+        if (isEnabled(LOCK_FREE_SCOPED_PROVIDERS)) {
+            return true;
+        }
+        String components = options.get(LOCK_FREE_SCOPED_PROVIDERS_COMPONENTS);
+        return components != null
+                && Splitter.on(',')
+                .trimResults()
+                .splitToList(components)
+                .contains(component.getQualifiedName().toString());
+    }
+
     @Override
     public boolean formatGeneratedSource() {
         return isEnabled(FORMAT_GENERATED_SOURCE);
@@ -166,6 +196,31 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
         return isEnabled(EXPERIMENTAL_DAGGER_ERROR_MESSAGES);
     }
 
+    @Override
+    public boolean eagerProducerCancellation() {
+        return isEnabled(EAGER_PRODUCER_CANCELLATION);
+    }
+
+    @Override
+    public boolean producerDepths() {
+        return isEnabled(PRODUCER_DEPTHS);
+    }
+
+    @Override
+    public boolean inlineUnscopedChains() {
+        return isEnabled(INLINE_UNSCOPED_CHAINS);
+    }
+
+    @Override
+    public boolean parallelSourceWriting() {
+        return isEnabled(PARALLEL_SOURCE_WRITING);
+    }
+
+    @Override
+    public boolean retainClassFileValidationReports() {
+        return isEnabled(RETAIN_CLASS_FILE_VALIDATION_REPORTS);
+    }
+
     @Override
     public boolean strictMultibindingValidation() {
         return isEnabled(STRICT_MULTIBINDING_VALIDATION);
@@ -183,6 +238,28 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
         return super.keysPerComponentShard(component);
     }
 
+    @Override
+    public Optional<String> bindingGraphCacheDirectory() {
+        return Optional.ofNullable(options.get(BINDING_GRAPH_CACHE_DIR))
+                .filter(directory -> !directory.trim().isEmpty());
+    }
+
+    @Override
+    public int bindingGraphCacheMaxEntries() {
+        if (options.containsKey(BINDING_GRAPH_CACHE_MAX_ENTRIES)) {
+            int maxEntries = Integer.parseInt(options.get(BINDING_GRAPH_CACHE_MAX_ENTRIES));
+            checkArgument(maxEntries > 0, "%s must be positive", BINDING_GRAPH_CACHE_MAX_ENTRIES);
+            return maxEntries;
+        }
+        return super.bindingGraphCacheMaxEntries();
+    }
+
+    @Override
+    public Optional<String> processorMetricsDirectory() {
+        return Optional.ofNullable(options.get(PROCESSOR_METRICS_DIR))
+                .filter(directory -> !directory.trim().isEmpty());
+    }
+
     private boolean isEnabled(KeyOnlyOption keyOnlyOption) {
         return options.containsKey(keyOnlyOption.toString());
     }
@@ -311,7 +388,19 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
 
         STRICT_MULTIBINDING_VALIDATION,// strict multibinding validation
 
-        VALIDATE_TRANSITIVE_COMPONENT_DEPENDENCIES(ENABLED);// validate transitive component dependencies(enabled)
+        VALIDATE_TRANSITIVE_COMPONENT_DEPENDENCIES(ENABLED),// validate transitive component dependencies(enabled)
+
+        LOCK_FREE_SCOPED_PROVIDERS,// lock free scoped providers
+
+        EAGER_PRODUCER_CANCELLATION,// eager producer cancellation
+
+        PRODUCER_DEPTHS,// producer depths
+
+        INLINE_UNSCOPED_CHAINS,// inline unscoped chains
+
+        PARALLEL_SOURCE_WRITING,// parallel source writing
+
+        RETAIN_CLASS_FILE_VALIDATION_REPORTS;// retain class file validation reports
 
         final FeatureStatus defaultValue;
 
@@ -1,8 +1,14 @@
 package dagger.internal.codegen.componentgenerator;
 
 import com.google.common.collect.ImmutableList;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.inject.Inject;
@@ -11,12 +17,17 @@ import javax.lang.model.element.Element;
 
 import androidx.room.compiler.processing.XFiler;
 import dagger.Component;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.binding.BindingGraph;
 import dagger.internal.codegen.langmodel.DaggerElements;
+import dagger.internal.codegen.writing.BytecodeSizeEstimator;
 import dagger.internal.codegen.writing.ComponentImplementation;
+import dagger.internal.codegen.writing.ProducerDepthsGenerator;
 
 import static com.google.common.base.Verify.verify;
+import static dagger.internal.codegen.javapoet.TypeNames.PRODUCER;
+import static dagger.internal.codegen.javapoet.TypeNames.PROVIDER;
 import static dagger.internal.codegen.writing.ComponentNames.getRootComponentClassName;
 
 /**
@@ -24,6 +35,8 @@ import static dagger.internal.codegen.writing.ComponentNames.getRootComponentCla
  */
 final class ComponentGenerator extends SourceFileGenerator<BindingGraph> {
     private final TopLevelImplementationComponent.Factory topLevelImplementationComponentFactory;
+    private final ProducerDepthsGenerator producerDepthsGenerator;
+    private final ProcessingMetrics metrics;
 
 
     @Inject
@@ -31,9 +44,13 @@ final class ComponentGenerator extends SourceFileGenerator<BindingGraph> {
             XFiler filer,
             DaggerElements elements,
             SourceVersion sourceVersion,
-            TopLevelImplementationComponent.Factory topLevelImplementationComponentFactory) {
-        super(filer, elements, sourceVersion);
+            TopLevelImplementationComponent.Factory topLevelImplementationComponentFactory,
+            ProducerDepthsGenerator producerDepthsGenerator,
+            ProcessingMetrics metrics) {
+        super(filer, elements, sourceVersion, metrics);
         this.topLevelImplementationComponentFactory = topLevelImplementationComponentFactory;
+        this.producerDepthsGenerator = producerDepthsGenerator;
+        this.metrics = metrics;
     }
 
 
@@ -59,6 +76,68 @@ final class ComponentGenerator extends SourceFileGenerator<BindingGraph> {
                         .name()
                         .equals(getRootComponentClassName(bindingGraph.componentDescriptor())));
 
-        return ImmutableList.of(componentImplementation.generate().toBuilder());
+        TypeSpec component = componentImplementation.generate();
+        if (metrics.isEnabled()) {
+            String subject = bindingGraph.componentTypeElement().getQualifiedName().toString();
+            metrics.count("generate", subject, "frameworkFields", frameworkFields(component));
+            reportMethodSizes(subject, component);
+        }
+        ImmutableList.Builder<TypeSpec.Builder> types = ImmutableList.builder();
+        types.add(component.toBuilder());
+        producerDepthsGenerator.generate(bindingGraph).ifPresent(types::add);
+        return types.build();
+    }
+
+    /**
+     * Returns the number of {@code Provider} and {@code Producer} fields in {@code type} and the
+     * types nested in it, such as shards and subcomponents: the framework instances that the
+     * component creates when it is constructed.
+     */
+    private static int frameworkFields(TypeSpec type) {
+        int count = 0;
+        for (FieldSpec field : type.fieldSpecs) {
+            TypeName fieldType =
+                    field.type instanceof ParameterizedTypeName
+                            ? ((ParameterizedTypeName) field.type).rawType
+                            : field.type;
+            if (fieldType.equals(PROVIDER) || fieldType.equals(PRODUCER)) {
+                count++;
+            }
+        }
+        for (TypeSpec nested : type.typeSpecs) {
+            count += frameworkFields(nested);
+        }
+        return count;
+    }
+
+    /**
+     * Reports the largest estimated bytecode size of the methods of {@code component}, and the
+     * methods that are still estimated to be above the JIT's huge method limit after splitting, each
+     * as a counter of its own named by the method.
+     */
+    private void reportMethodSizes(String subject, TypeSpec component) {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        estimateMethodSizes(component.name, component, sizes);
+        int largest = 0;
+        int hugeMethods = 0;
+        for (Map.Entry<String, Integer> size : sizes.entrySet()) {
+            largest = Math.max(largest, size.getValue());
+            if (size.getValue() > BytecodeSizeEstimator.HUGE_METHOD_LIMIT) {
+                hugeMethods++;
+                metrics.count("generate", subject, "hugeMethod:" + size.getKey(), size.getValue());
+            }
+        }
+        metrics.count("generate", subject, "largestMethodBytes", largest);
+        metrics.count("generate", subject, "hugeMethods", hugeMethods);
+    }
+
+    private static void estimateMethodSizes(String path, TypeSpec type, Map<String, Integer> sizes) {
+        for (MethodSpec method : type.methodSpecs) {
+            // Overloads share a counter; the larger one is the one that matters.
+            sizes.merge(path + "." + method.name, BytecodeSizeEstimator.estimate(method), Math::max);
+        }
+        for (TypeSpec nested : type.typeSpecs) {
+            estimateMethodSizes(path + "." + nested.name, nested, sizes);
+        }
     }
 }
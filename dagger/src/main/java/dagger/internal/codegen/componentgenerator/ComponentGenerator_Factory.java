@@ -8,7 +8,9 @@ import javax.lang.model.SourceVersion;
 import androidx.room.compiler.processing.XFiler;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.langmodel.DaggerElements;
+import dagger.internal.codegen.writing.ProducerDepthsGenerator;
 
 @DaggerGenerated
 @Generated(
@@ -28,29 +30,41 @@ public final class ComponentGenerator_Factory implements Factory<ComponentGenera
 
     private final Provider<TopLevelImplementationComponent.Factory> topLevelImplementationComponentFactoryProvider;
 
+    private final Provider<ProducerDepthsGenerator> producerDepthsGeneratorProvider;
+
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public ComponentGenerator_Factory(Provider<XFiler> filerProvider,
                                       Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider,
-                                      Provider<TopLevelImplementationComponent.Factory> topLevelImplementationComponentFactoryProvider) {
+                                      Provider<TopLevelImplementationComponent.Factory> topLevelImplementationComponentFactoryProvider,
+                                      Provider<ProducerDepthsGenerator> producerDepthsGeneratorProvider,
+                                      Provider<ProcessingMetrics> metricsProvider) {
         this.filerProvider = filerProvider;
         this.elementsProvider = elementsProvider;
         this.sourceVersionProvider = sourceVersionProvider;
         this.topLevelImplementationComponentFactoryProvider = topLevelImplementationComponentFactoryProvider;
+        this.producerDepthsGeneratorProvider = producerDepthsGeneratorProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
     public ComponentGenerator get() {
-        return newInstance(filerProvider.get(), elementsProvider.get(), sourceVersionProvider.get(), topLevelImplementationComponentFactoryProvider.get());
+        return newInstance(filerProvider.get(), elementsProvider.get(), sourceVersionProvider.get(), topLevelImplementationComponentFactoryProvider.get(), producerDepthsGeneratorProvider.get(), metricsProvider.get());
     }
 
     public static ComponentGenerator_Factory create(Provider<XFiler> filerProvider,
                                                     Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider,
-                                                    Provider<TopLevelImplementationComponent.Factory> topLevelImplementationComponentFactoryProvider) {
-        return new ComponentGenerator_Factory(filerProvider, elementsProvider, sourceVersionProvider, topLevelImplementationComponentFactoryProvider);
+                                                    Provider<TopLevelImplementationComponent.Factory> topLevelImplementationComponentFactoryProvider,
+                                                    Provider<ProducerDepthsGenerator> producerDepthsGeneratorProvider,
+                                                    Provider<ProcessingMetrics> metricsProvider) {
+        return new ComponentGenerator_Factory(filerProvider, elementsProvider, sourceVersionProvider, topLevelImplementationComponentFactoryProvider, producerDepthsGeneratorProvider, metricsProvider);
     }
 
     public static ComponentGenerator newInstance(XFiler filer, DaggerElements elements,
                                                  SourceVersion sourceVersion,
-                                                 TopLevelImplementationComponent.Factory topLevelImplementationComponentFactory) {
-        return new ComponentGenerator(filer, elements, sourceVersion, topLevelImplementationComponentFactory);
+                                                 TopLevelImplementationComponent.Factory topLevelImplementationComponentFactory,
+                                                 ProducerDepthsGenerator producerDepthsGenerator,
+                                                 ProcessingMetrics metrics) {
+        return new ComponentGenerator(filer, elements, sourceVersion, topLevelImplementationComponentFactory, producerDepthsGenerator, metrics);
     }
 }
@@ -21,15 +21,18 @@ import javax.lang.model.type.DeclaredType;
 
 import androidx.room.compiler.processing.XFiler;
 import dagger.BindsInstance;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.binding.ComponentCreatorDescriptor;
 import dagger.internal.codegen.binding.ComponentCreatorKind;
 import dagger.internal.codegen.binding.ComponentDescriptor;
 import dagger.internal.codegen.binding.ComponentRequirement;
 import dagger.internal.codegen.binding.MethodSignature;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.kotlin.KotlinMetadataUtil;
 import dagger.internal.codegen.langmodel.DaggerElements;
 import dagger.internal.codegen.langmodel.DaggerTypes;
+import dagger.internal.codegen.writing.ProducerDepthsGenerator;
 import dagger.producers.internal.CancellationListener;
 
 import static com.google.auto.common.MoreElements.isAnnotationPresent;
@@ -51,6 +54,7 @@ final class ComponentHjarGenerator extends SourceFileGenerator<ComponentDescript
     private final DaggerElements elements;
     private final DaggerTypes types;
     private final KotlinMetadataUtil metadataUtil;
+    private final CompilerOptions compilerOptions;
 
     @Inject
     ComponentHjarGenerator(
@@ -58,11 +62,14 @@ final class ComponentHjarGenerator extends SourceFileGenerator<ComponentDescript
             DaggerElements elements,
             DaggerTypes types,
             SourceVersion sourceVersion,
-            KotlinMetadataUtil metadataUtil) {
-        super(filer, elements, sourceVersion);
+            KotlinMetadataUtil metadataUtil,
+            CompilerOptions compilerOptions,
+            ProcessingMetrics metrics) {
+        super(filer, elements, sourceVersion, metrics);
         this.elements = elements;
         this.types = types;
         this.metadataUtil = metadataUtil;
+        this.compilerOptions = compilerOptions;
     }
 
     @Override
@@ -143,7 +150,10 @@ final class ComponentHjarGenerator extends SourceFileGenerator<ComponentDescript
                     .addMethod(onProducerFutureCancelledMethod());
         }
 
-        return ImmutableList.of(generatedComponent);
+        ImmutableList.Builder<TypeSpec.Builder> types = ImmutableList.builder();
+        types.add(generatedComponent);
+        ProducerDepthsGenerator.generateHeader(componentDescriptor, compilerOptions).ifPresent(types::add);
+        return types.build();
     }
 
     private MethodSpec emptyComponentMethod(TypeElement typeElement, ExecutableElement baseMethod) {
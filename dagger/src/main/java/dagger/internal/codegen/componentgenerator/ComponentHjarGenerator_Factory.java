@@ -8,6 +8,8 @@ import javax.lang.model.SourceVersion;
 import androidx.room.compiler.processing.XFiler;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.kotlin.KotlinMetadataUtil;
 import dagger.internal.codegen.langmodel.DaggerElements;
 import dagger.internal.codegen.langmodel.DaggerTypes;
@@ -32,31 +34,40 @@ public final class ComponentHjarGenerator_Factory implements Factory<ComponentHj
 
     private final Provider<KotlinMetadataUtil> metadataUtilProvider;
 
+    private final Provider<CompilerOptions> compilerOptionsProvider;
+
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public ComponentHjarGenerator_Factory(Provider<XFiler> filerProvider,
                                           Provider<DaggerElements> elementsProvider, Provider<DaggerTypes> typesProvider,
                                           Provider<SourceVersion> sourceVersionProvider,
-                                          Provider<KotlinMetadataUtil> metadataUtilProvider) {
+                                          Provider<KotlinMetadataUtil> metadataUtilProvider,
+                                          Provider<CompilerOptions> compilerOptionsProvider, Provider<ProcessingMetrics> metricsProvider) {
         this.filerProvider = filerProvider;
         this.elementsProvider = elementsProvider;
         this.typesProvider = typesProvider;
         this.sourceVersionProvider = sourceVersionProvider;
         this.metadataUtilProvider = metadataUtilProvider;
+        this.compilerOptionsProvider = compilerOptionsProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
     public ComponentHjarGenerator get() {
-        return newInstance(filerProvider.get(), elementsProvider.get(), typesProvider.get(), sourceVersionProvider.get(), metadataUtilProvider.get());
+        return newInstance(filerProvider.get(), elementsProvider.get(), typesProvider.get(), sourceVersionProvider.get(), metadataUtilProvider.get(), compilerOptionsProvider.get(), metricsProvider.get());
     }
 
     public static ComponentHjarGenerator_Factory create(Provider<XFiler> filerProvider,
                                                         Provider<DaggerElements> elementsProvider, Provider<DaggerTypes> typesProvider,
                                                         Provider<SourceVersion> sourceVersionProvider,
-                                                        Provider<KotlinMetadataUtil> metadataUtilProvider) {
-        return new ComponentHjarGenerator_Factory(filerProvider, elementsProvider, typesProvider, sourceVersionProvider, metadataUtilProvider);
+                                                        Provider<KotlinMetadataUtil> metadataUtilProvider,
+                                          Provider<CompilerOptions> compilerOptionsProvider, Provider<ProcessingMetrics> metricsProvider) {
+        return new ComponentHjarGenerator_Factory(filerProvider, elementsProvider, typesProvider, sourceVersionProvider, metadataUtilProvider, compilerOptionsProvider, metricsProvider);
     }
 
     public static ComponentHjarGenerator newInstance(XFiler filer, DaggerElements elements,
-                                                     DaggerTypes types, SourceVersion sourceVersion, KotlinMetadataUtil metadataUtil) {
-        return new ComponentHjarGenerator(filer, elements, types, sourceVersion, metadataUtil);
+                                                     DaggerTypes types, SourceVersion sourceVersion, KotlinMetadataUtil metadataUtil,
+                                                     CompilerOptions compilerOptions, ProcessingMetrics metrics) {
+        return new ComponentHjarGenerator(filer, elements, types, sourceVersion, metadataUtil, compilerOptions, metrics);
     }
 }
@@ -52,6 +52,8 @@ public final class TypeNames {
             ClassName.get("dagger.internal", "InjectedFieldSignature");
     public static final ClassName INSTANCE_FACTORY =
             ClassName.get("dagger.internal", "InstanceFactory");
+    public static final ClassName LOCK_FREE_CHECK =
+            ClassName.get("dagger.internal", "LockFreeCheck");
     public static final ClassName MAP_FACTORY = ClassName.get("dagger.internal", "MapFactory");
     public static final ClassName MEMBERS_INJECTOR = ClassName.get("dagger", "MembersInjector");
     public static final ClassName PROVIDER = ClassName.get("javax.inject", "Provider");
@@ -6,6 +6,8 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.squareup.javapoet.ClassName;
 
 import java.util.HashMap;
@@ -51,10 +53,16 @@ import static dagger.internal.codegen.extension.DaggerStreams.toImmutableMap;
 
 import static dagger.internal.codegen.langmodel.DaggerElements.getAnnotationMirror;
 import static dagger.internal.codegen.langmodel.DaggerElements.getMethodDescriptor;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static kotlinx.metadata.Flag.ValueParameter.DECLARES_DEFAULT_VALUE;
 
 /**
  * Data class of a TypeElement and its Kotlin metadata.
+ *
+ * <p>The metadata is {@linkplain DecodedMetadata decoded} in two tiers: the class's flags, name and
+ * companion object, which is all that most callers check, and its constructors, functions and
+ * properties, which are only visited when first asked for. Both tiers parse the whole metadata
+ * proto; the first only skips building the members' metadata and JVM signatures.
  * <p>
  * TypeElement 的数据类及其 Kotlin 元数据。包括Kotlin节点遍历访问处理
  */
@@ -75,7 +83,17 @@ abstract class KotlinMetadata {
 
     abstract TypeElement typeElement();
 
-    abstract ClassMetadata classMetadata();
+    abstract DecodedMetadata decodedMetadata();
+
+    /** Returns the flags, name and companion object of the class. */
+    ClassHeader classHeader() {
+        return decodedMetadata().classHeader();
+    }
+
+    /** Returns the metadata of the class and its members, decoding the members if needed. */
+    ClassMetadata classMetadata() {
+        return decodedMetadata().classMetadata();
+    }
 
     @Memoized
     ImmutableMap<String, ExecutableElement> methodDescriptors() {
@@ -184,29 +202,88 @@ abstract class KotlinMetadata {
         return classMetadata().functionsBySignature().get(getMethodDescriptor(method));
     }
 
-    /**
-     * Parse Kotlin class metadata from a given type element *
-     */
-    static KotlinMetadata from(TypeElement typeElement) {
-        return new AutoValue_KotlinMetadata(
-                typeElement, ClassVisitor.createClassMetadata(metadataOf(typeElement)));
+    static KotlinMetadata create(TypeElement typeElement, DecodedMetadata decodedMetadata) {
+        return new AutoValue_KotlinMetadata(typeElement, decodedMetadata);
     }
 
-
-    private static KotlinClassMetadata.Class metadataOf(TypeElement typeElement) {
+    /**
+     * Returns the {@link Metadata} annotation of {@code typeElement}, whose values are what its
+     * metadata is decoded from.
+     */
+    static KotlinClassHeader headerOf(TypeElement typeElement) {
         Optional<AnnotationMirror> metadataAnnotation =
                 getAnnotationMirror(typeElement, ClassName.get(Metadata.class));
         Preconditions.checkState(metadataAnnotation.isPresent());
-        KotlinClassHeader header =
-                new KotlinClassHeader(
-                        getIntValue(metadataAnnotation.get(), "k"),
-                        getIntArrayValue(metadataAnnotation.get(), "mv"),
-                        getStringArrayValue(metadataAnnotation.get(), "d1"),
-                        getStringArrayValue(metadataAnnotation.get(), "d2"),
-                        getStringValue(metadataAnnotation.get(), "xs"),
-                        getOptionalStringValue(metadataAnnotation.get(), "pn").orElse(null),
-                        getOptionalIntValue(metadataAnnotation.get(), "xi").orElse(null));
+        return new KotlinClassHeader(
+                getIntValue(metadataAnnotation.get(), "k"),
+                getIntArrayValue(metadataAnnotation.get(), "mv"),
+                getStringArrayValue(metadataAnnotation.get(), "d1"),
+                getStringArrayValue(metadataAnnotation.get(), "d2"),
+                getStringValue(metadataAnnotation.get(), "xs"),
+                getOptionalStringValue(metadataAnnotation.get(), "pn").orElse(null),
+                getOptionalIntValue(metadataAnnotation.get(), "xi").orElse(null));
+    }
+
+    /**
+     * Returns a fingerprint of {@code header}, which changes whenever the metadata of the class
+     * does.
+     */
+    static long fingerprint(KotlinClassHeader header) {
+        Hasher hasher = Hashing.farmHashFingerprint64().newHasher().putInt(header.getKind());
+        for (int version : header.getMetadataVersion()) {
+            hasher.putInt(version);
+        }
+        for (String data : header.getData1()) {
+            hasher.putString(data, UTF_8).putChar('\0');
+        }
+        for (String data : header.getData2()) {
+            hasher.putString(data, UTF_8).putChar('\0');
+        }
+        return hasher
+                .putString(header.getExtraString(), UTF_8)
+                .putChar('\0')
+                .putString(header.getPackageName(), UTF_8)
+                .putInt(header.getExtraInt())
+                .hash()
+                .asLong();
+    }
+
+    /**
+     * The Kotlin metadata of a class, decoded from its {@link Metadata} annotation. It refers to no
+     * elements, so it can be kept for as long as the annotation is unchanged.
+     */
+    static final class DecodedMetadata {
+        private final KotlinClassMetadata.Class data;
+        private final ClassHeader classHeader;
+        // Guarded by this; decoded when first asked for.
+        private ClassMetadata classMetadata;
+
+        private DecodedMetadata(KotlinClassMetadata.Class data) {
+            this.data = data;
+            this.classHeader = ClassHeaderVisitor.createClassHeader(data);
+        }
+
+        /**
+         * Decodes the flags, name and companion object of the class in {@code header}. This parses
+         * the whole proto, members included, but does not visit the members.
+         */
+        static DecodedMetadata decode(KotlinClassHeader header) {
+            return new DecodedMetadata(read(header));
+        }
+
+        ClassHeader classHeader() {
+            return classHeader;
+        }
+
+        synchronized ClassMetadata classMetadata() {
+            if (classMetadata == null) {
+                classMetadata = ClassVisitor.createClassMetadata(data);
+            }
+            return classMetadata;
+        }
+    }
 
+    private static KotlinClassMetadata.Class read(KotlinClassHeader header) {
         KotlinClassMetadata metadata = KotlinClassMetadata.read(header);
         if (metadata == null) {
             // Should only happen on Kotlin < 1.0 (i.e. metadata version < 1.1)
@@ -221,6 +298,28 @@ abstract class KotlinMetadata {
         }
     }
 
+    /** Visits only the class itself, skipping the decoding of its members. */
+    private static final class ClassHeaderVisitor extends KmClassVisitor {
+
+        static ClassHeader createClassHeader(KotlinClassMetadata.Class data) {
+            ClassHeaderVisitor visitor = new ClassHeaderVisitor();
+            data.accept(visitor);
+            return visitor.classHeader.build();
+        }
+
+        private final ClassHeader.Builder classHeader = ClassHeader.builder();
+
+        @Override
+        public void visit(int flags, String name) {
+            classHeader.flags(flags).name(name);
+        }
+
+        @Override
+        public void visitCompanionObject(String companionObjectName) {
+            classHeader.companionObjectName(companionObjectName);
+        }
+    }
+
     private static final class ClassVisitor extends KmClassVisitor {
 
         static ClassMetadata createClassMetadata(KotlinClassMetadata.Class data) {
@@ -344,6 +443,22 @@ abstract class KotlinMetadata {
         }
     }
 
+    @AutoValue
+    abstract static class ClassHeader extends BaseMetadata {
+        abstract Optional<String> companionObjectName();
+
+        static Builder builder() {
+            return new AutoValue_KotlinMetadata_ClassHeader.Builder();
+        }
+
+        @AutoValue.Builder
+        abstract static class Builder implements BaseMetadata.Builder<Builder> {
+            abstract Builder companionObjectName(String companionObjectName);
+
+            abstract ClassHeader build();
+        }
+    }
+
     @AutoValue
     abstract static class ClassMetadata extends BaseMetadata {
         abstract Optional<String> companionObjectName();
@@ -1,8 +1,8 @@
 package dagger.internal.codegen.kotlin;
 
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -10,7 +10,9 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 
 import dagger.internal.codegen.base.ClearableCache;
+import dagger.internal.codegen.kotlin.KotlinMetadata.DecodedMetadata;
 import kotlin.Metadata;
+import kotlinx.metadata.jvm.KotlinClassHeader;
 
 import static com.google.auto.common.MoreElements.isAnnotationPresent;
 import static dagger.internal.codegen.langmodel.DaggerElements.closestEnclosingTypeElement;
@@ -19,12 +21,19 @@ import static dagger.internal.codegen.langmodel.DaggerElements.closestEnclosingT
  * Factory creating Kotlin metadata data objects.
  *
  * <p>The metadata is cache since it can be expensive to parse the information stored in a proto
- * binary string format in the metadata annotation values.
+ * binary string format in the metadata annotation values. The {@link KotlinMetadata} of an element
+ * is only kept for the round, but what it decodes refers to no elements and is kept for the whole
+ * compilation, by class name and {@linkplain KotlinMetadata#fingerprint fingerprint} of the
+ * metadata annotation, so that a class is decoded again only if its metadata changed. Metadata is
+ * only looked up on the processing thread; both caches are concurrent maps only so that they stay
+ * safe if a lookup is ever moved off it.
  */
 @Singleton
 public final class KotlinMetadataFactory implements ClearableCache {
 
-    private final Map<TypeElement, KotlinMetadata> metadataCache = new HashMap<>();
+    private final Map<TypeElement, KotlinMetadata> metadataCache = new ConcurrentHashMap<>();
+    // Not cleared between rounds.
+    private final Map<String, DecodedMetadata> decodedMetadataCache = new ConcurrentHashMap<>();
 
     @Inject
     KotlinMetadataFactory() {
@@ -41,7 +50,16 @@ public final class KotlinMetadataFactory implements ClearableCache {
         if (!isAnnotationPresent(enclosingElement, Metadata.class)) {
             throw new IllegalStateException("Missing @Metadata for: " + enclosingElement);
         }
-        return metadataCache.computeIfAbsent(enclosingElement, KotlinMetadata::from);
+        return metadataCache.computeIfAbsent(enclosingElement, this::createUncached);
+    }
+
+    private KotlinMetadata createUncached(TypeElement typeElement) {
+        KotlinClassHeader header = KotlinMetadata.headerOf(typeElement);
+        String cacheKey =
+                typeElement.getQualifiedName() + "@" + Long.toHexString(KotlinMetadata.fingerprint(header));
+        return KotlinMetadata.create(
+                typeElement,
+                decodedMetadataCache.computeIfAbsent(cacheKey, unused -> DecodedMetadata.decode(header)));
     }
 
     @Override
@@ -82,7 +82,7 @@ public final class KotlinMetadataUtil {
      */
     public boolean isObjectClass(TypeElement typeElement) {
         return hasMetadata(typeElement)
-                && metadataFactory.create(typeElement).classMetadata().flags(IS_OBJECT);
+                && metadataFactory.create(typeElement).classHeader().flags(IS_OBJECT);
     }
 
     /**
@@ -90,7 +90,7 @@ public final class KotlinMetadataUtil {
      */
     public boolean isDataClass(TypeElement typeElement) {
         return hasMetadata(typeElement)
-                && metadataFactory.create(typeElement).classMetadata().flags(IS_DATA);
+                && metadataFactory.create(typeElement).classHeader().flags(IS_DATA);
     }
 
     /*
@@ -101,7 +101,7 @@ public final class KotlinMetadataUtil {
     public boolean isCompanionObjectClass(TypeElement typeElement) {
 
         return hasMetadata(typeElement)
-                && metadataFactory.create(typeElement).classMetadata().flags(IS_COMPANION_OBJECT);
+                && metadataFactory.create(typeElement).classHeader().flags(IS_COMPANION_OBJECT);
     }
 
     /**
@@ -114,14 +114,14 @@ public final class KotlinMetadataUtil {
     /* Returns {@code true} if this type element has a Kotlin Companion Object. */
     public boolean hasEnclosedCompanionObject(TypeElement typeElement) {
         return hasMetadata(typeElement)
-                && metadataFactory.create(typeElement).classMetadata().companionObjectName().isPresent();
+                && metadataFactory.create(typeElement).classHeader().companionObjectName().isPresent();
     }
 
     /* Returns the Companion Object element enclosed by the given type element. */
     public TypeElement getEnclosedCompanionObject(TypeElement typeElement) {
         return metadataFactory
                 .create(typeElement)
-                .classMetadata()
+                .classHeader()
                 .companionObjectName()
                 .map(
                         companionObjectName ->
@@ -138,7 +138,7 @@ public final class KotlinMetadataUtil {
      */
     public boolean isVisibilityPrivate(TypeElement typeElement) {
         return hasMetadata(typeElement)
-                && metadataFactory.create(typeElement).classMetadata().flags(IS_PRIVATE);
+                && metadataFactory.create(typeElement).classHeader().flags(IS_PRIVATE);
     }
 
     /**
@@ -147,7 +147,7 @@ public final class KotlinMetadataUtil {
      */
     public boolean isVisibilityInternal(TypeElement type) {
         return hasMetadata(type)
-                && metadataFactory.create(type).classMetadata().flags(Flag.IS_INTERNAL);
+                && metadataFactory.create(type).classHeader().flags(Flag.IS_INTERNAL);
     }
 
     /**
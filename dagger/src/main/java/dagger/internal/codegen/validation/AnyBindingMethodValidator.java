@@ -30,11 +30,15 @@ import static java.util.stream.Collectors.joining;
 public final class AnyBindingMethodValidator implements ClearableCache {
 
     private final ImmutableMap<ClassName, BindingMethodValidator> validators;
+    private final RetainedValidationReports retainedReports;
     private final Map<ExecutableElement, ValidationReport> reports = new HashMap<>();
 
     @Inject
-    AnyBindingMethodValidator(ImmutableMap<ClassName, BindingMethodValidator> validators) {
+    AnyBindingMethodValidator(
+            ImmutableMap<ClassName, BindingMethodValidator> validators,
+            RetainedValidationReports retainedReports) {
         this.validators = validators;
+        this.retainedReports = retainedReports;
     }
 
     @Override
@@ -76,7 +80,11 @@ public final class AnyBindingMethodValidator implements ClearableCache {
      *                                  #methodAnnotations() binding method annotation}
      */
     ValidationReport validate(ExecutableElement method) {
-        return reentrantComputeIfAbsent(reports, method, this::validateUncached);
+        return reentrantComputeIfAbsent(
+                reports,
+                method,
+                element ->
+                        retainedReports.validate("bindingMethod", element, this::validateUncached));
     }
 
 
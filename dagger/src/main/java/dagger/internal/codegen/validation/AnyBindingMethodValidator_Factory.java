@@ -22,23 +22,29 @@ import dagger.internal.Factory;
 public final class AnyBindingMethodValidator_Factory implements Factory<AnyBindingMethodValidator> {
     private final Provider<ImmutableMap<ClassName, BindingMethodValidator>> validatorsProvider;
 
+    private final Provider<RetainedValidationReports> retainedReportsProvider;
+
     public AnyBindingMethodValidator_Factory(
-            Provider<ImmutableMap<ClassName, BindingMethodValidator>> validatorsProvider) {
+            Provider<ImmutableMap<ClassName, BindingMethodValidator>> validatorsProvider,
+            Provider<RetainedValidationReports> retainedReportsProvider) {
         this.validatorsProvider = validatorsProvider;
+        this.retainedReportsProvider = retainedReportsProvider;
     }
 
     @Override
     public AnyBindingMethodValidator get() {
-        return newInstance(validatorsProvider.get());
+        return newInstance(validatorsProvider.get(), retainedReportsProvider.get());
     }
 
     public static AnyBindingMethodValidator_Factory create(
-            Provider<ImmutableMap<ClassName, BindingMethodValidator>> validatorsProvider) {
-        return new AnyBindingMethodValidator_Factory(validatorsProvider);
+            Provider<ImmutableMap<ClassName, BindingMethodValidator>> validatorsProvider,
+            Provider<RetainedValidationReports> retainedReportsProvider) {
+        return new AnyBindingMethodValidator_Factory(validatorsProvider, retainedReportsProvider);
     }
 
     public static AnyBindingMethodValidator newInstance(
-            ImmutableMap<ClassName, BindingMethodValidator> validators) {
-        return new AnyBindingMethodValidator(validators);
+            ImmutableMap<ClassName, BindingMethodValidator> validators,
+            RetainedValidationReports retainedReports) {
+        return new AnyBindingMethodValidator(validators, retainedReports);
     }
 }
@@ -0,0 +1,387 @@
+package dagger.internal.codegen.validation;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import com.sun.source.util.Trees;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+
+import androidx.room.compiler.processing.XProcessingEnv;
+import androidx.room.compiler.processing.compat.XConverters;
+import dagger.internal.codegen.base.ClearableCache;
+import dagger.internal.codegen.base.ProcessingMetrics;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+import dagger.internal.codegen.compileroption.ProcessingOptions;
+import dagger.spi.model.Binding;
+import dagger.spi.model.BindingGraph;
+import dagger.spi.model.BindingGraph.ComponentNode;
+import dagger.spi.model.BindingGraph.DependencyEdge;
+import dagger.spi.model.BindingGraph.Edge;
+import dagger.spi.model.BindingGraph.MissingBinding;
+import dagger.spi.model.BindingGraph.Node;
+import dagger.spi.model.DaggerTypeElement;
+import dagger.spi.model.DependencyRequest;
+import dagger.spi.model.Key;
+
+import static com.google.auto.common.MoreElements.asType;
+import static com.google.auto.common.MoreElements.isType;
+import static dagger.internal.codegen.base.ElementFormatter.elementToString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Remembers, across builds, which binding graphs Dagger's own {@linkplain Validation validation
+ * plugins} found nothing to report on, so that an unchanged component does not have to be validated
+ * again.
+ *
+ * <p>Entries are empty files in {@link CompilerOptions#bindingGraphCacheDirectory()}, named by a
+ * SHA-256 fingerprint of everything the validation plugins read:
+ *
+ * <ul>
+ *   <li>every node and edge of the graph: keys, binding kinds and elements, scopes, dependency
+ *       requests and component paths;
+ *   <li>the declarations of the types the graph refers to — components, modules, the types that
+ *       declare binding and request elements, the types of keys and their qualifiers — and,
+ *       transitively, of their supertypes and of the classes named in their annotations (such as a
+ *       component's modules), as described by {@link TypeDeclarations}. Types compiled from source
+ *       are described with their members, which validators such as {@code InjectBindingValidator}
+ *       check beyond the graph; the walk stops at classpath types, which only contribute their
+ *       headers;
+ *   <li>the processing options, the JDK version instead of the declarations of {@code java.*}
+ *       types, and the processor itself, so that a Dagger upgrade does not reuse results of an
+ *       older version.
+ * </ul>
+ *
+ * <p>A graph is only stored when the plugins reported no diagnostic at all, so a hit never hides a
+ * warning. The directory is bounded by {@link CompilerOptions#bindingGraphCacheMaxEntries()}; at the
+ * end of each round that added entries, the least recently used entries, by last-modified time,
+ * are evicted first. If the processor is not
+ * loaded from a jar, the cache is disabled, as its version cannot be told.
+ *
+ * <p>The graph itself still has to be resolved: code generation needs it in memory and the javac
+ * model it refers to cannot be serialized. External plugins are always run, as their results may
+ * depend on options and state Dagger cannot see. With {@code -Adagger.processorMetricsDir}, the
+ * {@code bindingGraphCache} phase counts the {@code hits}, {@code misses} and {@code evictions},
+ * and times the {@code fingerprint}s, to compare with the {@code validate} phase they may save.
+ * <p>
+ * 跨构建的绑定图校验结果缓存，通过{@code -Adagger.bindingGraphCacheDir=<dir>}启用。
+ */
+@Singleton
+public final class BindingGraphValidationCache implements ClearableCache {
+    // Bump whenever the fingerprint format changes meaning.
+    private static final int FORMAT_VERSION = 3;
+
+    private final CompilerOptions compilerOptions;
+    private final Map<String, String> processingOptions;
+    private final ProcessingMetrics metrics;
+    private final XProcessingEnv processingEnv;
+    private TypeDeclarations typeDeclarations;
+    // Whether an entry was added this round, so that the directory may have to be evicted.
+    private boolean evictionPending;
+    // The graph last looked up, whose fingerprint recordClean needs again after validating it.
+    private BindingGraph lastGraph;
+    private String lastFingerprint;
+
+    @Inject
+    BindingGraphValidationCache(
+            CompilerOptions compilerOptions,
+            @ProcessingOptions Map<String, String> processingOptions,
+            ProcessingMetrics metrics,
+            XProcessingEnv processingEnv) {
+        this.compilerOptions = compilerOptions;
+        this.processingOptions = processingOptions;
+        this.metrics = metrics;
+        this.processingEnv = processingEnv;
+        // Before the round's report is written, so that it counts the evictions.
+        metrics.beforeReport(this::evictIfPending);
+    }
+
+    /** Returns the cache directory, if the cache is enabled. */
+    private Optional<File> directory() {
+        return ProcessorVersion.VERSION.isPresent()
+                ? compilerOptions.bindingGraphCacheDirectory().map(File::new)
+                : Optional.empty();
+    }
+
+    /** Returns {@code true} if {@code graph} is known to pass Dagger's validation plugins cleanly. */
+    boolean isKnownClean(BindingGraph graph) {
+        Optional<File> directory = directory();
+        if (!directory.isPresent()) {
+            return false;
+        }
+        File entry = new File(directory.get(), fingerprint(graph));
+        if (entry.isFile()) {
+            // Refresh the entry so that eviction is least-recently-used rather than oldest-first.
+            entry.setLastModified(System.currentTimeMillis());
+            count("hits", 1);
+            return true;
+        }
+        count("misses", 1);
+        return false;
+    }
+
+    /** Records that Dagger's validation plugins reported no diagnostics for {@code graph}. */
+    void recordClean(BindingGraph graph) {
+        Optional<File> directory = directory();
+        if (!directory.isPresent()) {
+            return;
+        }
+        try {
+            File dir = directory.get();
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                return;
+            }
+            if (new File(dir, fingerprint(graph)).createNewFile()) {
+                evictionPending = true;
+            }
+        } catch (IOException e) {
+            // The cache is only an optimization; a failed write just means validating again next time.
+        }
+    }
+
+    /** Evicts the least recently used entries, once per round in which entries were added. */
+    private void evictIfPending() {
+        if (!evictionPending) {
+            return;
+        }
+        evictionPending = false;
+        directory().ifPresent(this::evict);
+    }
+
+    private void evict(File dir) {
+        File[] entries = dir.listFiles(File::isFile);
+        int maxEntries = compilerOptions.bindingGraphCacheMaxEntries();
+        if (entries == null || entries.length <= maxEntries) {
+            return;
+        }
+        // Each lastModified() is a file system call, so read them once rather than on every comparison.
+        Map<File, Long> lastModified = new HashMap<>();
+        for (File entry : entries) {
+            lastModified.put(entry, entry.lastModified());
+        }
+        Arrays.sort(entries, Comparator.comparingLong(lastModified::get));
+        int evictions = 0;
+        for (int i = 0; i < entries.length - maxEntries; i++) {
+            if (entries[i].delete()) {
+                evictions++;
+            }
+        }
+        count("evictions", evictions);
+    }
+
+    private void count(String counter, long delta) {
+        metrics.count("bindingGraphCache", "validation", counter, delta);
+    }
+
+    private String fingerprint(BindingGraph graph) {
+        if (graph != lastGraph) {
+            try (ProcessingMetrics.Span span = metrics.start("bindingGraphCache", "fingerprint")) {
+                lastFingerprint = computeFingerprint(graph);
+            }
+            lastGraph = graph;
+        }
+        return lastFingerprint;
+    }
+
+    private String computeFingerprint(BindingGraph graph) {
+        List<String> lines = new ArrayList<>();
+        for (Node node : graph.network().nodes()) {
+            lines.add(describe(node));
+        }
+        for (Edge edge : graph.network().edges()) {
+            lines.add(
+                    nodeId(graph.network().incidentNodes(edge).source())
+                            + " -> "
+                            + nodeId(graph.network().incidentNodes(edge).target())
+                            + " "
+                            + describe(edge));
+        }
+        // The network's iteration order depends on resolution order, which is not part of the input.
+        lines.sort(Comparator.naturalOrder());
+        // In the order of their names, rather than the order they were found in.
+        lines.addAll(declarations(graph).values());
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putInt(FORMAT_VERSION);
+        hasher.putString(ProcessorVersion.VERSION.get(), UTF_8).putByte((byte) 0);
+        // Instead of the declarations of the JDK's types, which only change with it.
+        hasher.putString(System.getProperty("java.version"), UTF_8).putByte((byte) 0);
+        hasher.putBoolean(graph.isFullBindingGraph());
+        // Any option can change what is reported, except those of the cache itself.
+        new TreeMap<>(processingOptions)
+                .forEach(
+                        (key, value) -> {
+                            if (!key.startsWith("dagger.bindingGraphCache")) {
+                                hasher.putString(key, UTF_8).putByte((byte) 0);
+                                hasher.putString(String.valueOf(value), UTF_8).putByte((byte) 0);
+                            }
+                        });
+        for (String line : lines) {
+            hasher.putString(line, UTF_8).putByte((byte) '\n');
+        }
+        return hasher.hash().toString();
+    }
+
+    private static String nodeId(Node node) {
+        if (node instanceof ComponentNode) {
+            return node.componentPath().toString();
+        }
+        if (node instanceof Binding) {
+            return node.componentPath() + "/" + ((Binding) node).key();
+        }
+        return node.componentPath() + "/missing " + ((MissingBinding) node).key();
+    }
+
+    private static String describe(Node node) {
+        StringBuilder description = new StringBuilder(nodeId(node));
+        if (node instanceof ComponentNode) {
+            ComponentNode component = (ComponentNode) node;
+            description
+                    .append(" subcomponent=").append(component.isSubcomponent())
+                    .append(" real=").append(component.isRealComponent())
+                    .append(" scopes=").append(component.scopes());
+            component.entryPoints().forEach(request -> append(description, request));
+        } else if (node instanceof Binding) {
+            Binding binding = (Binding) node;
+            description
+                    .append(' ').append(binding.kind())
+                    .append(' ').append(binding)
+                    .append(" scope=").append(binding.scope())
+                    .append(" nullable=").append(binding.isNullable())
+                    .append(" production=").append(binding.isProduction())
+                    .append(" module=").append(binding.contributingModule())
+                    .append(" moduleInstance=").append(binding.requiresModuleInstance());
+            binding.dependencies().forEach(request -> append(description, request));
+        }
+        return description.toString();
+    }
+
+    private static String describe(Edge edge) {
+        StringBuilder description =
+                new StringBuilder(edge.getClass().getSimpleName()).append(' ').append(edge);
+        if (edge instanceof DependencyEdge) {
+            append(description, ((DependencyEdge) edge).dependencyRequest());
+        }
+        return description.toString();
+    }
+
+    private static void append(StringBuilder description, DependencyRequest request) {
+        description
+                .append(" [")
+                .append(request.kind().format(request.key()))
+                .append(request.isNullable() ? " nullable" : "")
+                .append(' ')
+                .append(request.requestElement().map(element -> elementToString(element.java())))
+                .append(']');
+    }
+
+    @Override
+    public void clearCache() {
+        evictIfPending();
+        lastGraph = null;
+        lastFingerprint = null;
+    }
+
+    /**
+     * Returns the description of each type declaration that the validation plugins may read for
+     * {@code graph}, by qualified name.
+     */
+    private Map<String, String> declarations(BindingGraph graph) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (Node node : graph.network().nodes()) {
+            node.componentPath().components().stream().map(DaggerTypeElement::java).forEach(types::add);
+            if (node instanceof Binding) {
+                Binding binding = (Binding) node;
+                addTypes(binding.key(), types);
+                binding.bindingElement().ifPresent(element -> types.add(declaringType(element.java())));
+                binding.contributingModule().map(DaggerTypeElement::java).ifPresent(types::add);
+                binding.dependencies().forEach(request -> addTypes(request, types));
+            } else if (node instanceof MissingBinding) {
+                addTypes(((MissingBinding) node).key(), types);
+            } else if (node instanceof ComponentNode) {
+                ((ComponentNode) node).entryPoints().forEach(request -> addTypes(request, types));
+            }
+        }
+        return typeDeclarations().describe(types);
+    }
+
+    private TypeDeclarations typeDeclarations() {
+        if (typeDeclarations == null) {
+            typeDeclarations = new TypeDeclarations(sourceTypes(processingEnv));
+        }
+        return typeDeclarations;
+    }
+
+    /** Returns whether a type is compiled from source, rather than read from the classpath. */
+    private static Predicate<TypeElement> sourceTypes(XProcessingEnv processingEnv) {
+        try {
+            Trees trees = Trees.instance(XConverters.toJavac(processingEnv));
+            return type -> trees.getTree(type) != null;
+        } catch (RuntimeException | LinkageError e) {
+            // Not javac: classpath types cannot be told apart, so every type is described in full.
+            return type -> true;
+        }
+    }
+
+    private static void addTypes(DependencyRequest request, Set<TypeElement> types) {
+        addTypes(request.key(), types);
+        request.requestElement().ifPresent(element -> types.add(declaringType(element.java())));
+    }
+
+    private static void addTypes(Key key, Set<TypeElement> types) {
+        TypeDeclarations.addTypes(key.type().java(), types);
+        key.qualifier().ifPresent(qualifier -> TypeDeclarations.addTypes(qualifier.java(), types));
+    }
+
+    private static TypeElement declaringType(Element element) {
+        Element current = element;
+        while (!isType(current)) {
+            current = current.getEnclosingElement();
+        }
+        return asType(current);
+    }
+
+    /**
+     * The version of the processor: a hash of the jar it was loaded from, which changes with every
+     * Dagger release and every local build of it. Absent if the processor was not loaded from a jar.
+     */
+    private static final class ProcessorVersion {
+        static final Optional<String> VERSION = processorVersion();
+
+        private static Optional<String> processorVersion() {
+            try {
+                CodeSource codeSource =
+                        BindingGraphValidationCache.class.getProtectionDomain().getCodeSource();
+                if (codeSource == null || codeSource.getLocation() == null) {
+                    return Optional.empty();
+                }
+                File jar = new File(codeSource.getLocation().toURI());
+                if (!jar.isFile()) {
+                    return Optional.empty();
+                }
+                return Optional.of(Files.asByteSource(jar).hash(Hashing.sha256()).toString());
+            } catch (IOException | URISyntaxException | SecurityException | IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package dagger.internal.codegen.validation;
+
+
+import java.util.Map;
+
+import javax.annotation.Generated;
+import javax.inject.Provider;
+
+import androidx.room.compiler.processing.XProcessingEnv;
+import dagger.internal.DaggerGenerated;
+import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+
+@DaggerGenerated
+@Generated(
+        value = "dagger.internal.codegen.ComponentProcessor",
+        comments = "https://dagger.dev"
+)
+@SuppressWarnings({
+        "unchecked",
+        "rawtypes"
+})
+public final class BindingGraphValidationCache_Factory implements Factory<BindingGraphValidationCache> {
+    private final Provider<CompilerOptions> compilerOptionsProvider;
+
+    private final Provider<Map<String, String>> processingOptionsProvider;
+
+    private final Provider<ProcessingMetrics> metricsProvider;
+
+    private final Provider<XProcessingEnv> processingEnvProvider;
+
+    public BindingGraphValidationCache_Factory(
+            Provider<CompilerOptions> compilerOptionsProvider,
+            Provider<Map<String, String>> processingOptionsProvider,
+            Provider<ProcessingMetrics> metricsProvider,
+            Provider<XProcessingEnv> processingEnvProvider) {
+        this.compilerOptionsProvider = compilerOptionsProvider;
+        this.processingOptionsProvider = processingOptionsProvider;
+        this.metricsProvider = metricsProvider;
+        this.processingEnvProvider = processingEnvProvider;
+    }
+
+    @Override
+    public BindingGraphValidationCache get() {
+        return newInstance(compilerOptionsProvider.get(), processingOptionsProvider.get(), metricsProvider.get(), processingEnvProvider.get());
+    }
+
+    public static BindingGraphValidationCache_Factory create(
+            Provider<CompilerOptions> compilerOptionsProvider,
+            Provider<Map<String, String>> processingOptionsProvider,
+            Provider<ProcessingMetrics> metricsProvider,
+            Provider<XProcessingEnv> processingEnvProvider) {
+        return new BindingGraphValidationCache_Factory(compilerOptionsProvider, processingOptionsProvider, metricsProvider, processingEnvProvider);
+    }
+
+    public static BindingGraphValidationCache newInstance(CompilerOptions compilerOptions,
+                                                          Map<String, String> processingOptions, ProcessingMetrics metrics,
+                                                          XProcessingEnv processingEnv) {
+        return new BindingGraphValidationCache(compilerOptions, processingOptions, metrics, processingEnv);
+    }
+}
@@ -1,14 +1,18 @@
 package dagger.internal.codegen.validation;
 
+import com.google.common.collect.ImmutableSet;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
 
 import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.compileroption.ValidationType;
 import dagger.spi.model.BindingGraph;
 
+import static javax.tools.Diagnostic.Kind.ERROR;
+
 /**
  * Validates a {@link BindingGraph}.
  */
@@ -17,15 +21,18 @@ public final class BindingGraphValidator {
     private final ValidationBindingGraphPlugins validationPlugins;
     private final ExternalBindingGraphPlugins externalPlugins;
     private final CompilerOptions compilerOptions;
+    private final BindingGraphValidationCache validationCache;
 
     @Inject
     BindingGraphValidator(
             ValidationBindingGraphPlugins validationPlugins,
             ExternalBindingGraphPlugins externalPlugins,
-            CompilerOptions compilerOptions) {
+            CompilerOptions compilerOptions,
+            BindingGraphValidationCache validationCache) {
         this.validationPlugins = validationPlugins;
         this.externalPlugins = externalPlugins;
         this.compilerOptions = compilerOptions;
+        this.validationCache = validationCache;
     }
 
     /**
@@ -53,7 +60,14 @@ public final class BindingGraphValidator {
             return true;
         }
 
-        return validationPlugins.visit(graph);
+        if (validationCache.isKnownClean(graph)) {
+            return true;
+        }
+        ImmutableSet<Diagnostic.Kind> reportedDiagnosticKinds = validationPlugins.visitAndReport(graph);
+        if (reportedDiagnosticKinds.isEmpty()) {
+            validationCache.recordClean(graph);
+        }
+        return !reportedDiagnosticKinds.contains(ERROR);
     }
 
     /** Returns {@code true} if external plugins report no errors. */
@@ -24,29 +24,35 @@ public final class BindingGraphValidator_Factory implements Factory<BindingGraph
 
     private final Provider<CompilerOptions> compilerOptionsProvider;
 
+    private final Provider<BindingGraphValidationCache> validationCacheProvider;
+
     public BindingGraphValidator_Factory(
             Provider<ValidationBindingGraphPlugins> validationPluginsProvider,
             Provider<ExternalBindingGraphPlugins> externalPluginsProvider,
-            Provider<CompilerOptions> compilerOptionsProvider) {
+            Provider<CompilerOptions> compilerOptionsProvider,
+            Provider<BindingGraphValidationCache> validationCacheProvider) {
         this.validationPluginsProvider = validationPluginsProvider;
         this.externalPluginsProvider = externalPluginsProvider;
         this.compilerOptionsProvider = compilerOptionsProvider;
+        this.validationCacheProvider = validationCacheProvider;
     }
 
     @Override
     public BindingGraphValidator get() {
-        return newInstance(validationPluginsProvider.get(), externalPluginsProvider.get(), compilerOptionsProvider.get());
+        return newInstance(validationPluginsProvider.get(), externalPluginsProvider.get(), compilerOptionsProvider.get(), validationCacheProvider.get());
     }
 
     public static BindingGraphValidator_Factory create(
             Provider<ValidationBindingGraphPlugins> validationPluginsProvider,
             Provider<ExternalBindingGraphPlugins> externalPluginsProvider,
-            Provider<CompilerOptions> compilerOptionsProvider) {
-        return new BindingGraphValidator_Factory(validationPluginsProvider, externalPluginsProvider, compilerOptionsProvider);
+            Provider<CompilerOptions> compilerOptionsProvider,
+            Provider<BindingGraphValidationCache> validationCacheProvider) {
+        return new BindingGraphValidator_Factory(validationPluginsProvider, externalPluginsProvider, compilerOptionsProvider, validationCacheProvider);
     }
 
     public static BindingGraphValidator newInstance(ValidationBindingGraphPlugins validationPlugins,
-                                                    ExternalBindingGraphPlugins externalPlugins, CompilerOptions compilerOptions) {
-        return new BindingGraphValidator(validationPlugins, externalPlugins, compilerOptions);
+                                                    ExternalBindingGraphPlugins externalPlugins, CompilerOptions compilerOptions,
+                                                    BindingGraphValidationCache validationCache) {
+        return new BindingGraphValidator(validationPlugins, externalPlugins, compilerOptions, validationCache);
     }
 }
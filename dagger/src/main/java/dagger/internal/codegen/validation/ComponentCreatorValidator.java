@@ -48,6 +48,7 @@ public final class ComponentCreatorValidator implements ClearableCache {
 
     private final DaggerElements elements;
     private final DaggerTypes types;
+    private final RetainedValidationReports retainedReports;
     private final Map<TypeElement, ValidationReport> reports = new HashMap<>();
     private final KotlinMetadataUtil metadataUtil;
 
@@ -55,11 +56,13 @@ public final class ComponentCreatorValidator implements ClearableCache {
     ComponentCreatorValidator(
             DaggerElements elements,
             DaggerTypes types,
-            KotlinMetadataUtil metadataUtil
+            KotlinMetadataUtil metadataUtil,
+            RetainedValidationReports retainedReports
     ) {
         this.elements = elements;
         this.types = types;
         this.metadataUtil = metadataUtil;
+        this.retainedReports = retainedReports;
     }
 
     @Override
@@ -74,7 +77,11 @@ public final class ComponentCreatorValidator implements ClearableCache {
      * 校验入口，校验使用Builder或Factory注解的节点
      */
     public ValidationReport validate(TypeElement type) {
-        return reentrantComputeIfAbsent(reports, type, this::validateUncached);
+        return reentrantComputeIfAbsent(
+                reports,
+                type,
+                element ->
+                        retainedReports.validate("componentCreator", element, this::validateUncached));
     }
 
     private ValidationReport validateUncached(TypeElement type) {
@@ -26,25 +26,31 @@ public final class ComponentCreatorValidator_Factory implements Factory<Componen
 
     private final Provider<KotlinMetadataUtil> metadataUtilProvider;
 
+    private final Provider<RetainedValidationReports> retainedReportsProvider;
+
     public ComponentCreatorValidator_Factory(Provider<DaggerElements> elementsProvider,
-                                             Provider<DaggerTypes> typesProvider, Provider<KotlinMetadataUtil> metadataUtilProvider) {
+                                             Provider<DaggerTypes> typesProvider, Provider<KotlinMetadataUtil> metadataUtilProvider,
+                                             Provider<RetainedValidationReports> retainedReportsProvider) {
         this.elementsProvider = elementsProvider;
         this.typesProvider = typesProvider;
         this.metadataUtilProvider = metadataUtilProvider;
+        this.retainedReportsProvider = retainedReportsProvider;
     }
 
     @Override
     public ComponentCreatorValidator get() {
-        return newInstance(elementsProvider.get(), typesProvider.get(), metadataUtilProvider.get());
+        return newInstance(elementsProvider.get(), typesProvider.get(), metadataUtilProvider.get(), retainedReportsProvider.get());
     }
 
     public static ComponentCreatorValidator_Factory create(Provider<DaggerElements> elementsProvider,
-                                                           Provider<DaggerTypes> typesProvider, Provider<KotlinMetadataUtil> metadataUtilProvider) {
-        return new ComponentCreatorValidator_Factory(elementsProvider, typesProvider, metadataUtilProvider);
+                                                           Provider<DaggerTypes> typesProvider, Provider<KotlinMetadataUtil> metadataUtilProvider,
+                                                           Provider<RetainedValidationReports> retainedReportsProvider) {
+        return new ComponentCreatorValidator_Factory(elementsProvider, typesProvider, metadataUtilProvider, retainedReportsProvider);
     }
 
     public static ComponentCreatorValidator newInstance(DaggerElements elements, DaggerTypes types,
-                                                        KotlinMetadataUtil metadataUtil) {
-        return new ComponentCreatorValidator(elements, types, metadataUtil);
+                                                        KotlinMetadataUtil metadataUtil,
+                                                        RetainedValidationReports retainedReports) {
+        return new ComponentCreatorValidator(elements, types, metadataUtil, retainedReports);
     }
 }
@@ -98,6 +98,7 @@ public final class ComponentValidator implements ClearableCache {
     private final MembersInjectionValidator membersInjectionValidator;
     private final MethodSignatureFormatter methodSignatureFormatter;
     private final DependencyRequestFactory dependencyRequestFactory;
+    private final RetainedValidationReports retainedReports;
     private final Map<TypeElement, ValidationReport> reports = new HashMap<>();
     private final KotlinMetadataUtil metadataUtil;
 
@@ -111,7 +112,8 @@ public final class ComponentValidator implements ClearableCache {
             MembersInjectionValidator membersInjectionValidator,
             MethodSignatureFormatter methodSignatureFormatter,
             DependencyRequestFactory dependencyRequestFactory,
-            KotlinMetadataUtil metadataUtil) {
+            KotlinMetadataUtil metadataUtil,
+            RetainedValidationReports retainedReports) {
         this.elements = elements;
         this.types = types;
         this.moduleValidator = moduleValidator;
@@ -121,6 +123,7 @@ public final class ComponentValidator implements ClearableCache {
         this.methodSignatureFormatter = methodSignatureFormatter;
         this.dependencyRequestFactory = dependencyRequestFactory;
         this.metadataUtil = metadataUtil;
+        this.retainedReports = retainedReports;
     }
 
     @Override
@@ -134,7 +137,10 @@ public final class ComponentValidator implements ClearableCache {
      * 校验入口，校验使用(Production)(Sub)Component注解的节点
      */
     public ValidationReport validate(TypeElement component) {
-        return reentrantComputeIfAbsent(reports, component, this::validateUncached);
+        return reentrantComputeIfAbsent(
+                reports,
+                component,
+                element -> retainedReports.validate("component", element, this::validateUncached));
     }
 
     private ValidationReport validateUncached(TypeElement component) {
@@ -39,6 +39,8 @@ public final class ComponentValidator_Factory implements Factory<ComponentValida
 
     private final Provider<KotlinMetadataUtil> metadataUtilProvider;
 
+    private final Provider<RetainedValidationReports> retainedReportsProvider;
+
     public ComponentValidator_Factory(Provider<DaggerElements> elementsProvider,
                                       Provider<DaggerTypes> typesProvider, Provider<ModuleValidator> moduleValidatorProvider,
                                       Provider<ComponentCreatorValidator> creatorValidatorProvider,
@@ -46,7 +48,8 @@ public final class ComponentValidator_Factory implements Factory<ComponentValida
                                       Provider<MembersInjectionValidator> membersInjectionValidatorProvider,
                                       Provider<MethodSignatureFormatter> methodSignatureFormatterProvider,
                                       Provider<DependencyRequestFactory> dependencyRequestFactoryProvider,
-                                      Provider<KotlinMetadataUtil> metadataUtilProvider) {
+                                      Provider<KotlinMetadataUtil> metadataUtilProvider,
+                                      Provider<RetainedValidationReports> retainedReportsProvider) {
         this.elementsProvider = elementsProvider;
         this.typesProvider = typesProvider;
         this.moduleValidatorProvider = moduleValidatorProvider;
@@ -56,11 +59,12 @@ public final class ComponentValidator_Factory implements Factory<ComponentValida
         this.methodSignatureFormatterProvider = methodSignatureFormatterProvider;
         this.dependencyRequestFactoryProvider = dependencyRequestFactoryProvider;
         this.metadataUtilProvider = metadataUtilProvider;
+        this.retainedReportsProvider = retainedReportsProvider;
     }
 
     @Override
     public ComponentValidator get() {
-        return newInstance(elementsProvider.get(), typesProvider.get(), moduleValidatorProvider.get(), creatorValidatorProvider.get(), dependencyRequestValidatorProvider.get(), membersInjectionValidatorProvider.get(), methodSignatureFormatterProvider.get(), dependencyRequestFactoryProvider.get(), metadataUtilProvider.get());
+        return newInstance(elementsProvider.get(), typesProvider.get(), moduleValidatorProvider.get(), creatorValidatorProvider.get(), dependencyRequestValidatorProvider.get(), membersInjectionValidatorProvider.get(), methodSignatureFormatterProvider.get(), dependencyRequestFactoryProvider.get(), metadataUtilProvider.get(), retainedReportsProvider.get());
     }
 
     public static ComponentValidator_Factory create(Provider<DaggerElements> elementsProvider,
@@ -70,15 +74,17 @@ public final class ComponentValidator_Factory implements Factory<ComponentValida
                                                     Provider<MembersInjectionValidator> membersInjectionValidatorProvider,
                                                     Provider<MethodSignatureFormatter> methodSignatureFormatterProvider,
                                                     Provider<DependencyRequestFactory> dependencyRequestFactoryProvider,
-                                                    Provider<KotlinMetadataUtil> metadataUtilProvider) {
-        return new ComponentValidator_Factory(elementsProvider, typesProvider, moduleValidatorProvider, creatorValidatorProvider, dependencyRequestValidatorProvider, membersInjectionValidatorProvider, methodSignatureFormatterProvider, dependencyRequestFactoryProvider, metadataUtilProvider);
+                                                    Provider<KotlinMetadataUtil> metadataUtilProvider,
+                                                    Provider<RetainedValidationReports> retainedReportsProvider) {
+        return new ComponentValidator_Factory(elementsProvider, typesProvider, moduleValidatorProvider, creatorValidatorProvider, dependencyRequestValidatorProvider, membersInjectionValidatorProvider, methodSignatureFormatterProvider, dependencyRequestFactoryProvider, metadataUtilProvider, retainedReportsProvider);
     }
 
     public static ComponentValidator newInstance(DaggerElements elements, DaggerTypes types,
                                                  ModuleValidator moduleValidator, ComponentCreatorValidator creatorValidator,
                                                  Object dependencyRequestValidator, Object membersInjectionValidator,
                                                  MethodSignatureFormatter methodSignatureFormatter,
-                                                 DependencyRequestFactory dependencyRequestFactory, KotlinMetadataUtil metadataUtil) {
-        return new ComponentValidator(elements, types, moduleValidator, creatorValidator, (DependencyRequestValidator) dependencyRequestValidator, (MembersInjectionValidator) membersInjectionValidator, methodSignatureFormatter, dependencyRequestFactory, metadataUtil);
+                                                 DependencyRequestFactory dependencyRequestFactory, KotlinMetadataUtil metadataUtil,
+                                                 RetainedValidationReports retainedReports) {
+        return new ComponentValidator(elements, types, moduleValidator, creatorValidator, (DependencyRequestValidator) dependencyRequestValidator, (MembersInjectionValidator) membersInjectionValidator, methodSignatureFormatter, dependencyRequestFactory, metadataUtil, retainedReports);
     }
 }
@@ -11,6 +11,7 @@ import javax.inject.Inject;
 
 import androidx.room.compiler.processing.XFiler;
 import androidx.room.compiler.processing.compat.XConverters;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.compileroption.ProcessingOptions;
 import dagger.internal.codegen.langmodel.DaggerElements;
 import dagger.internal.codegen.langmodel.DaggerTypes;
@@ -32,6 +33,7 @@ public final class ExternalBindingGraphPlugins {
     private final DaggerTypes types;
     private final DaggerElements elements;
     private final Map<String, String> processingOptions;
+    private final ProcessingMetrics metrics;
 
     @Inject
     ExternalBindingGraphPlugins(
@@ -40,13 +42,15 @@ public final class ExternalBindingGraphPlugins {
             XFiler filer,
             DaggerTypes types,
             DaggerElements elements,
-            @ProcessingOptions Map<String, String> processingOptions) {
+            @ProcessingOptions Map<String, String> processingOptions,
+            ProcessingMetrics metrics) {
         this.plugins = plugins;
         this.diagnosticReporterFactory = diagnosticReporterFactory;
         this.filer = filer;
         this.types = types;
         this.elements = elements;
         this.processingOptions = processingOptions;
+        this.metrics = metrics;
     }
 
     /** Returns {@link BindingGraphPlugin#supportedOptions()} from all the plugins. */
@@ -72,16 +76,25 @@ public final class ExternalBindingGraphPlugins {
         }
     }
 
-    /** Returns {@code false} if any of the plugins reported an error. */
+    /**
+     * Returns {@code false} if any of the plugins reported an error. The conversion of the graph is
+     * timed as the {@code externalPlugins} phase, and each plugin as the {@code plugin} phase.
+     */
     boolean visit(dagger.spi.model.BindingGraph spiGraph) {
-        BindingGraph graph = ExternalBindingGraphConverter.fromSpiModel(spiGraph);
+        BindingGraph graph;
+        try (ProcessingMetrics.Span span = metrics.start("externalPlugins", "convert")) {
+            graph = ExternalBindingGraphConverter.fromSpiModel(spiGraph);
+        }
         boolean isClean = true;
         for (BindingGraphPlugin plugin : plugins) {
-            DiagnosticReporterFactory.DiagnosticReporterImpl spiReporter =
-                    diagnosticReporterFactory.reporter(
-                            spiGraph, plugin.pluginName(), /* reportErrorsAsWarnings= */ false);
-            DiagnosticReporter reporter = ExternalBindingGraphConverter.fromSpiModel(spiReporter);
-//            plugin.visitGraph(graph, reporter);
+            DiagnosticReporterFactory.DiagnosticReporterImpl spiReporter;
+            try (ProcessingMetrics.Span span = metrics.start("plugin", plugin.pluginName())) {
+                spiReporter =
+                        diagnosticReporterFactory.reporter(
+                                spiGraph, plugin.pluginName(), /* reportErrorsAsWarnings= */ false);
+                DiagnosticReporter reporter = ExternalBindingGraphConverter.fromSpiModel(spiReporter);
+//                plugin.visitGraph(graph, reporter);
+            }
             if (spiReporter.reportedDiagnosticKinds().contains(ERROR)) {
                 isClean = false;
             }
@@ -10,6 +10,7 @@ import javax.inject.Provider;
 import androidx.room.compiler.processing.XFiler;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.langmodel.DaggerElements;
 import dagger.internal.codegen.langmodel.DaggerTypes;
 import dagger.spi.model.BindingGraphPlugin;
@@ -36,23 +37,27 @@ public final class ExternalBindingGraphPlugins_Factory implements Factory<Extern
 
     private final Provider<Map<String, String>> processingOptionsProvider;
 
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public ExternalBindingGraphPlugins_Factory(
             Provider<ImmutableSet<BindingGraphPlugin>> pluginsProvider,
             Provider<DiagnosticReporterFactory> diagnosticReporterFactoryProvider,
             Provider<XFiler> filerProvider, Provider<DaggerTypes> typesProvider,
             Provider<DaggerElements> elementsProvider,
-            Provider<Map<String, String>> processingOptionsProvider) {
+            Provider<Map<String, String>> processingOptionsProvider,
+            Provider<ProcessingMetrics> metricsProvider) {
         this.pluginsProvider = pluginsProvider;
         this.diagnosticReporterFactoryProvider = diagnosticReporterFactoryProvider;
         this.filerProvider = filerProvider;
         this.typesProvider = typesProvider;
         this.elementsProvider = elementsProvider;
         this.processingOptionsProvider = processingOptionsProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
     public ExternalBindingGraphPlugins get() {
-        return newInstance(pluginsProvider.get(), diagnosticReporterFactoryProvider.get(), filerProvider.get(), typesProvider.get(), elementsProvider.get(), processingOptionsProvider.get());
+        return newInstance(pluginsProvider.get(), diagnosticReporterFactoryProvider.get(), filerProvider.get(), typesProvider.get(), elementsProvider.get(), processingOptionsProvider.get(), metricsProvider.get());
     }
 
     public static ExternalBindingGraphPlugins_Factory create(
@@ -60,13 +65,14 @@ public final class ExternalBindingGraphPlugins_Factory implements Factory<Extern
             Provider<DiagnosticReporterFactory> diagnosticReporterFactoryProvider,
             Provider<XFiler> filerProvider, Provider<DaggerTypes> typesProvider,
             Provider<DaggerElements> elementsProvider,
-            Provider<Map<String, String>> processingOptionsProvider) {
-        return new ExternalBindingGraphPlugins_Factory(pluginsProvider, diagnosticReporterFactoryProvider, filerProvider, typesProvider, elementsProvider, processingOptionsProvider);
+            Provider<Map<String, String>> processingOptionsProvider,
+            Provider<ProcessingMetrics> metricsProvider) {
+        return new ExternalBindingGraphPlugins_Factory(pluginsProvider, diagnosticReporterFactoryProvider, filerProvider, typesProvider, elementsProvider, processingOptionsProvider, metricsProvider);
     }
 
     public static ExternalBindingGraphPlugins newInstance(ImmutableSet<BindingGraphPlugin> plugins,
                                                           Object diagnosticReporterFactory, XFiler filer, DaggerTypes types, DaggerElements elements,
-                                                          Map<String, String> processingOptions) {
-        return new ExternalBindingGraphPlugins(plugins, (DiagnosticReporterFactory) diagnosticReporterFactory, filer, types, elements, processingOptions);
+                                                          Map<String, String> processingOptions, ProcessingMetrics metrics) {
+        return new ExternalBindingGraphPlugins(plugins, (DiagnosticReporterFactory) diagnosticReporterFactory, filer, types, elements, processingOptions, metrics);
     }
 }
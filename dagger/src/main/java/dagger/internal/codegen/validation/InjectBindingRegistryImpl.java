@@ -30,6 +30,7 @@ import dagger.MembersInjector;
 import dagger.Provides;
 import dagger.internal.codegen.base.SourceFileGenerationException;
 import dagger.internal.codegen.base.SourceFileGenerator;
+import dagger.internal.codegen.base.SourceFileWriter;
 import dagger.internal.codegen.binding.Binding;
 import dagger.internal.codegen.binding.BindingFactory;
 import dagger.internal.codegen.binding.InjectBindingRegistry;
@@ -69,6 +70,7 @@ final class InjectBindingRegistryImpl implements InjectBindingRegistry {
     private final KeyFactory keyFactory;
     private final BindingFactory bindingFactory;
     private final CompilerOptions compilerOptions;
+    private final SourceFileWriter sourceFileWriter;
 
     //绑定收集器,并且生成代码
     final class BindingsCollection<B extends Binding> {
@@ -90,26 +92,55 @@ final class InjectBindingRegistryImpl implements InjectBindingRegistry {
 
         //遍历bindingsRequiringGeneration，先校验binding.key里面的java类型（Inject校验），校验通过生成代码
         void generateBindings(SourceFileGenerator<B> generator) throws SourceFileGenerationException {
-            //
-            for (B binding = bindingsRequiringGeneration.poll();
-                 binding != null;
-                 binding = bindingsRequiringGeneration.poll()) {
-
-                //绑定中不存在未解析情况
-                checkState(!binding.unresolved().isPresent());
-
-                //binding.key里面包含的java类型如果进行Inject校验（校验java类型的构造函数使用Inject情况，变量和方法）
-                if (injectValidatorWhenGeneratingCode.isValidType(binding.key().type().java())) {
-                    generator.generate(binding);
+            if (sourceFileWriter.isConcurrent()) {
+                generateBindingsConcurrently(generator);
+            } else {
+                for (B binding = bindingsRequiringGeneration.poll();
+                     binding != null;
+                     binding = bindingsRequiringGeneration.poll()) {
+
+                    //绑定中不存在未解析情况
+                    checkState(!binding.unresolved().isPresent());
+
+                    //binding.key里面包含的java类型如果进行Inject校验（校验java类型的构造函数使用Inject情况，变量和方法）
+                    if (injectValidatorWhenGeneratingCode.isValidType(binding.key().type().java())) {
+                        generator.generate(binding);
+                    }
+
+                    materializedBindingKeys.add(binding.key());
                 }
-
-                materializedBindingKeys.add(binding.key());
             }
             // Because Elements instantiated across processing rounds are not guaranteed to be equals() to
             // the logically same element, clear the cache after generating
             bindingsByKey.clear();
         }
 
+        /**
+         * Like the loop of {@link #generateBindings}, but the files are rendered concurrently by a
+         * {@link SourceFileWriter.Batch}, so a failure may be found after later bindings were polled.
+         * Those are still written, and the bindings after the first failure stay queued for the next
+         * round, as they do without the batch. A binding's key is only materialized once its files
+         * have been written.
+         */
+        private void generateBindingsConcurrently(SourceFileGenerator<B> generator)
+                throws SourceFileGenerationException {
+            try (SourceFileWriter.Batch batch = sourceFileWriter.batch()) {
+                while (!batch.failed()) {
+                    B binding = bindingsRequiringGeneration.poll();
+                    if (binding == null) {
+                        break;
+                    }
+                    checkState(!binding.unresolved().isPresent());
+                    if (injectValidatorWhenGeneratingCode.isValidType(binding.key().type().java())) {
+                        generator.generate(binding, batch, () -> materializedBindingKeys.add(binding.key()));
+                    } else {
+                        materializedBindingKeys.add(binding.key());
+                    }
+                }
+                batch.flush();
+            }
+        }
+
         /**
          * Returns a previously cached binding.
          */
@@ -205,7 +236,8 @@ final class InjectBindingRegistryImpl implements InjectBindingRegistry {
             InjectValidator injectValidator,
             KeyFactory keyFactory,
             BindingFactory bindingFactory,
-            CompilerOptions compilerOptions) {
+            CompilerOptions compilerOptions,
+            SourceFileWriter sourceFileWriter) {
 
         this.elements = elements;
         this.types = types;
@@ -215,6 +247,7 @@ final class InjectBindingRegistryImpl implements InjectBindingRegistry {
         this.keyFactory = keyFactory;
         this.bindingFactory = bindingFactory;
         this.compilerOptions = compilerOptions;
+        this.sourceFileWriter = sourceFileWriter;
     }
 
     // TODO(dpb): make the SourceFileGenerators fields so they don't have to be passed in
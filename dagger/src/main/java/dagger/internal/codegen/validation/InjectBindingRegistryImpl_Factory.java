@@ -7,6 +7,7 @@ import javax.inject.Provider;
 import androidx.room.compiler.processing.XMessager;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.SourceFileWriter;
 import dagger.internal.codegen.binding.BindingFactory;
 import dagger.internal.codegen.binding.KeyFactory;
 import dagger.internal.codegen.compileroption.CompilerOptions;
@@ -37,11 +38,14 @@ public final class InjectBindingRegistryImpl_Factory implements Factory<InjectBi
 
     private final Provider<CompilerOptions> compilerOptionsProvider;
 
+    private final Provider<SourceFileWriter> sourceFileWriterProvider;
+
     public InjectBindingRegistryImpl_Factory(Provider<DaggerElements> elementsProvider,
                                              Provider<DaggerTypes> typesProvider, Provider<XMessager> messagerProvider,
                                              Provider<InjectValidator> injectValidatorProvider, Provider<KeyFactory> keyFactoryProvider,
                                              Provider<BindingFactory> bindingFactoryProvider,
-                                             Provider<CompilerOptions> compilerOptionsProvider) {
+                                             Provider<CompilerOptions> compilerOptionsProvider,
+                                             Provider<SourceFileWriter> sourceFileWriterProvider) {
         this.elementsProvider = elementsProvider;
         this.typesProvider = typesProvider;
         this.messagerProvider = messagerProvider;
@@ -49,24 +53,27 @@ public final class InjectBindingRegistryImpl_Factory implements Factory<InjectBi
         this.keyFactoryProvider = keyFactoryProvider;
         this.bindingFactoryProvider = bindingFactoryProvider;
         this.compilerOptionsProvider = compilerOptionsProvider;
+        this.sourceFileWriterProvider = sourceFileWriterProvider;
     }
 
     @Override
     public InjectBindingRegistryImpl get() {
-        return newInstance(elementsProvider.get(), typesProvider.get(), messagerProvider.get(), injectValidatorProvider.get(), keyFactoryProvider.get(), bindingFactoryProvider.get(), compilerOptionsProvider.get());
+        return newInstance(elementsProvider.get(), typesProvider.get(), messagerProvider.get(), injectValidatorProvider.get(), keyFactoryProvider.get(), bindingFactoryProvider.get(), compilerOptionsProvider.get(), sourceFileWriterProvider.get());
     }
 
     public static InjectBindingRegistryImpl_Factory create(Provider<DaggerElements> elementsProvider,
                                                            Provider<DaggerTypes> typesProvider, Provider<XMessager> messagerProvider,
                                                            Provider<InjectValidator> injectValidatorProvider, Provider<KeyFactory> keyFactoryProvider,
                                                            Provider<BindingFactory> bindingFactoryProvider,
-                                                           Provider<CompilerOptions> compilerOptionsProvider) {
-        return new InjectBindingRegistryImpl_Factory(elementsProvider, typesProvider, messagerProvider, injectValidatorProvider, keyFactoryProvider, bindingFactoryProvider, compilerOptionsProvider);
+                                                           Provider<CompilerOptions> compilerOptionsProvider,
+                                                           Provider<SourceFileWriter> sourceFileWriterProvider) {
+        return new InjectBindingRegistryImpl_Factory(elementsProvider, typesProvider, messagerProvider, injectValidatorProvider, keyFactoryProvider, bindingFactoryProvider, compilerOptionsProvider, sourceFileWriterProvider);
     }
 
     public static InjectBindingRegistryImpl newInstance(DaggerElements elements, DaggerTypes types,
                                                         XMessager messager, InjectValidator injectValidator, KeyFactory keyFactory,
-                                                        BindingFactory bindingFactory, CompilerOptions compilerOptions) {
-        return new InjectBindingRegistryImpl(elements, types, messager, injectValidator, keyFactory, bindingFactory, compilerOptions);
+                                                        BindingFactory bindingFactory, CompilerOptions compilerOptions,
+                                                        SourceFileWriter sourceFileWriter) {
+        return new InjectBindingRegistryImpl(elements, types, messager, injectValidator, keyFactory, bindingFactory, compilerOptions, sourceFileWriter);
     }
 }
@@ -58,6 +58,7 @@ public final class InjectValidator implements ClearableCache {
     private final Optional<Diagnostic.Kind> privateAndStaticInjectionDiagnosticKind;
     private final InjectionAnnotations injectionAnnotations;
     private final KotlinMetadataUtil metadataUtil;
+    private final RetainedValidationReports retainedReports;
     private final Map<ExecutableElement, ValidationReport> reports = new HashMap<>();
 
     @Inject
@@ -67,7 +68,8 @@ public final class InjectValidator implements ClearableCache {
             DependencyRequestValidator dependencyRequestValidator,
             CompilerOptions compilerOptions,
             InjectionAnnotations injectionAnnotations,
-            KotlinMetadataUtil metadataUtil
+            KotlinMetadataUtil metadataUtil,
+            RetainedValidationReports retainedReports
     ) {
         this(
                 types,
@@ -76,7 +78,8 @@ public final class InjectValidator implements ClearableCache {
                 dependencyRequestValidator,
                 Optional.empty(),
                 injectionAnnotations,
-                metadataUtil);
+                metadataUtil,
+                retainedReports);
     }
 
     private InjectValidator(
@@ -86,7 +89,8 @@ public final class InjectValidator implements ClearableCache {
             DependencyRequestValidator dependencyRequestValidator,
             Optional<Diagnostic.Kind> privateAndStaticInjectionDiagnosticKind,
             InjectionAnnotations injectionAnnotations,
-            KotlinMetadataUtil metadataUtil) {
+            KotlinMetadataUtil metadataUtil,
+            RetainedValidationReports retainedReports) {
         this.types = types;
         this.elements = elements;
         this.compilerOptions = compilerOptions;
@@ -94,6 +98,7 @@ public final class InjectValidator implements ClearableCache {
         this.privateAndStaticInjectionDiagnosticKind = privateAndStaticInjectionDiagnosticKind;
         this.injectionAnnotations = injectionAnnotations;
         this.metadataUtil = metadataUtil;
+        this.retainedReports = retainedReports;
     }
 
     @Override
@@ -120,12 +125,23 @@ public final class InjectValidator implements ClearableCache {
                 dependencyRequestValidator,
                 Optional.of(Diagnostic.Kind.ERROR),
                 injectionAnnotations,
-                metadataUtil);
+                metadataUtil,
+                retainedReports);
     }
 
     //入口1：从如果节点是构造函数开始校验
     public ValidationReport validateConstructor(ExecutableElement constructorElement) {
-        return Util.reentrantComputeIfAbsent(reports, constructorElement, this::validateConstructorUncached);
+        return Util.reentrantComputeIfAbsent(
+                reports,
+                constructorElement,
+                element ->
+                        retainedReports.validate(
+                                // The validator for generated code reports more, so it is kept apart.
+                                privateAndStaticInjectionDiagnosticKind.isPresent()
+                                        ? "injectWhenGeneratingCode"
+                                        : "inject",
+                                element,
+                                this::validateConstructorUncached));
     }
 
     //未缓存情况下执行该方法，并且存储于reports
@@ -34,23 +34,27 @@ public final class InjectValidator_Factory implements Factory<InjectValidator> {
 
     private final Provider<KotlinMetadataUtil> metadataUtilProvider;
 
+    private final Provider<RetainedValidationReports> retainedReportsProvider;
+
     public InjectValidator_Factory(Provider<DaggerTypes> typesProvider,
                                    Provider<DaggerElements> elementsProvider,
                                    Provider<DependencyRequestValidator> dependencyRequestValidatorProvider,
                                    Provider<CompilerOptions> compilerOptionsProvider,
                                    Provider<InjectionAnnotations> injectionAnnotationsProvider,
-                                   Provider<KotlinMetadataUtil> metadataUtilProvider) {
+                                   Provider<KotlinMetadataUtil> metadataUtilProvider,
+                                   Provider<RetainedValidationReports> retainedReportsProvider) {
         this.typesProvider = typesProvider;
         this.elementsProvider = elementsProvider;
         this.dependencyRequestValidatorProvider = dependencyRequestValidatorProvider;
         this.compilerOptionsProvider = compilerOptionsProvider;
         this.injectionAnnotationsProvider = injectionAnnotationsProvider;
         this.metadataUtilProvider = metadataUtilProvider;
+        this.retainedReportsProvider = retainedReportsProvider;
     }
 
     @Override
     public InjectValidator get() {
-        return newInstance(typesProvider.get(), elementsProvider.get(), dependencyRequestValidatorProvider.get(), compilerOptionsProvider.get(), injectionAnnotationsProvider.get(), metadataUtilProvider.get());
+        return newInstance(typesProvider.get(), elementsProvider.get(), dependencyRequestValidatorProvider.get(), compilerOptionsProvider.get(), injectionAnnotationsProvider.get(), metadataUtilProvider.get(), retainedReportsProvider.get());
     }
 
     public static InjectValidator_Factory create(Provider<DaggerTypes> typesProvider,
@@ -58,13 +62,15 @@ public final class InjectValidator_Factory implements Factory<InjectValidator> {
                                                  Provider<DependencyRequestValidator> dependencyRequestValidatorProvider,
                                                  Provider<CompilerOptions> compilerOptionsProvider,
                                                  Provider<InjectionAnnotations> injectionAnnotationsProvider,
-                                                 Provider<KotlinMetadataUtil> metadataUtilProvider) {
-        return new InjectValidator_Factory(typesProvider, elementsProvider, dependencyRequestValidatorProvider, compilerOptionsProvider, injectionAnnotationsProvider, metadataUtilProvider);
+                                                 Provider<KotlinMetadataUtil> metadataUtilProvider,
+                                                 Provider<RetainedValidationReports> retainedReportsProvider) {
+        return new InjectValidator_Factory(typesProvider, elementsProvider, dependencyRequestValidatorProvider, compilerOptionsProvider, injectionAnnotationsProvider, metadataUtilProvider, retainedReportsProvider);
     }
 
     public static InjectValidator newInstance(DaggerTypes types, DaggerElements elements,
                                               Object dependencyRequestValidator, CompilerOptions compilerOptions,
-                                              InjectionAnnotations injectionAnnotations, KotlinMetadataUtil metadataUtil) {
-        return new InjectValidator(types, elements, (DependencyRequestValidator) dependencyRequestValidator, compilerOptions, injectionAnnotations, metadataUtil);
+                                              InjectionAnnotations injectionAnnotations, KotlinMetadataUtil metadataUtil,
+                                              RetainedValidationReports retainedReports) {
+        return new InjectValidator(types, elements, (DependencyRequestValidator) dependencyRequestValidator, compilerOptions, injectionAnnotations, metadataUtil, retainedReports);
     }
 }
@@ -13,6 +13,7 @@ import androidx.room.compiler.processing.XTypeElement;
 import androidx.room.compiler.processing.compat.XConverters;
 import dagger.Module;
 import dagger.Provides;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.binding.SourceFiles;
 import dagger.internal.codegen.langmodel.DaggerElements;
@@ -40,9 +41,10 @@ final class MonitoringModuleGenerator extends SourceFileGenerator<XTypeElement>
     MonitoringModuleGenerator(
             XFiler filer,
             DaggerElements elements,
-            SourceVersion sourceVersion
+            SourceVersion sourceVersion,
+            ProcessingMetrics metrics
     ) {
-        super(filer, elements, sourceVersion);
+        super(filer, elements, sourceVersion, metrics);
     }
 
     @Override
@@ -26,7 +26,10 @@ import dagger.internal.codegen.javapoet.TypeNames;
 import dagger.internal.codegen.kotlin.KotlinMetadataUtil;
 import dagger.internal.codegen.langmodel.DaggerElements;
 import dagger.internal.codegen.langmodel.DaggerTypes;
+import dagger.producers.Blocking;
+import dagger.producers.Inline;
 
+import static com.google.auto.common.MoreElements.isAnnotationPresent;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static dagger.internal.codegen.validation.BindingElementValidator.AllowsMultibindings.ALLOWS_MULTIBINDINGS;
 import static dagger.internal.codegen.validation.BindingElementValidator.AllowsScoping.NO_SCOPING;
@@ -83,6 +86,18 @@ final class ProducesMethodValidator extends BindingMethodValidator {
         @Override
         protected void checkAdditionalMethodProperties() {
             checkNullable();
+            checkInline();
+        }
+
+        /**
+         * Adds an error if a method is both {@link Inline @Inline}, i.e. run on the requesting thread,
+         * and {@link Blocking @Blocking}, i.e. run on a thread of its own.
+         */
+        private void checkInline() {
+            if (isAnnotationPresent(element, Inline.class)
+                    && isAnnotationPresent(element, Blocking.class)) {
+                report.addError("@Produces methods cannot be both @Inline and @Blocking");
+            }
         }
 
         /**
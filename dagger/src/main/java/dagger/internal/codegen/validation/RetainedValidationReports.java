@@ -0,0 +1,305 @@
+package dagger.internal.codegen.validation;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ErrorType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.SimpleAnnotationValueVisitor8;
+import javax.lang.model.util.SimpleTypeVisitor8;
+
+import androidx.room.compiler.processing.XElement;
+import androidx.room.compiler.processing.XRoundEnv;
+import androidx.room.compiler.processing.XTypeElement;
+import dagger.internal.codegen.base.ProcessingMetrics;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+
+import static com.google.auto.common.MoreElements.asType;
+import static com.google.auto.common.MoreElements.isType;
+
+/**
+ * Remembers, for the whole compilation, which elements from class files validated without any
+ * message, so that later processing rounds do not validate them again.
+ *
+ * <p>The validators' own caches are keyed by {@link Element}s, which are not guaranteed to be the
+ * same objects in different rounds, so they are cleared after every round. An element from a class
+ * file cannot change during a compilation, though, and a multi-round build (with Hilt or another
+ * generator) validates the same classpath constructors, binding methods and components in every
+ * round. This cache keeps a stable identity of those elements — the qualified name of a type, and
+ * the name and signature of a member — and no elements or reports. A later round that finds the
+ * identity gets a new, empty report about its own element.
+ *
+ * <p>An element is from a class file if its top-level type was not a root element of any round
+ * so far. Because the roots of a round are only known when it ends, a round's reports are only
+ * retained once it has ended. Reports with any item, even a warning, are not retained, nor are
+ * those of elements that refer to a type that does not exist yet, since that type may be generated
+ * later and change the result: in their signature or annotation values, or for a type in those of
+ * its members, nested types and supertypes.
+ *
+ * <p>The counts are kept here and reported to the metrics once per round. Validators run on the
+ * processing thread; the collections are concurrent only so that they stay safe if validation is
+ * ever moved off it.
+ *
+ * <p>Enabled with {@code -Adagger.retainClassFileValidationReports=ENABLED}. With {@code
+ * -Adagger.processorMetricsDir}, the {@code retainedValidation} phase counts, for each validator,
+ * the {@code hits} and the {@code misses} among class file elements, and the reports {@code
+ * retained}; the hit rate is {@code hits / (hits + misses)}.
+ * <p>
+ * 跨轮次保留class文件中元素的校验结果，以稳定的元素标识为键，后续轮次不再重复校验。
+ */
+@Singleton
+public final class RetainedValidationReports {
+    private final CompilerOptions compilerOptions;
+    private final ProcessingMetrics metrics;
+    /** The qualified names of the root types of the rounds so far. */
+    private final Set<String> sourceTypes = ConcurrentHashMap.newKeySet();
+    /** The identities of elements from class files whose reports were empty. */
+    private final Set<String> retained = ConcurrentHashMap.newKeySet();
+    /** This round's validations: each identity and the candidate it may be retained as. */
+    private final Map<String, Candidate> validatedThisRound = new ConcurrentHashMap<>();
+    /** This round's counts, by validator and counter. */
+    private final Map<List<String>, LongAdder> counts = new ConcurrentHashMap<>();
+
+    @Inject
+    RetainedValidationReports(CompilerOptions compilerOptions, ProcessingMetrics metrics) {
+        this.compilerOptions = compilerOptions;
+        this.metrics = metrics;
+        metrics.beforeReport(
+                () -> {
+                    counts.forEach(
+                            (counter, count) ->
+                                    metrics.count(
+                                            "retainedValidation", counter.get(0), counter.get(1), count.sum()));
+                    counts.clear();
+                });
+    }
+
+    /**
+     * Returns a new empty report about {@code element} if an earlier round found that it is from a
+     * class file and {@code validator} reported nothing about it, or else its report from {@code
+     * validation}.
+     */
+    <E extends Element> ValidationReport validate(
+            String validator, E element, Function<E, ValidationReport> validation) {
+        if (!compilerOptions.retainClassFileValidationReports()) {
+            return validation.apply(element);
+        }
+        String topLevelType = topLevelType(element).getQualifiedName().toString();
+        if (sourceTypes.contains(topLevelType)) {
+            return validation.apply(element);
+        }
+        String identity = validator + ':' + identity(element);
+        if (retained.contains(identity)) {
+            count(validator, "hits");
+            return ValidationReport.about(element).build();
+        }
+        ValidationReport report = validation.apply(element);
+        validatedThisRound.put(
+                identity,
+                new Candidate(
+                        validator,
+                        topLevelType,
+                        report.isClean()
+                                && report.allItems().isEmpty()
+                                && !refersToErrorTypes(element)));
+        return report;
+    }
+
+    /**
+     * Records the roots of the round that ended, and retains the empty reports of the elements that
+     * were validated in it and are from class files.
+     */
+    public void endRound(XRoundEnv roundEnv) {
+        for (XElement rootElement : roundEnv.getRootElements()) {
+            if (rootElement instanceof XTypeElement) {
+                sourceTypes.add(((XTypeElement) rootElement).getQualifiedName());
+            }
+        }
+        validatedThisRound.forEach(
+                (identity, candidate) -> {
+                    if (sourceTypes.contains(candidate.topLevelType)) {
+                        return;
+                    }
+                    count(candidate.validator, "misses");
+                    if (candidate.isRetainable) {
+                        retained.add(identity);
+                        count(candidate.validator, "retained");
+                    }
+                });
+        validatedThisRound.clear();
+    }
+
+    private void count(String validator, String counter) {
+        if (metrics.isEnabled()) {
+            counts.computeIfAbsent(ImmutableList.of(validator, counter), unused -> new LongAdder())
+                    .increment();
+        }
+    }
+
+    private static final class Candidate {
+        final String validator;
+        final String topLevelType;
+        final boolean isRetainable;
+
+        Candidate(String validator, String topLevelType, boolean isRetainable) {
+            this.validator = validator;
+            this.topLevelType = topLevelType;
+            this.isRetainable = isRetainable;
+        }
+    }
+
+    private static TypeElement topLevelType(Element element) {
+        Element current = element;
+        while (!isType(current) || isType(current.getEnclosingElement())) {
+            current = current.getEnclosingElement();
+        }
+        return asType(current);
+    }
+
+    /**
+     * Returns an identity of {@code element} that is the same in every round: a type's qualified
+     * name, or a member's name and signature qualified by its enclosing element's identity.
+     */
+    private static String identity(Element element) {
+        if (isType(element)) {
+            return asType(element).getQualifiedName().toString();
+        }
+        String identity = identity(element.getEnclosingElement()) + '#' + element.getSimpleName();
+        // With the signature, since methods and constructors may be overloaded.
+        return element.asType().getKind() == TypeKind.EXECUTABLE
+                ? identity + element.asType()
+                : identity;
+    }
+
+    /**
+     * Returns {@code true} if the signature or annotation values of {@code element} refer to an error
+     * type, or for a type, those of its members, nested types or supertypes, which validators of the
+     * type check too.
+     */
+    private static boolean refersToErrorTypes(Element element) {
+        return refersToErrorTypes(element, new HashSet<>());
+    }
+
+    private static boolean refersToErrorTypes(Element element, Set<Element> visited) {
+        if (!visited.add(element)) {
+            return false;
+        }
+        if (isType(element)) {
+            TypeElement type = asType(element);
+            if (type.getQualifiedName().contentEquals("java.lang.Object")) {
+                return false;
+            }
+            List<TypeMirror> supertypes =
+                    ImmutableList.<TypeMirror>builder()
+                            .add(type.getSuperclass())
+                            .addAll(type.getInterfaces())
+                            .build();
+            return isOrHasErrorType(type.asType())
+                    || anyHasErrorType(supertypes)
+                    || annotationsReferToErrorTypes(type)
+                    || type.getEnclosedElements().stream()
+                            .anyMatch(enclosed -> refersToErrorTypes(enclosed, visited))
+                    || supertypes.stream()
+                            .filter(supertype -> supertype.getKind() == TypeKind.DECLARED)
+                            .anyMatch(
+                                    supertype ->
+                                            refersToErrorTypes(((DeclaredType) supertype).asElement(), visited));
+        }
+        return isOrHasErrorType(element.asType())
+                || annotationsReferToErrorTypes(element)
+                || (element instanceof ExecutableElement
+                        && ((ExecutableElement) element).getParameters().stream()
+                                .anyMatch(RetainedValidationReports::annotationsReferToErrorTypes));
+    }
+
+    private static boolean annotationsReferToErrorTypes(Element element) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(RetainedValidationReports::annotationRefersToErrorTypes);
+    }
+
+    private static boolean annotationRefersToErrorTypes(AnnotationMirror annotation) {
+        return isOrHasErrorType(annotation.getAnnotationType())
+                || annotation.getElementValues().values().stream()
+                        .anyMatch(value -> value.accept(ERROR_VALUE_FINDER, null));
+    }
+
+    private static boolean isOrHasErrorType(TypeMirror type) {
+        return type.accept(ERROR_TYPE_FINDER, null);
+    }
+
+    private static boolean anyHasErrorType(List<? extends TypeMirror> types) {
+        return types.stream().anyMatch(RetainedValidationReports::isOrHasErrorType);
+    }
+
+    private static final SimpleAnnotationValueVisitor8<Boolean, Void> ERROR_VALUE_FINDER =
+            new SimpleAnnotationValueVisitor8<Boolean, Void>(false) {
+                @Override
+                public Boolean visitType(TypeMirror type, Void unused) {
+                    return isOrHasErrorType(type);
+                }
+
+                @Override
+                public Boolean visitString(String value, Void unused) {
+                    // javac's value for a class literal of a type that does not exist.
+                    return value.equals("<error>");
+                }
+
+                @Override
+                public Boolean visitAnnotation(AnnotationMirror annotation, Void unused) {
+                    return annotationRefersToErrorTypes(annotation);
+                }
+
+                @Override
+                public Boolean visitArray(List<? extends AnnotationValue> values, Void unused) {
+                    return values.stream().anyMatch(value -> value.accept(this, null));
+                }
+            };
+
+    private static final SimpleTypeVisitor8<Boolean, Void> ERROR_TYPE_FINDER =
+            new SimpleTypeVisitor8<Boolean, Void>(false) {
+                @Override
+                public Boolean visitError(ErrorType type, Void unused) {
+                    return true;
+                }
+
+                @Override
+                public Boolean visitDeclared(DeclaredType type, Void unused) {
+                    return anyHasErrorType(type.getTypeArguments());
+                }
+
+                @Override
+                public Boolean visitExecutable(ExecutableType type, Void unused) {
+                    return type.getReturnType().accept(this, null)
+                            || anyHasErrorType(type.getParameterTypes())
+                            || anyHasErrorType(type.getThrownTypes());
+                }
+
+                @Override
+                public Boolean visitArray(ArrayType type, Void unused) {
+                    return type.getComponentType().accept(this, null);
+                }
+
+                @Override
+                protected Boolean defaultAction(TypeMirror type, Void unused) {
+                    return type.getKind() == TypeKind.ERROR;
+                }
+            };
+}
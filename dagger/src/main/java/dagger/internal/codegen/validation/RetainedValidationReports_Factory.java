@@ -0,0 +1,48 @@
+package dagger.internal.codegen.validation;
+
+
+import javax.annotation.Generated;
+import javax.inject.Provider;
+
+import dagger.internal.DaggerGenerated;
+import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+
+@DaggerGenerated
+@Generated(
+        value = "dagger.internal.codegen.ComponentProcessor",
+        comments = "https://dagger.dev"
+)
+@SuppressWarnings({
+        "unchecked",
+        "rawtypes"
+})
+public final class RetainedValidationReports_Factory implements Factory<RetainedValidationReports> {
+    private final Provider<CompilerOptions> compilerOptionsProvider;
+
+    private final Provider<ProcessingMetrics> metricsProvider;
+
+    public RetainedValidationReports_Factory(
+            Provider<CompilerOptions> compilerOptionsProvider,
+            Provider<ProcessingMetrics> metricsProvider) {
+        this.compilerOptionsProvider = compilerOptionsProvider;
+        this.metricsProvider = metricsProvider;
+    }
+
+    @Override
+    public RetainedValidationReports get() {
+        return newInstance(compilerOptionsProvider.get(), metricsProvider.get());
+    }
+
+    public static RetainedValidationReports_Factory create(
+            Provider<CompilerOptions> compilerOptionsProvider,
+            Provider<ProcessingMetrics> metricsProvider) {
+        return new RetainedValidationReports_Factory(compilerOptionsProvider, metricsProvider);
+    }
+
+    public static RetainedValidationReports newInstance(CompilerOptions compilerOptions,
+                                                        ProcessingMetrics metrics) {
+        return new RetainedValidationReports(compilerOptions, metrics);
+    }
+}
@@ -0,0 +1,189 @@
+package dagger.internal.codegen.validation;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.SimpleAnnotationValueVisitor8;
+import javax.lang.model.util.SimpleTypeVisitor8;
+
+import static com.google.auto.common.MoreElements.asType;
+import static com.google.auto.common.MoreElements.isType;
+
+/**
+ * Describes the declarations of types and, transitively, of the types they refer to, for the
+ * fingerprints of {@link BindingGraphValidationCache}.
+ *
+ * <p>A type compiled from source is described with its modifiers, annotations with their values,
+ * type parameters, supertypes and every member's signature, modifiers and annotations, and the
+ * walk continues to its supertypes and to the classes named in its annotations. The walk stops at
+ * classpath types: they are described by their header alone — modifiers, annotations, type
+ * parameters and supertypes — because their hierarchies (such as an Android {@code Activity}'s) are
+ * often larger than the whole graph, and their members reach the validators through the bindings
+ * they declare, which the graph's own description covers. Types in {@code java.*} are not described
+ * at all; the cache records the JDK version instead.
+ * <p>
+ * 描述类型声明，用于绑定图校验缓存的指纹；遇到classpath中的类型时停止遍历。
+ */
+final class TypeDeclarations {
+    private final Predicate<TypeElement> isFromSource;
+
+    TypeDeclarations(Predicate<TypeElement> isFromSource) {
+        this.isFromSource = isFromSource;
+    }
+
+    /** Returns the description of each of {@code types} and the types they refer to, by qualified name. */
+    Map<String, String> describe(Collection<TypeElement> types) {
+        Deque<TypeElement> queue = new ArrayDeque<>(types);
+        Map<String, String> declarations = new TreeMap<>();
+        while (!queue.isEmpty()) {
+            TypeElement type = queue.remove();
+            String name = type.getQualifiedName().toString();
+            if (declarations.containsKey(name) || name.startsWith("java.")) {
+                continue;
+            }
+            StringBuilder declaration = new StringBuilder();
+            if (isFromSource.test(type)) {
+                describe(type, declaration, queue);
+            } else {
+                describeHeader(type, declaration);
+            }
+            declarations.put(name, declaration.toString());
+        }
+        return declarations;
+    }
+
+    /** Adds the elements of the declared types in {@code type}, with its type arguments and bounds. */
+    static void addTypes(TypeMirror type, Collection<TypeElement> types) {
+        type.accept(DECLARED_TYPES, types);
+    }
+
+    /** Adds the element of {@code annotation}'s type and of the classes named in its values. */
+    static void addTypes(AnnotationMirror annotation, Collection<TypeElement> types) {
+        addTypes(annotation.getAnnotationType(), types);
+        annotation.getElementValues().values().forEach(value -> value.accept(CLASS_LITERALS, types));
+    }
+
+    /**
+     * Appends the declaration of {@code type} and its nested types to {@code declaration}, and adds
+     * the supertypes and annotation types it refers to to {@code queue}.
+     */
+    private static void describe(TypeElement type, StringBuilder declaration, Deque<TypeElement> queue) {
+        describeHeader(type, declaration);
+        addTypes(type.getSuperclass(), queue);
+        type.getInterfaces().forEach(supertype -> addTypes(supertype, queue));
+        type.getAnnotationMirrors().forEach(annotation -> addTypes(annotation, queue));
+        for (Element member : type.getEnclosedElements()) {
+            if (isType(member)) {
+                describe(asType(member), declaration, queue);
+                continue;
+            }
+            declaration.append("  ");
+            describeElement(member, declaration, queue);
+            if (member instanceof ExecutableElement) {
+                ExecutableElement method = (ExecutableElement) member;
+                for (VariableElement parameter : method.getParameters()) {
+                    declaration.append(" (");
+                    describeElement(parameter, declaration, queue);
+                    declaration.append(')');
+                }
+                declaration.append(" default=").append(method.getDefaultValue());
+            }
+            declaration.append('\n');
+        }
+    }
+
+    private static void describeHeader(TypeElement type, StringBuilder declaration) {
+        describeElement(type, declaration, new ArrayDeque<>());
+        for (TypeParameterElement parameter : type.getTypeParameters()) {
+            declaration.append(" <").append(parameter).append(" extends ").append(parameter.getBounds());
+        }
+        declaration
+                .append(" extends ").append(type.getSuperclass())
+                .append(" implements ").append(type.getInterfaces())
+                .append('\n');
+    }
+
+    private static void describeElement(
+            Element element, StringBuilder declaration, Deque<TypeElement> queue) {
+        declaration
+                .append(element.getKind())
+                .append(' ')
+                .append(isType(element) ? asType(element).getQualifiedName() : element.getSimpleName())
+                .append(' ')
+                .append(element.getModifiers())
+                .append(' ')
+                .append(element.asType());
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            declaration.append(' ').append(annotation);
+            addTypes(annotation, queue);
+        }
+    }
+
+    /** Adds the elements of the declared types in a type, with its type arguments and bounds. */
+    private static final SimpleTypeVisitor8<Void, Collection<TypeElement>> DECLARED_TYPES =
+            new SimpleTypeVisitor8<Void, Collection<TypeElement>>() {
+                @Override
+                public Void visitDeclared(DeclaredType type, Collection<TypeElement> types) {
+                    types.add(asType(type.asElement()));
+                    type.getTypeArguments().forEach(argument -> argument.accept(this, types));
+                    return null;
+                }
+
+                @Override
+                public Void visitArray(ArrayType type, Collection<TypeElement> types) {
+                    return type.getComponentType().accept(this, types);
+                }
+
+                @Override
+                public Void visitWildcard(WildcardType type, Collection<TypeElement> types) {
+                    if (type.getExtendsBound() != null) {
+                        type.getExtendsBound().accept(this, types);
+                    }
+                    if (type.getSuperBound() != null) {
+                        type.getSuperBound().accept(this, types);
+                    }
+                    return null;
+                }
+            };
+
+    /** Adds the classes named by class literals in an annotation value, such as a module list. */
+    private static final SimpleAnnotationValueVisitor8<Void, Collection<TypeElement>> CLASS_LITERALS =
+            new SimpleAnnotationValueVisitor8<Void, Collection<TypeElement>>() {
+                @Override
+                public Void visitType(TypeMirror type, Collection<TypeElement> types) {
+                    if (type.getKind() == TypeKind.DECLARED) {
+                        addTypes(type, types);
+                    }
+                    return null;
+                }
+
+                @Override
+                public Void visitArray(List<? extends AnnotationValue> values, Collection<TypeElement> types) {
+                    values.forEach(value -> value.accept(this, types));
+                    return null;
+                }
+
+                @Override
+                public Void visitAnnotation(AnnotationMirror annotation, Collection<TypeElement> types) {
+                    addTypes(annotation, types);
+                    return null;
+                }
+            };
+}
@@ -7,9 +7,11 @@ import java.util.Map;
 import java.util.Set;
 
 import javax.inject.Inject;
+import javax.tools.Diagnostic;
 
 import androidx.room.compiler.processing.XFiler;
 import androidx.room.compiler.processing.compat.XConverters;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.compileroption.ProcessingOptions;
 import dagger.internal.codegen.compileroption.ValidationType;
@@ -19,7 +21,6 @@ import dagger.spi.model.BindingGraph;
 import dagger.spi.model.BindingGraphPlugin;
 
 import static dagger.internal.codegen.extension.DaggerStreams.toImmutableSet;
-import static javax.tools.Diagnostic.Kind.ERROR;
 
 /**
  * Initializes {@link BindingGraphPlugin}s.
@@ -34,6 +35,7 @@ public final class ValidationBindingGraphPlugins {
     private final DaggerElements elements;
     private final CompilerOptions compilerOptions;
     private final Map<String, String> processingOptions;
+    private final ProcessingMetrics metrics;
 
     @Inject
     ValidationBindingGraphPlugins(
@@ -43,7 +45,8 @@ public final class ValidationBindingGraphPlugins {
             DaggerTypes types,
             DaggerElements elements,
             CompilerOptions compilerOptions,
-            @ProcessingOptions Map<String, String> processingOptions) {
+            @ProcessingOptions Map<String, String> processingOptions,
+            ProcessingMetrics metrics) {
         this.plugins = plugins;
         this.diagnosticReporterFactory = diagnosticReporterFactory;
         this.filer = filer;
@@ -51,6 +54,7 @@ public final class ValidationBindingGraphPlugins {
         this.elements = elements;
         this.compilerOptions = compilerOptions;
         this.processingOptions = processingOptions;
+        this.metrics = metrics;
     }
 
     /** Returns {@link BindingGraphPlugin#supportedOptions()} from all the plugins. */
@@ -76,21 +80,21 @@ public final class ValidationBindingGraphPlugins {
         }
     }
 
-    /** Returns {@code false} if any of the plugins reported an error. */
-    boolean visit(BindingGraph graph) {
+    /** Visits {@code graph} with every plugin and returns the kinds of diagnostics they reported. */
+    ImmutableSet<Diagnostic.Kind> visitAndReport(BindingGraph graph) {
         boolean errorsAsWarnings =
                 graph.isFullBindingGraph()
                         && compilerOptions.fullBindingGraphValidationType().equals(ValidationType.WARNING);
 
-        boolean isClean = true;
+        ImmutableSet.Builder<Diagnostic.Kind> reportedDiagnosticKinds = ImmutableSet.builder();
         for (BindingGraphPlugin plugin : plugins) {
             DiagnosticReporterFactory.DiagnosticReporterImpl reporter =
                     diagnosticReporterFactory.reporter(graph, plugin.pluginName(), errorsAsWarnings);
-            plugin.visitGraph(graph, reporter);
-            if (reporter.reportedDiagnosticKinds().contains(ERROR)) {
-                isClean = false;
+            try (ProcessingMetrics.Span span = metrics.start("plugin", plugin.pluginName())) {
+                plugin.visitGraph(graph, reporter);
             }
+            reportedDiagnosticKinds.addAll(reporter.reportedDiagnosticKinds());
         }
-        return isClean;
+        return reportedDiagnosticKinds.build();
     }
 }
@@ -10,6 +10,7 @@ import javax.inject.Provider;
 import androidx.room.compiler.processing.XFiler;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.langmodel.DaggerElements;
 import dagger.internal.codegen.langmodel.DaggerTypes;
@@ -39,12 +40,15 @@ public final class ValidationBindingGraphPlugins_Factory implements Factory<Vali
 
     private final Provider<Map<String, String>> processingOptionsProvider;
 
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public ValidationBindingGraphPlugins_Factory(
             Provider<ImmutableSet<BindingGraphPlugin>> pluginsProvider,
             Provider<DiagnosticReporterFactory> diagnosticReporterFactoryProvider,
             Provider<XFiler> filerProvider, Provider<DaggerTypes> typesProvider,
             Provider<DaggerElements> elementsProvider, Provider<CompilerOptions> compilerOptionsProvider,
-            Provider<Map<String, String>> processingOptionsProvider) {
+            Provider<Map<String, String>> processingOptionsProvider,
+            Provider<ProcessingMetrics> metricsProvider) {
         this.pluginsProvider = pluginsProvider;
         this.diagnosticReporterFactoryProvider = diagnosticReporterFactoryProvider;
         this.filerProvider = filerProvider;
@@ -52,11 +56,12 @@ public final class ValidationBindingGraphPlugins_Factory implements Factory<Vali
         this.elementsProvider = elementsProvider;
         this.compilerOptionsProvider = compilerOptionsProvider;
         this.processingOptionsProvider = processingOptionsProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
     public ValidationBindingGraphPlugins get() {
-        return newInstance(pluginsProvider.get(), diagnosticReporterFactoryProvider.get(), filerProvider.get(), typesProvider.get(), elementsProvider.get(), compilerOptionsProvider.get(), processingOptionsProvider.get());
+        return newInstance(pluginsProvider.get(), diagnosticReporterFactoryProvider.get(), filerProvider.get(), typesProvider.get(), elementsProvider.get(), compilerOptionsProvider.get(), processingOptionsProvider.get(), metricsProvider.get());
     }
 
     public static ValidationBindingGraphPlugins_Factory create(
@@ -64,13 +69,15 @@ public final class ValidationBindingGraphPlugins_Factory implements Factory<Vali
             Provider<DiagnosticReporterFactory> diagnosticReporterFactoryProvider,
             Provider<XFiler> filerProvider, Provider<DaggerTypes> typesProvider,
             Provider<DaggerElements> elementsProvider, Provider<CompilerOptions> compilerOptionsProvider,
-            Provider<Map<String, String>> processingOptionsProvider) {
-        return new ValidationBindingGraphPlugins_Factory(pluginsProvider, diagnosticReporterFactoryProvider, filerProvider, typesProvider, elementsProvider, compilerOptionsProvider, processingOptionsProvider);
+            Provider<Map<String, String>> processingOptionsProvider,
+            Provider<ProcessingMetrics> metricsProvider) {
+        return new ValidationBindingGraphPlugins_Factory(pluginsProvider, diagnosticReporterFactoryProvider, filerProvider, typesProvider, elementsProvider, compilerOptionsProvider, processingOptionsProvider, metricsProvider);
     }
 
     public static ValidationBindingGraphPlugins newInstance(ImmutableSet<BindingGraphPlugin> plugins,
                                                             Object diagnosticReporterFactory, XFiler filer, DaggerTypes types, DaggerElements elements,
-                                                            CompilerOptions compilerOptions, Map<String, String> processingOptions) {
-        return new ValidationBindingGraphPlugins(plugins, (DiagnosticReporterFactory) diagnosticReporterFactory, filer, types, elements, compilerOptions, processingOptions);
+                                                            CompilerOptions compilerOptions, Map<String, String> processingOptions,
+                                                            ProcessingMetrics metrics) {
+        return new ValidationBindingGraphPlugins(plugins, (DiagnosticReporterFactory) diagnosticReporterFactory, filer, types, elements, compilerOptions, processingOptions, metrics);
     }
 }
@@ -22,6 +22,7 @@ import javax.lang.model.type.DeclaredType;
 import javax.lang.model.util.SimpleTypeVisitor6;
 
 import androidx.room.compiler.processing.XFiler;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.langmodel.DaggerElements;
 
@@ -71,8 +72,12 @@ public class AnnotationCreatorGenerator extends SourceFileGenerator<TypeElement>
             ClassName.get("com.google.auto.value", "AutoAnnotation");
 
     @Inject
-    AnnotationCreatorGenerator(XFiler filer, DaggerElements elements, SourceVersion sourceVersion) {
-        super(filer, elements, sourceVersion);
+    AnnotationCreatorGenerator(
+            XFiler filer,
+            DaggerElements elements,
+            SourceVersion sourceVersion,
+            ProcessingMetrics metrics) {
+        super(filer, elements, sourceVersion, metrics);
     }
 
     @Override
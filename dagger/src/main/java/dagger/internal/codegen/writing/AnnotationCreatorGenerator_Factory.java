@@ -8,6 +8,7 @@ import javax.lang.model.SourceVersion;
 import androidx.room.compiler.processing.XFiler;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.langmodel.DaggerElements;
 
 @DaggerGenerated
@@ -26,25 +27,28 @@ public final class AnnotationCreatorGenerator_Factory implements Factory<Annotat
 
     private final Provider<SourceVersion> sourceVersionProvider;
 
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public AnnotationCreatorGenerator_Factory(Provider<XFiler> filerProvider,
-                                              Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider) {
+                                              Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider, Provider<ProcessingMetrics> metricsProvider) {
         this.filerProvider = filerProvider;
         this.elementsProvider = elementsProvider;
         this.sourceVersionProvider = sourceVersionProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
     public AnnotationCreatorGenerator get() {
-        return newInstance(filerProvider.get(), elementsProvider.get(), sourceVersionProvider.get());
+        return newInstance(filerProvider.get(), elementsProvider.get(), sourceVersionProvider.get(), metricsProvider.get());
     }
 
     public static AnnotationCreatorGenerator_Factory create(Provider<XFiler> filerProvider,
-                                                            Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider) {
-        return new AnnotationCreatorGenerator_Factory(filerProvider, elementsProvider, sourceVersionProvider);
+                                                            Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider, Provider<ProcessingMetrics> metricsProvider) {
+        return new AnnotationCreatorGenerator_Factory(filerProvider, elementsProvider, sourceVersionProvider, metricsProvider);
     }
 
     public static AnnotationCreatorGenerator newInstance(XFiler filer, DaggerElements elements,
-                                                         SourceVersion sourceVersion) {
-        return new AnnotationCreatorGenerator(filer, elements, sourceVersion);
+                                                         SourceVersion sourceVersion, ProcessingMetrics metrics) {
+        return new AnnotationCreatorGenerator(filer, elements, sourceVersion, metrics);
     }
 }
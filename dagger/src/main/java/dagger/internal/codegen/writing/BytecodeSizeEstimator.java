@@ -0,0 +1,170 @@
+package dagger.internal.codegen.writing;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Estimates the bytecode size of generated code from its source, so that generated methods can be
+ * split before they reach the JIT's limits rather than at a fixed number of statements.
+ *
+ * <p>HotSpot does not compile a method of more than {@value #HUGE_METHOD_LIMIT} bytes of bytecode
+ * ({@code -XX:HugeMethodLimit}), so such a method, like a large {@code initialize()} or {@code
+ * SwitchingProvider.get()}, always runs in the interpreter. The estimate counts the instructions
+ * that each token of the source compiles to; it errs high, so that methods split to {@value
+ * #METHOD_SIZE_TARGET} bytes stay well below the limit.
+ * <p>
+ * 按源码估算生成代码的字节码大小，用于拆分方法，避免超过JIT的大方法限制。
+ */
+public final class BytecodeSizeEstimator {
+    /** The size above which HotSpot does not compile a method, by default. */
+    public static final int HUGE_METHOD_LIMIT = 8000;
+
+    /** The estimated size that split methods are kept under, leaving room for estimation errors. */
+    static final int METHOD_SIZE_TARGET = HUGE_METHOD_LIMIT / 2;
+
+    private static final Pattern TOKEN =
+            Pattern.compile(
+                    "\"(?:[^\"\\\\]|\\\\.)*\"" // string literal
+                            + "|'(?:[^'\\\\]|\\\\.)*'" // char literal
+                            + "|(?<number>\\b\\d[\\w.]*)"
+                            // a name, or a qualified name, and whether it is called
+                            + "|(?<name>[A-Za-z_$][\\w$]*(?:\\s*\\.\\s*[A-Za-z_$][\\w$]*)*)(?<call>\\s*\\()?"
+                            + "|(?<cast>\\(\\s*[A-Za-z_$][\\w$.\\[\\]]*\\s*\\)(?=\\s*[\\w$(]))");
+    private static final Pattern COMMENT = Pattern.compile("//[^\\n]*|/\\*.*?\\*/", Pattern.DOTALL);
+    // Type arguments directly after a name, as in "new SwitchingProvider<Foo>(", but not "id < 3".
+    private static final Pattern TYPE_ARGUMENTS = Pattern.compile("(?<=[\\w$])<[^<>()]*>");
+    private static final ImmutableSet<String> FREE_KEYWORDS =
+            ImmutableSet.of("default", "final", "else", "try", "finally", "private", "public", "static");
+
+    private BytecodeSizeEstimator() {}
+
+    /** Returns the estimated bytecode size of {@code method}. */
+    public static int estimate(MethodSpec method) {
+        // The implicit return, and a load for each parameter passed on.
+        return estimate(method.code) + 1 + method.parameters.size();
+    }
+
+    /** Returns the estimated bytecode size of {@code code}. */
+    public static int estimate(CodeBlock code) {
+        return estimate(code.toString());
+    }
+
+    static int estimate(String source) {
+        String code = COMMENT.matcher(source).replaceAll(" ");
+        String previous;
+        do {
+            previous = code;
+            code = TYPE_ARGUMENTS.matcher(code).replaceAll("");
+        } while (!code.equals(previous));
+
+        int size = 0;
+        Matcher token = TOKEN.matcher(code);
+        while (token.find()) {
+            if (token.group("name") != null) {
+                size += nameSize(token.group("name"), token.group("call") != null);
+            } else if (token.group("cast") != null) {
+                size += 3; // checkcast
+            } else {
+                size += 3; // ldc_w, sipush or bipush
+            }
+        }
+        for (int i = 0; i < code.length(); i++) {
+            switch (code.charAt(i)) {
+                case ';': // a store, or a pop of an unused result
+                case '=':
+                    size += 1;
+                    break;
+                case '?': // a conditional branch and a goto
+                case '&':
+                case '|':
+                    size += 3;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return size;
+    }
+
+    private static int nameSize(String name, boolean isCall) {
+        switch (name) {
+            case "new":
+                return 4; // new, dup; the constructor is counted as a call
+            case "return":
+            case "throw":
+            case "this":
+            case "null":
+            case "true":
+            case "false":
+                return 1;
+            case "case":
+                return 8; // a switch table entry and the goto that ends the previous case
+            case "switch":
+                return 16; // the tableswitch header
+            case "if":
+            case "while":
+            case "for":
+            case "instanceof":
+                return 3;
+            default:
+                if (FREE_KEYWORDS.contains(name)) {
+                    return 0;
+                }
+                if (isCall) {
+                    return callSize(name);
+                }
+                // A getfield with the load of its receiver, or a getstatic. Generated code reads the
+                // component's fields by their simple names, so a simple name is counted as a field
+                // too, although a local variable load is smaller.
+                return 4;
+        }
+    }
+
+    private static int callSize(String name) {
+        int lastDot = name.lastIndexOf('.');
+        if (lastDot < 0) {
+            return 4; // a method of this, with its load; or a constructor, with one byte to spare
+        }
+        for (String qualifier : name.substring(0, lastDot).split("\\s*\\.\\s*")) {
+            if (Character.isUpperCase(qualifier.charAt(0))) {
+                return 3; // invokestatic, as the qualifier names a type
+            }
+        }
+        return 9; // the load of the receiver field and an invokeinterface
+    }
+
+    /**
+     * Splits {@code statements} in order into groups that each have at most {@code
+     * maxStatementsPerGroup} statements and, unless a statement is larger on its own, an estimated
+     * size of at most {@link #METHOD_SIZE_TARGET}.
+     */
+    static ImmutableList<ImmutableList<CodeBlock>> partition(
+            List<CodeBlock> statements, int maxStatementsPerGroup) {
+        ImmutableList.Builder<ImmutableList<CodeBlock>> groups = ImmutableList.builder();
+        List<CodeBlock> group = new ArrayList<>();
+        int groupSize = 0;
+        for (CodeBlock statement : statements) {
+            int statementSize = estimate(statement);
+            if (!group.isEmpty()
+                    && (group.size() >= maxStatementsPerGroup
+                    || groupSize + statementSize > METHOD_SIZE_TARGET)) {
+                groups.add(ImmutableList.copyOf(group));
+                group.clear();
+                groupSize = 0;
+            }
+            group.add(statement);
+            groupSize += statementSize;
+        }
+        if (!group.isEmpty()) {
+            groups.add(ImmutableList.copyOf(group));
+        }
+        return groups.build();
+    }
+}
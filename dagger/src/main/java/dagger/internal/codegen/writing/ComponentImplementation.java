@@ -8,7 +8,6 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.ListMultimap;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.MultimapBuilder;
 import com.google.common.collect.Sets;
@@ -218,7 +217,10 @@ public final class ComponentImplementation {
     /**
      * Returns the {@link ShardImplementation} for each binding in this graph.
      *
-     * <p>Each shard contains approximately {@link CompilerOptions#keysPerComponentShard()} bindings.
+     * <p>Each shard contains approximately {@link CompilerOptions#keysPerComponentShard()} bindings,
+     * or fewer if its bindings have more dependencies than {@link
+     * #DEPENDENCIES_PER_BINDING_PER_SHARD} on average, since each dependency adds to the size of the
+     * shard's fields, initializations and constant pool.
      *
      * <p>If more than 1 shard is needed, we iterate the strongly connected nodes to make sure of two
      * things: 1) bindings are put in shards in reverse topological order (i.e., bindings in Shard{i}
@@ -247,28 +249,37 @@ public final class ComponentImplementation {
     private static ImmutableList<ImmutableList<Binding>> bindingPartitions(
             BindingGraph graph, CompilerOptions compilerOptions) {
         int bindingsPerShard = compilerOptions.keysPerComponentShard(graph.componentTypeElement());
-        int maxPartitions = (graph.localBindingNodes().size() / bindingsPerShard) + 1;
+        long weightPerShard = (long) bindingsPerShard * (1 + DEPENDENCIES_PER_BINDING_PER_SHARD);
+        ImmutableList<Binding> localBindings =
+                graph.localBindingNodes().stream().map(BindingNode::delegate).collect(toImmutableList());
+        long totalWeight = localBindings.stream().mapToLong(ComponentImplementation::shardWeight).sum();
+        int maxPartitions =
+                (int) Math.max(localBindings.size() / bindingsPerShard, totalWeight / weightPerShard) + 1;
 
         //没有超过最大值阀门，直接返回当前BindingNode节点中的Binding属性
         if (maxPartitions <= 1) {
-            return ImmutableList.of(
-                    graph.localBindingNodes().stream().map(BindingNode::delegate).collect(toImmutableList()));
+            return ImmutableList.of(localBindings);
         }
 
         // Iterate through all SCCs in order until all bindings local to this component are partitioned.
         List<Binding> currPartition = new ArrayList<>(bindingsPerShard);
+        long currWeight = 0;
         //以bindingsPerShard个作为一个区间，存放在当前partitions中
         ImmutableList.Builder<ImmutableList<Binding>> partitions =
                 ImmutableList.builderWithExpectedSize(maxPartitions);
         for (ImmutableSet<dagger.spi.model.BindingGraph.Node> nodes : graph.topLevelBindingGraph().stronglyConnectedNodes()) {
-            nodes.stream()
-                    .flatMap(instancesOf(BindingNode.class))
-                    .filter(bindingNode -> bindingNode.componentPath().equals(graph.componentPath()))
-                    .map(BindingNode::delegate)
-                    .forEach(currPartition::add);
-            if (currPartition.size() >= bindingsPerShard) {
+            ImmutableList<Binding> bindings =
+                    nodes.stream()
+                            .flatMap(instancesOf(BindingNode.class))
+                            .filter(bindingNode -> bindingNode.componentPath().equals(graph.componentPath()))
+                            .map(BindingNode::delegate)
+                            .collect(toImmutableList());
+            currPartition.addAll(bindings);
+            currWeight += bindings.stream().mapToLong(ComponentImplementation::shardWeight).sum();
+            if (currPartition.size() >= bindingsPerShard || currWeight >= weightPerShard) {
                 partitions.add(ImmutableList.copyOf(currPartition));
                 currPartition = new ArrayList<>(bindingsPerShard);
+                currWeight = 0;
             }
         }
         if (!currPartition.isEmpty()) {
@@ -277,6 +288,26 @@ public final class ComponentImplementation {
         return partitions.build();
     }
 
+    // A binding's share of the size of its shard: its field and initialization, and an argument for
+    // each of its dependencies.
+    private static long shardWeight(Binding binding) {
+        return 1 + binding.dependencies().size();
+    }
+
+    /**
+     * The average number of dependencies per binding that {@link
+     * CompilerOptions#keysPerComponentShard()} allows for; shards of bindings with more are split
+     * sooner.
+     *
+     * <p>This is not measured. It sets the density at which sharding is unchanged by the weights: a
+     * shard of {@code keysPerComponentShard} bindings with up to this many dependencies on average,
+     * such as a {@code Foo_Factory.create(barProvider, bazProvider)} initialization, reaches the
+     * binding limit first, as it did before there were weights. Only denser graphs, whose
+     * initializations pass more providers and so grow the shard's methods and constant pool faster,
+     * get smaller shards, in proportion to their extra dependencies.
+     */
+    private static final int DEPENDENCIES_PER_BINDING_PER_SHARD = 2;
+
     /**
      * The boolean parameter of the onProducerFutureCancelled method.
      * <p>
@@ -375,6 +406,15 @@ public final class ComponentImplementation {
         return shardsByBinding.get(binding);
     }
 
+    /**
+     * Returns {@code true} if {@code className} is the class of this component or of one of its
+     * shards, rather than of a subcomponent.
+     */
+    boolean isComponentOrShardClass(ClassName className) {
+        return className.equals(name())
+                || shardsByBinding.values().stream().anyMatch(shard -> shard.name().equals(className));
+    }
+
     /**
      * Returns the root {@link ComponentImplementation}.
      */
@@ -1171,7 +1211,8 @@ public final class ComponentImplementation {
         /**
          * Creates one or more methods, all taking the given {@code parameters}, which partition the
          * given list of {@code statements} among themselves such that no method has more than {@code
-         * STATEMENTS_PER_METHOD} statements in it and such that the returned methods, if called in
+         * STATEMENTS_PER_METHOD} statements in it, nor an estimated bytecode size of more than {@link
+         * BytecodeSizeEstimator#METHOD_SIZE_TARGET}, and such that the returned methods, if called in
          * order, will execute the {@code statements} in the given order.
          * <p>
          * 创建一个或多个方法，所有方法都采用给定的 {@code 参数}，它们将给定的 {@code statements} 列表在它们之间划分，
@@ -1183,7 +1224,7 @@ public final class ComponentImplementation {
                 Iterable<ParameterSpec> parameters,
                 List<CodeBlock> statements,
                 Function<String, MethodSpec.Builder> methodBuilderCreator) {
-            return Lists.partition(statements, STATEMENTS_PER_METHOD).stream()
+            return BytecodeSizeEstimator.partition(statements, STATEMENTS_PER_METHOD).stream()
                     .map(
                             partition ->
                                     methodBuilderCreator
@@ -24,6 +24,7 @@ import javax.lang.model.element.VariableElement;
 
 import androidx.room.compiler.processing.XFiler;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.base.UniqueNameSet;
 import dagger.internal.codegen.binding.Binding;
@@ -86,8 +87,9 @@ public final class FactoryGenerator extends SourceFileGenerator<ProvisionBinding
             DaggerTypes types,
             DaggerElements elements,
             CompilerOptions compilerOptions,
-            KotlinMetadataUtil metadataUtil) {
-        super(filer, elements, sourceVersion);
+            KotlinMetadataUtil metadataUtil,
+            ProcessingMetrics metrics) {
+        super(filer, elements, sourceVersion, metrics);
         this.types = types;
         this.compilerOptions = compilerOptions;
         this.metadataUtil = metadataUtil;
@@ -8,6 +8,7 @@ import javax.lang.model.SourceVersion;
 import androidx.room.compiler.processing.XFiler;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.kotlin.KotlinMetadataUtil;
 import dagger.internal.codegen.langmodel.DaggerElements;
@@ -35,34 +36,37 @@ public final class FactoryGenerator_Factory implements Factory<FactoryGenerator>
 
     private final Provider<KotlinMetadataUtil> metadataUtilProvider;
 
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public FactoryGenerator_Factory(Provider<XFiler> filerProvider,
                                     Provider<SourceVersion> sourceVersionProvider, Provider<DaggerTypes> typesProvider,
                                     Provider<DaggerElements> elementsProvider, Provider<CompilerOptions> compilerOptionsProvider,
-                                    Provider<KotlinMetadataUtil> metadataUtilProvider) {
+                                    Provider<KotlinMetadataUtil> metadataUtilProvider, Provider<ProcessingMetrics> metricsProvider) {
         this.filerProvider = filerProvider;
         this.sourceVersionProvider = sourceVersionProvider;
         this.typesProvider = typesProvider;
         this.elementsProvider = elementsProvider;
         this.compilerOptionsProvider = compilerOptionsProvider;
         this.metadataUtilProvider = metadataUtilProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
     public FactoryGenerator get() {
-        return newInstance(filerProvider.get(), sourceVersionProvider.get(), typesProvider.get(), elementsProvider.get(), compilerOptionsProvider.get(), metadataUtilProvider.get());
+        return newInstance(filerProvider.get(), sourceVersionProvider.get(), typesProvider.get(), elementsProvider.get(), compilerOptionsProvider.get(), metadataUtilProvider.get(), metricsProvider.get());
     }
 
     public static FactoryGenerator_Factory create(Provider<XFiler> filerProvider,
                                                   Provider<SourceVersion> sourceVersionProvider, Provider<DaggerTypes> typesProvider,
                                                   Provider<DaggerElements> elementsProvider, Provider<CompilerOptions> compilerOptionsProvider,
-                                                  Provider<KotlinMetadataUtil> metadataUtilProvider) {
-        return new FactoryGenerator_Factory(filerProvider, sourceVersionProvider, typesProvider, elementsProvider, compilerOptionsProvider, metadataUtilProvider);
+                                                  Provider<KotlinMetadataUtil> metadataUtilProvider, Provider<ProcessingMetrics> metricsProvider) {
+        return new FactoryGenerator_Factory(filerProvider, sourceVersionProvider, typesProvider, elementsProvider, compilerOptionsProvider, metadataUtilProvider, metricsProvider);
     }
 
     public static FactoryGenerator newInstance(XFiler filer, SourceVersion sourceVersion,
                                                DaggerTypes types, DaggerElements elements, CompilerOptions compilerOptions,
-                                               KotlinMetadataUtil metadataUtil) {
-        return new FactoryGenerator(filer, sourceVersion, types, elements, compilerOptions, metadataUtil);
+                                               KotlinMetadataUtil metadataUtil, ProcessingMetrics metrics) {
+        return new FactoryGenerator(filer, sourceVersion, types, elements, compilerOptions, metadataUtil, metrics);
     }
 
 }
@@ -9,6 +9,7 @@ import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 
 import androidx.room.compiler.processing.XFiler;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.binding.ContributionBinding;
 import dagger.internal.codegen.binding.MapKeys;
@@ -35,9 +36,10 @@ public final class InaccessibleMapKeyProxyGenerator
             XFiler filer,
             DaggerTypes types,
             DaggerElements elements,
-            SourceVersion sourceVersion
+            SourceVersion sourceVersion,
+            ProcessingMetrics metrics
     ) {
-        super(filer, elements, sourceVersion);
+        super(filer, elements, sourceVersion, metrics);
         this.types = types;
         this.elements = elements;
     }
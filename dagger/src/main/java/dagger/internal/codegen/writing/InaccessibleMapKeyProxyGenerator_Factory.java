@@ -8,6 +8,7 @@ import javax.lang.model.SourceVersion;
 import androidx.room.compiler.processing.XFiler;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.langmodel.DaggerElements;
 import dagger.internal.codegen.langmodel.DaggerTypes;
 
@@ -29,28 +30,31 @@ public final class InaccessibleMapKeyProxyGenerator_Factory implements Factory<I
 
     private final Provider<SourceVersion> sourceVersionProvider;
 
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public InaccessibleMapKeyProxyGenerator_Factory(Provider<XFiler> filerProvider,
                                                     Provider<DaggerTypes> typesProvider, Provider<DaggerElements> elementsProvider,
-                                                    Provider<SourceVersion> sourceVersionProvider) {
+                                                    Provider<SourceVersion> sourceVersionProvider, Provider<ProcessingMetrics> metricsProvider) {
         this.filerProvider = filerProvider;
         this.typesProvider = typesProvider;
         this.elementsProvider = elementsProvider;
         this.sourceVersionProvider = sourceVersionProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
     public InaccessibleMapKeyProxyGenerator get() {
-        return newInstance(filerProvider.get(), typesProvider.get(), elementsProvider.get(), sourceVersionProvider.get());
+        return newInstance(filerProvider.get(), typesProvider.get(), elementsProvider.get(), sourceVersionProvider.get(), metricsProvider.get());
     }
 
     public static InaccessibleMapKeyProxyGenerator_Factory create(Provider<XFiler> filerProvider,
                                                                   Provider<DaggerTypes> typesProvider, Provider<DaggerElements> elementsProvider,
-                                                                  Provider<SourceVersion> sourceVersionProvider) {
-        return new InaccessibleMapKeyProxyGenerator_Factory(filerProvider, typesProvider, elementsProvider, sourceVersionProvider);
+                                                                  Provider<SourceVersion> sourceVersionProvider, Provider<ProcessingMetrics> metricsProvider) {
+        return new InaccessibleMapKeyProxyGenerator_Factory(filerProvider, typesProvider, elementsProvider, sourceVersionProvider, metricsProvider);
     }
 
     public static InaccessibleMapKeyProxyGenerator newInstance(XFiler filer, DaggerTypes types,
-                                                               DaggerElements elements, SourceVersion sourceVersion) {
-        return new InaccessibleMapKeyProxyGenerator(filer, types, elements, sourceVersion);
+                                                               DaggerElements elements, SourceVersion sourceVersion, ProcessingMetrics metrics) {
+        return new InaccessibleMapKeyProxyGenerator(filer, types, elements, sourceVersion, metrics);
     }
 }
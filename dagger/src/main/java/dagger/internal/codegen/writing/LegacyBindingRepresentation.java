@@ -1,5 +1,6 @@
 package dagger.internal.codegen.writing;
 
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 
 import java.util.Optional;
@@ -15,6 +16,7 @@ import dagger.internal.codegen.binding.ComponentDescriptor;
 import dagger.internal.codegen.binding.ContributionBinding;
 import dagger.internal.codegen.binding.FrameworkType;
 import dagger.internal.codegen.binding.MembersInjectionBinding;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.langmodel.DaggerTypes;
 import dagger.spi.model.BindingKind;
 import dagger.spi.model.Key;
@@ -23,12 +25,15 @@ import dagger.spi.model.RequestKind;
 import static com.google.common.base.Preconditions.checkArgument;
 import static dagger.internal.codegen.binding.BindingRequest.bindingRequest;
 import static dagger.internal.codegen.javapoet.TypeNames.DOUBLE_CHECK;
+import static dagger.internal.codegen.javapoet.TypeNames.LOCK_FREE_CHECK;
 import static dagger.internal.codegen.javapoet.TypeNames.SINGLE_CHECK;
 import static dagger.internal.codegen.writing.DelegateRequestRepresentation.isBindsScopeStrongerThanDependencyScope;
 import static dagger.internal.codegen.writing.MemberSelect.staticFactoryCreation;
 import static dagger.spi.model.BindingKind.DELEGATE;
+import static dagger.spi.model.BindingKind.INJECTION;
 import static dagger.spi.model.BindingKind.MULTIBOUND_MAP;
 import static dagger.spi.model.BindingKind.MULTIBOUND_SET;
+import static dagger.spi.model.BindingKind.PROVISION;
 
 
 /**
@@ -65,6 +70,7 @@ final class LegacyBindingRepresentation implements BindingRepresentation {
     private final UnscopedFrameworkInstanceCreationExpressionFactory
             unscopedFrameworkInstanceCreationExpressionFactory;
     private final SwitchingProviders switchingProviders;
+    private final CompilerOptions compilerOptions;
 
     @AssistedInject
     LegacyBindingRepresentation(
@@ -90,7 +96,8 @@ final class LegacyBindingRepresentation implements BindingRepresentation {
             ProducerFromProviderCreationExpression.Factory producerFromProviderCreationExpressionFactory,
             UnscopedFrameworkInstanceCreationExpressionFactory
                     unscopedFrameworkInstanceCreationExpressionFactory,
-            DaggerTypes types) {
+            DaggerTypes types,
+            CompilerOptions compilerOptions) {
         this.isFastInit = isFastInit;
         this.binding = binding;
         this.switchingProviders = switchingProviders;
@@ -116,6 +123,7 @@ final class LegacyBindingRepresentation implements BindingRepresentation {
                 unscopedFrameworkInstanceCreationExpressionFactory;
         this.assistedPrivateMethodRequestRepresentationFactory =
                 assistedPrivateMethodRequestRepresentationFactory;
+        this.compilerOptions = compilerOptions;
     }
 
     @Override
@@ -144,11 +152,7 @@ final class LegacyBindingRepresentation implements BindingRepresentation {
         FrameworkFieldInitializer.FrameworkInstanceCreationExpression frameworkInstanceCreationExpression =
                 unscopedFrameworkInstanceCreationExpressionFactory.create(binding);
 
-        if (isFastInit
-                // Some creation expressions can opt out of using switching providers.
-                && frameworkInstanceCreationExpression.useSwitchingProvider()
-                // Production types are not yet supported with switching providers.
-                && binding.bindingType() != BindingType.PRODUCTION) {
+        if (useSwitchingProvider(frameworkInstanceCreationExpression)) {
             // First try to get the instance expression via getRequestRepresentation(). However, if that
             // expression is a DerivedFromFrameworkInstanceRequestRepresentation (e.g. fooProvider.get()),
             // then we can't use it to create an instance within the SwitchingProvider since that would
@@ -199,14 +203,46 @@ final class LegacyBindingRepresentation implements BindingRepresentation {
         }
     }
 
+    /**
+     * Returns {@code true} if the framework instance should be a switching provider that calls the
+     * binding's instance expression instead of {@code creationExpression}.
+     *
+     * <p>That is always the case in fastInit mode. In default mode, with {@link
+     * CompilerOptions#inlineUnscopedChains()}, it is the case for the {@code Factory} of an {@code
+     * Inject} constructor or {@code Provides} method with dependencies, which would otherwise need a
+     * {@code Provider} field, and usually a {@code Factory}, for each of them.
+     */
+    private boolean useSwitchingProvider(
+            FrameworkFieldInitializer.FrameworkInstanceCreationExpression creationExpression) {
+        // Some creation expressions can opt out of using switching providers.
+        if (!creationExpression.useSwitchingProvider()
+                // Production types are not yet supported with switching providers.
+                || binding.bindingType() == BindingType.PRODUCTION) {
+            return false;
+        }
+        if (isFastInit) {
+            return true;
+        }
+        return compilerOptions.inlineUnscopedChains()
+                && (binding.kind().equals(INJECTION) || binding.kind().equals(PROVISION))
+                && !binding.dependencies().isEmpty();
+    }
+
     private FrameworkFieldInitializer.FrameworkInstanceCreationExpression scope(FrameworkFieldInitializer.FrameworkInstanceCreationExpression unscoped) {
         return () ->
                 CodeBlock.of(
                         "$T.provider($L)",
-                        binding.scope().get().isReusable() ? SINGLE_CHECK : DOUBLE_CHECK,
+                        binding.scope().get().isReusable() ? SINGLE_CHECK : scopedCheckType(),
                         unscoped.creationExpression());
     }
 
+    //非Reusable的scope：默认使用DoubleCheck，开启lockFreeScopedProviders后使用LockFreeCheck
+    private ClassName scopedCheckType() {
+        return compilerOptions.lockFreeScopedProviders(graph.componentTypeElement())
+                ? LOCK_FREE_CHECK
+                : DOUBLE_CHECK;
+    }
+
     /**
      * Returns a binding expression for a provision binding.
      */
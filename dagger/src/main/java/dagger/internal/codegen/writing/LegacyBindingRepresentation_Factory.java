@@ -7,6 +7,7 @@ import javax.inject.Provider;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.codegen.binding.Binding;
 import dagger.internal.codegen.binding.BindingGraph;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.langmodel.DaggerTypes;
 
 @DaggerGenerated
@@ -49,6 +50,8 @@ public final class LegacyBindingRepresentation_Factory {
 
     private final Provider<DaggerTypes> typesProvider;
 
+    private final Provider<CompilerOptions> compilerOptionsProvider;
+
     public LegacyBindingRepresentation_Factory(Provider<BindingGraph> graphProvider,
                                                Provider<ComponentImplementation> componentImplementationProvider,
                                                Provider<ComponentMethodRequestRepresentation.Factory> componentMethodRequestRepresentationFactoryProvider,
@@ -63,7 +66,8 @@ public final class LegacyBindingRepresentation_Factory {
                                                Provider<UnscopedDirectInstanceRequestRepresentationFactory> unscopedDirectInstanceRequestRepresentationFactoryProvider,
                                                Provider<ProducerFromProviderCreationExpression.Factory> producerFromProviderCreationExpressionFactoryProvider,
                                                Provider<UnscopedFrameworkInstanceCreationExpressionFactory> unscopedFrameworkInstanceCreationExpressionFactoryProvider,
-                                               Provider<DaggerTypes> typesProvider) {
+                                               Provider<DaggerTypes> typesProvider,
+                                               Provider<CompilerOptions> compilerOptionsProvider) {
         this.graphProvider = graphProvider;
         this.componentImplementationProvider = componentImplementationProvider;
         this.componentMethodRequestRepresentationFactoryProvider = componentMethodRequestRepresentationFactoryProvider;
@@ -79,11 +83,12 @@ public final class LegacyBindingRepresentation_Factory {
         this.producerFromProviderCreationExpressionFactoryProvider = producerFromProviderCreationExpressionFactoryProvider;
         this.unscopedFrameworkInstanceCreationExpressionFactoryProvider = unscopedFrameworkInstanceCreationExpressionFactoryProvider;
         this.typesProvider = typesProvider;
+        this.compilerOptionsProvider = compilerOptionsProvider;
     }
 
     public LegacyBindingRepresentation get(boolean isFastInit, Binding binding,
                                            SwitchingProviders switchingProviders) {
-        return newInstance(isFastInit, binding, switchingProviders, graphProvider.get(), componentImplementationProvider.get(), componentMethodRequestRepresentationFactoryProvider.get(), delegateRequestRepresentationFactoryProvider.get(), derivedFromFrameworkInstanceRequestRepresentationFactoryProvider.get(), immediateFutureRequestRepresentationFactoryProvider.get(), membersInjectionRequestRepresentationFactoryProvider.get(), privateMethodRequestRepresentationFactoryProvider.get(), assistedPrivateMethodRequestRepresentationFactoryProvider.get(), producerNodeInstanceRequestRepresentationFactoryProvider.get(), providerInstanceRequestRepresentationFactoryProvider.get(), unscopedDirectInstanceRequestRepresentationFactoryProvider.get(), producerFromProviderCreationExpressionFactoryProvider.get(), unscopedFrameworkInstanceCreationExpressionFactoryProvider.get(), typesProvider.get());
+        return newInstance(isFastInit, binding, switchingProviders, graphProvider.get(), componentImplementationProvider.get(), componentMethodRequestRepresentationFactoryProvider.get(), delegateRequestRepresentationFactoryProvider.get(), derivedFromFrameworkInstanceRequestRepresentationFactoryProvider.get(), immediateFutureRequestRepresentationFactoryProvider.get(), membersInjectionRequestRepresentationFactoryProvider.get(), privateMethodRequestRepresentationFactoryProvider.get(), assistedPrivateMethodRequestRepresentationFactoryProvider.get(), producerNodeInstanceRequestRepresentationFactoryProvider.get(), providerInstanceRequestRepresentationFactoryProvider.get(), unscopedDirectInstanceRequestRepresentationFactoryProvider.get(), producerFromProviderCreationExpressionFactoryProvider.get(), unscopedFrameworkInstanceCreationExpressionFactoryProvider.get(), typesProvider.get(), compilerOptionsProvider.get());
     }
 
     public static LegacyBindingRepresentation_Factory create(Provider<BindingGraph> graphProvider,
@@ -100,8 +105,9 @@ public final class LegacyBindingRepresentation_Factory {
                                                              Provider<UnscopedDirectInstanceRequestRepresentationFactory> unscopedDirectInstanceRequestRepresentationFactoryProvider,
                                                              Provider<ProducerFromProviderCreationExpression.Factory> producerFromProviderCreationExpressionFactoryProvider,
                                                              Provider<UnscopedFrameworkInstanceCreationExpressionFactory> unscopedFrameworkInstanceCreationExpressionFactoryProvider,
-                                                             Provider<DaggerTypes> typesProvider) {
-        return new LegacyBindingRepresentation_Factory(graphProvider, componentImplementationProvider, componentMethodRequestRepresentationFactoryProvider, delegateRequestRepresentationFactoryProvider, derivedFromFrameworkInstanceRequestRepresentationFactoryProvider, immediateFutureRequestRepresentationFactoryProvider, membersInjectionRequestRepresentationFactoryProvider, privateMethodRequestRepresentationFactoryProvider, assistedPrivateMethodRequestRepresentationFactoryProvider, producerNodeInstanceRequestRepresentationFactoryProvider, providerInstanceRequestRepresentationFactoryProvider, unscopedDirectInstanceRequestRepresentationFactoryProvider, producerFromProviderCreationExpressionFactoryProvider, unscopedFrameworkInstanceCreationExpressionFactoryProvider, typesProvider);
+                                                             Provider<DaggerTypes> typesProvider,
+                                               Provider<CompilerOptions> compilerOptionsProvider) {
+        return new LegacyBindingRepresentation_Factory(graphProvider, componentImplementationProvider, componentMethodRequestRepresentationFactoryProvider, delegateRequestRepresentationFactoryProvider, derivedFromFrameworkInstanceRequestRepresentationFactoryProvider, immediateFutureRequestRepresentationFactoryProvider, membersInjectionRequestRepresentationFactoryProvider, privateMethodRequestRepresentationFactoryProvider, assistedPrivateMethodRequestRepresentationFactoryProvider, producerNodeInstanceRequestRepresentationFactoryProvider, providerInstanceRequestRepresentationFactoryProvider, unscopedDirectInstanceRequestRepresentationFactoryProvider, producerFromProviderCreationExpressionFactoryProvider, unscopedFrameworkInstanceCreationExpressionFactoryProvider, typesProvider, compilerOptionsProvider);
     }
 
     public static LegacyBindingRepresentation newInstance(boolean isFastInit, Binding binding,
@@ -118,7 +124,8 @@ public final class LegacyBindingRepresentation_Factory {
                                                           Object providerInstanceRequestRepresentationFactory,
                                                           Object unscopedDirectInstanceRequestRepresentationFactory,
                                                           Object producerFromProviderCreationExpressionFactory,
-                                                          Object unscopedFrameworkInstanceCreationExpressionFactory, DaggerTypes types) {
-        return new LegacyBindingRepresentation(isFastInit, binding, (SwitchingProviders) switchingProviders, graph, componentImplementation, (ComponentMethodRequestRepresentation.Factory) componentMethodRequestRepresentationFactory, (DelegateRequestRepresentation.Factory) delegateRequestRepresentationFactory, (DerivedFromFrameworkInstanceRequestRepresentation.Factory) derivedFromFrameworkInstanceRequestRepresentationFactory, (ImmediateFutureRequestRepresentation.Factory) immediateFutureRequestRepresentationFactory, (MembersInjectionRequestRepresentation.Factory) membersInjectionRequestRepresentationFactory, (PrivateMethodRequestRepresentation.Factory) privateMethodRequestRepresentationFactory, (AssistedPrivateMethodRequestRepresentation.Factory) assistedPrivateMethodRequestRepresentationFactory, (ProducerNodeInstanceRequestRepresentation.Factory) producerNodeInstanceRequestRepresentationFactory, (ProviderInstanceRequestRepresentation.Factory) providerInstanceRequestRepresentationFactory, (UnscopedDirectInstanceRequestRepresentationFactory) unscopedDirectInstanceRequestRepresentationFactory, (ProducerFromProviderCreationExpression.Factory) producerFromProviderCreationExpressionFactory, (UnscopedFrameworkInstanceCreationExpressionFactory) unscopedFrameworkInstanceCreationExpressionFactory, types);
+                                                          Object unscopedFrameworkInstanceCreationExpressionFactory, DaggerTypes types,
+                                                          CompilerOptions compilerOptions) {
+        return new LegacyBindingRepresentation(isFastInit, binding, (SwitchingProviders) switchingProviders, graph, componentImplementation, (ComponentMethodRequestRepresentation.Factory) componentMethodRequestRepresentationFactory, (DelegateRequestRepresentation.Factory) delegateRequestRepresentationFactory, (DerivedFromFrameworkInstanceRequestRepresentation.Factory) derivedFromFrameworkInstanceRequestRepresentationFactory, (ImmediateFutureRequestRepresentation.Factory) immediateFutureRequestRepresentationFactory, (MembersInjectionRequestRepresentation.Factory) membersInjectionRequestRepresentationFactory, (PrivateMethodRequestRepresentation.Factory) privateMethodRequestRepresentationFactory, (AssistedPrivateMethodRequestRepresentation.Factory) assistedPrivateMethodRequestRepresentationFactory, (ProducerNodeInstanceRequestRepresentation.Factory) producerNodeInstanceRequestRepresentationFactory, (ProviderInstanceRequestRepresentation.Factory) providerInstanceRequestRepresentationFactory, (UnscopedDirectInstanceRequestRepresentationFactory) unscopedDirectInstanceRequestRepresentationFactory, (ProducerFromProviderCreationExpression.Factory) producerFromProviderCreationExpressionFactory, (UnscopedFrameworkInstanceCreationExpressionFactory) unscopedFrameworkInstanceCreationExpressionFactory, types, compilerOptions);
     }
 }
@@ -19,6 +19,7 @@ import javax.lang.model.element.Element;
 
 import androidx.room.compiler.processing.XFiler;
 import dagger.MembersInjector;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.base.UniqueNameSet;
 import dagger.internal.codegen.binding.FrameworkField;
@@ -64,9 +65,10 @@ public final class MembersInjectorGenerator extends SourceFileGenerator<MembersI
             DaggerElements elements,
             DaggerTypes types,
             SourceVersion sourceVersion,
-            KotlinMetadataUtil metadataUtil
+            KotlinMetadataUtil metadataUtil,
+            ProcessingMetrics metrics
     ) {
-        super(filer, elements, sourceVersion);
+        super(filer, elements, sourceVersion, metrics);
         this.types = types;
         this.metadataUtil = metadataUtil;
     }
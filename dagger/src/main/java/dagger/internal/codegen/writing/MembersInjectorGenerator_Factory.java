@@ -7,6 +7,7 @@ import javax.lang.model.SourceVersion;
 import androidx.room.compiler.processing.XFiler;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.kotlin.KotlinMetadataUtil;
 import dagger.internal.codegen.langmodel.DaggerElements;
 import dagger.internal.codegen.langmodel.DaggerTypes;
@@ -32,31 +33,34 @@ public final class MembersInjectorGenerator_Factory implements Factory<MembersIn
 
     private final Provider<KotlinMetadataUtil> metadataUtilProvider;
 
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public MembersInjectorGenerator_Factory(Provider<XFiler> filerProvider,
                                             Provider<DaggerElements> elementsProvider, Provider<DaggerTypes> typesProvider,
                                             Provider<SourceVersion> sourceVersionProvider,
-                                            Provider<KotlinMetadataUtil> metadataUtilProvider) {
+                                            Provider<KotlinMetadataUtil> metadataUtilProvider, Provider<ProcessingMetrics> metricsProvider) {
         this.filerProvider = filerProvider;
         this.elementsProvider = elementsProvider;
         this.typesProvider = typesProvider;
         this.sourceVersionProvider = sourceVersionProvider;
         this.metadataUtilProvider = metadataUtilProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
     public MembersInjectorGenerator get() {
-        return newInstance(filerProvider.get(), elementsProvider.get(), typesProvider.get(), sourceVersionProvider.get(), metadataUtilProvider.get());
+        return newInstance(filerProvider.get(), elementsProvider.get(), typesProvider.get(), sourceVersionProvider.get(), metadataUtilProvider.get(), metricsProvider.get());
     }
 
     public static MembersInjectorGenerator_Factory create(Provider<XFiler> filerProvider,
                                                           Provider<DaggerElements> elementsProvider, Provider<DaggerTypes> typesProvider,
                                                           Provider<SourceVersion> sourceVersionProvider,
-                                                          Provider<KotlinMetadataUtil> metadataUtilProvider) {
-        return new MembersInjectorGenerator_Factory(filerProvider, elementsProvider, typesProvider, sourceVersionProvider, metadataUtilProvider);
+                                                          Provider<KotlinMetadataUtil> metadataUtilProvider, Provider<ProcessingMetrics> metricsProvider) {
+        return new MembersInjectorGenerator_Factory(filerProvider, elementsProvider, typesProvider, sourceVersionProvider, metadataUtilProvider, metricsProvider);
     }
 
     public static MembersInjectorGenerator newInstance(XFiler filer, DaggerElements elements,
-                                                       DaggerTypes types, SourceVersion sourceVersion, KotlinMetadataUtil metadataUtil) {
-        return new MembersInjectorGenerator(filer, elements, types, sourceVersion, metadataUtil);
+                                                       DaggerTypes types, SourceVersion sourceVersion, KotlinMetadataUtil metadataUtil, ProcessingMetrics metrics) {
+        return new MembersInjectorGenerator(filer, elements, types, sourceVersion, metadataUtil, metrics);
     }
 }
@@ -14,6 +14,7 @@ import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 
 import androidx.room.compiler.processing.XFiler;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.binding.ModuleKind;
 import dagger.internal.codegen.binding.SourceFiles;
@@ -64,8 +65,9 @@ public final class ModuleProxies {
                 DaggerElements elements,
                 SourceVersion sourceVersion,
                 ModuleProxies moduleProxies,
-                KotlinMetadataUtil metadataUtil) {
-            super(filer, elements, sourceVersion);
+                KotlinMetadataUtil metadataUtil,
+                ProcessingMetrics metrics) {
+            super(filer, elements, sourceVersion, metrics);
             this.moduleProxies = moduleProxies;
             this.metadataUtil = metadataUtil;
         }
@@ -8,6 +8,7 @@ import javax.lang.model.SourceVersion;
 import androidx.room.compiler.processing.XFiler;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.kotlin.KotlinMetadataUtil;
 import dagger.internal.codegen.langmodel.DaggerElements;
 
@@ -31,32 +32,35 @@ public final class ModuleProxies_ModuleConstructorProxyGenerator_Factory impleme
 
     private final Provider<KotlinMetadataUtil> metadataUtilProvider;
 
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public ModuleProxies_ModuleConstructorProxyGenerator_Factory(Provider<XFiler> filerProvider,
                                                                  Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider,
                                                                  Provider<ModuleProxies> moduleProxiesProvider,
-                                                                 Provider<KotlinMetadataUtil> metadataUtilProvider) {
+                                                                 Provider<KotlinMetadataUtil> metadataUtilProvider, Provider<ProcessingMetrics> metricsProvider) {
         this.filerProvider = filerProvider;
         this.elementsProvider = elementsProvider;
         this.sourceVersionProvider = sourceVersionProvider;
         this.moduleProxiesProvider = moduleProxiesProvider;
         this.metadataUtilProvider = metadataUtilProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
     public ModuleProxies.ModuleConstructorProxyGenerator get() {
-        return newInstance(filerProvider.get(), elementsProvider.get(), sourceVersionProvider.get(), moduleProxiesProvider.get(), metadataUtilProvider.get());
+        return newInstance(filerProvider.get(), elementsProvider.get(), sourceVersionProvider.get(), moduleProxiesProvider.get(), metadataUtilProvider.get(), metricsProvider.get());
     }
 
     public static ModuleProxies_ModuleConstructorProxyGenerator_Factory create(
             Provider<XFiler> filerProvider, Provider<DaggerElements> elementsProvider,
             Provider<SourceVersion> sourceVersionProvider, Provider<ModuleProxies> moduleProxiesProvider,
-            Provider<KotlinMetadataUtil> metadataUtilProvider) {
-        return new ModuleProxies_ModuleConstructorProxyGenerator_Factory(filerProvider, elementsProvider, sourceVersionProvider, moduleProxiesProvider, metadataUtilProvider);
+            Provider<KotlinMetadataUtil> metadataUtilProvider, Provider<ProcessingMetrics> metricsProvider) {
+        return new ModuleProxies_ModuleConstructorProxyGenerator_Factory(filerProvider, elementsProvider, sourceVersionProvider, moduleProxiesProvider, metadataUtilProvider, metricsProvider);
     }
 
     public static ModuleProxies.ModuleConstructorProxyGenerator newInstance(XFiler filer,
                                                                             DaggerElements elements, SourceVersion sourceVersion, ModuleProxies moduleProxies,
-                                                                            KotlinMetadataUtil metadataUtil) {
-        return new ModuleProxies.ModuleConstructorProxyGenerator(filer, elements, sourceVersion, moduleProxies, metadataUtil);
+                                                                            KotlinMetadataUtil metadataUtil, ProcessingMetrics metrics) {
+        return new ModuleProxies.ModuleConstructorProxyGenerator(filer, elements, sourceVersion, moduleProxies, metadataUtil, metrics);
     }
 }
@@ -0,0 +1,195 @@
+package dagger.internal.codegen.writing;
+
+import com.google.common.graph.ImmutableNetwork;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+
+import javax.inject.Inject;
+
+import dagger.internal.codegen.binding.BindingGraph;
+import dagger.internal.codegen.binding.BindingNode;
+import dagger.internal.codegen.binding.ComponentDescriptor;
+import dagger.internal.codegen.binding.ProductionBinding;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+import dagger.spi.model.BindingGraph.DependencyEdge;
+import dagger.spi.model.BindingGraph.Edge;
+import dagger.spi.model.BindingGraph.Node;
+import dagger.spi.model.BindingKind;
+
+import static com.squareup.javapoet.MethodSpec.constructorBuilder;
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static com.squareup.javapoet.TypeSpec.classBuilder;
+import static dagger.internal.codegen.binding.SourceFiles.generatedClassNameForBinding;
+import static dagger.internal.codegen.javapoet.TypeNames.PRODUCER_TOKEN;
+import static dagger.internal.codegen.writing.ComponentNames.getRootComponentClassName;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+/**
+ * Generates {@code <component>_ProducerDepths} next to a component with production components in
+ * its hierarchy: a map from the {@link dagger.producers.monitoring.ProducerToken} of each {@code
+ * Produces} method to its distance from the nearest entry point of any component, which {@link
+ * dagger.producers.PrioritizingExecutor} uses to run the producers that complete entry points
+ * first.
+ *
+ * <p>The distance counts every dependency edge, including those through provisions and
+ * multibindings; an entry point's own producer is at depth 0.
+ *
+ * <p>Only generated with {@code -Adagger.producerDepths=ENABLED}, so that builds that do not use
+ * {@code PrioritizingExecutor} do not get an extra class per component.
+ * <p>
+ * 为生产组件生成各生产者到入口点的最短距离表，供优先级调度使用。
+ */
+public final class ProducerDepthsGenerator {
+    private static final TypeName DEPTHS_TYPE =
+            ParameterizedTypeName.get(
+                    ClassName.get(Map.class), PRODUCER_TOKEN, ClassName.get(Integer.class));
+
+    private final CompilerOptions compilerOptions;
+
+    @Inject
+    ProducerDepthsGenerator(CompilerOptions compilerOptions) {
+        this.compilerOptions = compilerOptions;
+    }
+
+    /**
+     * Returns {@code true} if a depths class is generated for {@code component}: if it is enabled and
+     * the component or any descendant is a production component.
+     */
+    public static boolean hasDepths(ComponentDescriptor component, CompilerOptions compilerOptions) {
+        return compilerOptions.producerDepths() && hasProductionComponents(component);
+    }
+
+    private static boolean hasProductionComponents(ComponentDescriptor component) {
+        if (component.isProduction()) {
+            return true;
+        }
+        for (ComponentDescriptor child : component.childComponents()) {
+            if (hasProductionComponents(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns the depths class of the root component of {@code bindingGraph}, if it has one. */
+    public Optional<TypeSpec.Builder> generate(BindingGraph bindingGraph) {
+        ComponentDescriptor component = bindingGraph.componentDescriptor();
+        if (!hasDepths(component, compilerOptions)) {
+            return Optional.empty();
+        }
+        CodeBlock.Builder puts = CodeBlock.builder();
+        for (Map.Entry<CodeBlock, Integer> depth : depths(bindingGraph).entrySet()) {
+            puts.addStatement("depths.put($L, $L)", depth.getKey(), depth.getValue());
+        }
+        MethodSpec createDepths =
+                methodBuilder("createDepths")
+                        .addModifiers(PRIVATE, STATIC)
+                        .returns(DEPTHS_TYPE)
+                        .addStatement("$T depths = new $T<>()", DEPTHS_TYPE, HashMap.class)
+                        .addCode(puts.build())
+                        .addStatement("return $T.unmodifiableMap(depths)", Collections.class)
+                        .build();
+        return Optional.of(
+                depthsType(component)
+                        .addField(
+                                FieldSpec.builder(DEPTHS_TYPE, "DEPTHS", PRIVATE, STATIC, FINAL)
+                                        .initializer("$N()", createDepths)
+                                        .build())
+                        .addMethod(depthsMethod().addStatement("return DEPTHS").build())
+                        .addMethod(createDepths));
+    }
+
+    /**
+     * Returns the depths class for header compilation, which only needs its signature, if {@code
+     * component} has one.
+     */
+    public static Optional<TypeSpec.Builder> generateHeader(
+            ComponentDescriptor component, CompilerOptions compilerOptions) {
+        if (!hasDepths(component, compilerOptions)) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                depthsType(component)
+                        .addMethod(
+                                depthsMethod()
+                                        .addStatement("return $T.emptyMap()", Collections.class)
+                                        .build()));
+    }
+
+    private static TypeSpec.Builder depthsType(ComponentDescriptor component) {
+        ClassName componentName = getRootComponentClassName(component);
+        TypeSpec.Builder type =
+                classBuilder(componentName.peerClass(componentName.simpleName() + "_ProducerDepths"))
+                        .addModifiers(FINAL)
+                        .addMethod(constructorBuilder().addModifiers(PRIVATE).build());
+        if (component.typeElement().getModifiers().contains(PUBLIC)) {
+            type.addModifiers(PUBLIC);
+        }
+        return type;
+    }
+
+    private static MethodSpec.Builder depthsMethod() {
+        return methodBuilder("depths")
+                .addJavadoc(
+                        "Returns the distance of each producer from the nearest entry point, for {@link "
+                                + "dagger.producers.PrioritizingExecutor}.\n")
+                .addModifiers(PUBLIC, STATIC)
+                .returns(DEPTHS_TYPE);
+    }
+
+    /**
+     * Returns the token expression of each {@code Produces} method in the graph mapped to its
+     * shortest distance from an entry point, found breadth-first from all entry points at once.
+     */
+    private Map<CodeBlock, Integer> depths(BindingGraph bindingGraph) {
+        dagger.spi.model.BindingGraph graph = bindingGraph.topLevelBindingGraph();
+        ImmutableNetwork<Node, Edge> network = graph.network();
+        Map<Node, Integer> nodeDepths = new HashMap<>();
+        Queue<Node> queue = new ArrayDeque<>();
+        for (DependencyEdge entryPoint : graph.entryPointEdges()) {
+            Node target = network.incidentNodes(entryPoint).target();
+            if (nodeDepths.putIfAbsent(target, 0) == null) {
+                queue.add(target);
+            }
+        }
+        // The same binding may be resolved in several components; tokens keep the lowest depth.
+        Map<CodeBlock, Integer> tokenDepths = new LinkedHashMap<>();
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            int depth = nodeDepths.get(node);
+            if (node instanceof BindingNode
+                    && ((BindingNode) node).kind().equals(BindingKind.PRODUCTION)) {
+                ProductionBinding binding = (ProductionBinding) ((BindingNode) node).delegate();
+                tokenDepths.putIfAbsent(
+                        ProducerFactoryGenerator.producerTokenConstruction(
+                                generatedClassNameForBinding(binding), binding, compilerOptions),
+                        depth);
+            }
+            for (Edge edge : network.outEdges(node)) {
+                if (edge instanceof DependencyEdge) {
+                    Node target = network.incidentNodes(edge).target();
+                    if (nodeDepths.putIfAbsent(target, depth + 1) == null) {
+                        queue.add(target);
+                    }
+                }
+            }
+        }
+        return tokenDepths;
+    }
+}
@@ -0,0 +1,40 @@
+package dagger.internal.codegen.writing;
+
+
+import javax.annotation.Generated;
+import javax.inject.Provider;
+
+import dagger.internal.DaggerGenerated;
+import dagger.internal.Factory;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+
+@DaggerGenerated
+@Generated(
+        value = "dagger.internal.codegen.ComponentProcessor",
+        comments = "https://dagger.dev"
+)
+@SuppressWarnings({
+        "unchecked",
+        "rawtypes"
+})
+public final class ProducerDepthsGenerator_Factory implements Factory<ProducerDepthsGenerator> {
+    private final Provider<CompilerOptions> compilerOptionsProvider;
+
+    public ProducerDepthsGenerator_Factory(Provider<CompilerOptions> compilerOptionsProvider) {
+        this.compilerOptionsProvider = compilerOptionsProvider;
+    }
+
+    @Override
+    public ProducerDepthsGenerator get() {
+        return newInstance(compilerOptionsProvider.get());
+    }
+
+    public static ProducerDepthsGenerator_Factory create(
+            Provider<CompilerOptions> compilerOptionsProvider) {
+        return new ProducerDepthsGenerator_Factory(compilerOptionsProvider);
+    }
+
+    public static ProducerDepthsGenerator newInstance(CompilerOptions compilerOptions) {
+        return new ProducerDepthsGenerator(compilerOptions);
+    }
+}
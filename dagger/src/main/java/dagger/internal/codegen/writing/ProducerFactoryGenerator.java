@@ -24,6 +24,7 @@ import javax.lang.model.element.Element;
 import javax.lang.model.type.TypeMirror;
 
 import androidx.room.compiler.processing.XFiler;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.base.UniqueNameSet;
 import dagger.internal.codegen.binding.Binding;
@@ -35,6 +36,8 @@ import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.javapoet.AnnotationSpecs;
 import dagger.internal.codegen.javapoet.TypeNames;
 import dagger.internal.codegen.langmodel.DaggerElements;
+import dagger.producers.Blocking;
+import dagger.producers.Inline;
 import dagger.producers.Producer;
 import dagger.producers.internal.AbstractProducesMethodProducer;
 import dagger.producers.internal.Producers;
@@ -42,6 +45,7 @@ import dagger.spi.model.DependencyRequest;
 import dagger.spi.model.Key;
 import dagger.spi.model.RequestKind;
 
+import static com.google.auto.common.MoreElements.isAnnotationPresent;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Verify.verifyNotNull;
 import static com.squareup.javapoet.ClassName.OBJECT;
@@ -83,8 +87,9 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
             DaggerElements elements,
             SourceVersion sourceVersion,
             CompilerOptions compilerOptions,
-            KeyFactory keyFactory) {
-        super(filer, elements, sourceVersion);
+            KeyFactory keyFactory,
+            ProcessingMetrics metrics) {
+        super(filer, elements, sourceVersion, metrics);
         this.compilerOptions = compilerOptions;
         this.keyFactory = keyFactory;
     }
@@ -148,16 +153,28 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
                         addFieldAndConstructorParameter(
                                 factoryBuilder, constructorBuilder, fieldName, bindingField.type());
                 fieldsBuilder.put(dependency, field);
-                frameworkFieldAssignments.add(fieldAssignment(field, bindingField.type()));
+                frameworkFieldAssignments.add(
+                        fieldAssignment(
+                                field,
+                                bindingField.type(),
+                                compilerOptions.eagerProducerCancellation()));
             }
         }
         ImmutableMap<DependencyRequest, FieldSpec> fields = fieldsBuilder.build();
 
-        constructorBuilder.addStatement(
-                "super($N, $L, $N)",
-                verifyNotNull(monitorParameterName),
-                producerTokenConstruction(generatedTypeName, binding),
-                verifyNotNull(executorParameterName));
+        if (isAnnotationPresent(binding.bindingElement().get(), Inline.class)) {
+            constructorBuilder.addStatement(
+                    "super($N, $L, $L, true)",
+                    verifyNotNull(monitorParameterName),
+                    producerTokenConstruction(generatedTypeName, binding, compilerOptions),
+                    executorProvider(binding, verifyNotNull(executorParameterName)));
+        } else {
+            constructorBuilder.addStatement(
+                    "super($N, $L, $L)",
+                    verifyNotNull(monitorParameterName),
+                    producerTokenConstruction(generatedTypeName, binding, compilerOptions),
+                    executorProvider(binding, verifyNotNull(executorParameterName)));
+        }
 
         if (binding.requiresModuleInstance()) {
             assignField(constructorBuilder, moduleField.get(), null);
@@ -218,6 +235,16 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
         return ImmutableList.of(factoryBuilder);
     }
 
+    /**
+     * Returns the executor provider passed to {@link AbstractProducesMethodProducer}: the component's,
+     * unless the method is {@link Blocking} and so gets a virtual thread of its own where possible.
+     */
+    private static CodeBlock executorProvider(ProductionBinding binding, String executorParameterName) {
+        return isAnnotationPresent(binding.bindingElement().get(), Blocking.class)
+                ? CodeBlock.of("$T.blockingExecutorProvider($N)", PRODUCERS, executorParameterName)
+                : CodeBlock.of("$N", executorParameterName);
+    }
+
     private MethodSpec staticFactoryMethod(ProductionBinding binding, MethodSpec constructor) {
         return MethodSpec.methodBuilder("create")
                 .addModifiers(PUBLIC, STATIC)
@@ -245,11 +272,21 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
         return field;
     }
 
-    private static CodeBlock fieldAssignment(FieldSpec field, ParameterizedTypeName type) {
+    /**
+     * Assigns a constructor parameter to its field, wrapping producers in a view of their own. With
+     * {@code eagerCancellation}, the producer is cancelled once all such views of it are.
+     */
+    private static CodeBlock fieldAssignment(
+            FieldSpec field, ParameterizedTypeName type, boolean eagerCancellation) {
         CodeBlock.Builder statement = CodeBlock.builder();
         if (type != null && type.rawType.equals(TypeNames.PRODUCER)) {
             statement.addStatement(
-                    "this.$1N = $2T.nonCancellationPropagatingViewOf($1N)", field, Producers.class);
+                    "this.$1N = $2T.$3N($1N)",
+                    field,
+                    Producers.class,
+                    eagerCancellation
+                            ? "eagerlyCancellingViewOf"
+                            : "nonCancellationPropagatingViewOf");
         } else {
             statement.addStatement("this.$1N = $1N", field);
         }
@@ -273,8 +310,12 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
                 .collect(toImmutableList());
     }
 
-    private CodeBlock producerTokenConstruction(
-            ClassName generatedTypeName, ProductionBinding binding) {
+    /**
+     * Returns the expression that creates the {@link dagger.producers.monitoring.ProducerToken} of the
+     * producer factory {@code generatedTypeName} for {@code binding}.
+     */
+    static CodeBlock producerTokenConstruction(
+            ClassName generatedTypeName, ProductionBinding binding, CompilerOptions compilerOptions) {
         CodeBlock producerTokenArgs =
                 compilerOptions.writeProducerNameInToken()
                         ? CodeBlock.of(
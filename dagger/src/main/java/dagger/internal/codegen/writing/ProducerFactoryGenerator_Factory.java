@@ -8,6 +8,7 @@ import javax.lang.model.SourceVersion;
 import androidx.room.compiler.processing.XFiler;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.binding.KeyFactory;
 import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.langmodel.DaggerElements;
@@ -32,29 +33,32 @@ public final class ProducerFactoryGenerator_Factory implements Factory<ProducerF
 
     private final Provider<KeyFactory> keyFactoryProvider;
 
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public ProducerFactoryGenerator_Factory(Provider<XFiler> filerProvider,
                                             Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider,
-                                            Provider<CompilerOptions> compilerOptionsProvider, Provider<KeyFactory> keyFactoryProvider) {
+                                            Provider<CompilerOptions> compilerOptionsProvider, Provider<KeyFactory> keyFactoryProvider, Provider<ProcessingMetrics> metricsProvider) {
         this.filerProvider = filerProvider;
         this.elementsProvider = elementsProvider;
         this.sourceVersionProvider = sourceVersionProvider;
         this.compilerOptionsProvider = compilerOptionsProvider;
         this.keyFactoryProvider = keyFactoryProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
     public ProducerFactoryGenerator get() {
-        return newInstance(filerProvider.get(), elementsProvider.get(), sourceVersionProvider.get(), compilerOptionsProvider.get(), keyFactoryProvider.get());
+        return newInstance(filerProvider.get(), elementsProvider.get(), sourceVersionProvider.get(), compilerOptionsProvider.get(), keyFactoryProvider.get(), metricsProvider.get());
     }
 
     public static ProducerFactoryGenerator_Factory create(Provider<XFiler> filerProvider,
                                                           Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider,
-                                                          Provider<CompilerOptions> compilerOptionsProvider, Provider<KeyFactory> keyFactoryProvider) {
-        return new ProducerFactoryGenerator_Factory(filerProvider, elementsProvider, sourceVersionProvider, compilerOptionsProvider, keyFactoryProvider);
+                                                          Provider<CompilerOptions> compilerOptionsProvider, Provider<KeyFactory> keyFactoryProvider, Provider<ProcessingMetrics> metricsProvider) {
+        return new ProducerFactoryGenerator_Factory(filerProvider, elementsProvider, sourceVersionProvider, compilerOptionsProvider, keyFactoryProvider, metricsProvider);
     }
 
     public static ProducerFactoryGenerator newInstance(XFiler filer, DaggerElements elements,
-                                                       SourceVersion sourceVersion, CompilerOptions compilerOptions, KeyFactory keyFactory) {
-        return new ProducerFactoryGenerator(filer, elements, sourceVersion, compilerOptions, keyFactory);
+                                                       SourceVersion sourceVersion, CompilerOptions compilerOptions, KeyFactory keyFactory, ProcessingMetrics metrics) {
+        return new ProducerFactoryGenerator(filer, elements, sourceVersion, compilerOptions, keyFactory, metrics);
     }
 }
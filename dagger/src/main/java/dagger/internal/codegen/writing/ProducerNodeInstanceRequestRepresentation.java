@@ -33,9 +33,11 @@ import dagger.spi.model.Key;
  */
 final class ProducerNodeInstanceRequestRepresentation
         extends FrameworkInstanceRequestRepresentation {
+    private final ComponentImplementation componentImplementation;
     private final ComponentImplementation.ShardImplementation shardImplementation;
     private final Key key;
     private final ProducerEntryPointView producerEntryPointView;
+    private boolean retainedForSubcomponents;
 
     @AssistedInject
     ProducerNodeInstanceRequestRepresentation(
@@ -45,6 +47,7 @@ final class ProducerNodeInstanceRequestRepresentation
             DaggerElements elements,
             ComponentImplementation componentImplementation) {
         super(binding, frameworkInstanceSupplier, types, elements);
+        this.componentImplementation = componentImplementation;
         this.shardImplementation = componentImplementation.shardImplementation(binding);
         this.key = binding.key();
         this.producerEntryPointView = new ProducerEntryPointView(shardImplementation, types);
@@ -65,6 +68,16 @@ final class ProducerNodeInstanceRequestRepresentation
                         Producers.class,
                         result.codeBlock(),
                         ComponentImplementation.MAY_INTERRUPT_IF_RUNNING_PARAM));
+        if (!retainedForSubcomponents && !componentImplementation.isComponentOrShardClass(requestingClass)) {
+            // A subcomponent can be created after every consumer in this component has cancelled the
+            // producer's eagerly cancelling views, so they must not cancel it.
+            retainedForSubcomponents = true;
+            shardImplementation.addInitialization(
+                    CodeBlock.of(
+                            "$T.retainForSubcomponents($L);",
+                            Producers.class,
+                            super.getDependencyExpression(shardImplementation.name()).codeBlock()));
+        }
         return result;
     }
 
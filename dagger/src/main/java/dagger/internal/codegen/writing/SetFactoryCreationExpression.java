@@ -14,6 +14,7 @@ import dagger.producers.Produced;
 import dagger.spi.model.DependencyRequest;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Iterables.getOnlyElement;
 import static dagger.internal.codegen.binding.SourceFiles.setFactoryClassName;
 
 /**
@@ -84,7 +85,39 @@ final class SetFactoryCreationExpression extends MultibindingFactoryCreationExpr
         builder.add("builder($L, $L)", individualProviders, setProviders);
         builder.add(builderMethodCalls.build());
 
-        return builder.add(".build()").build();
+        return builder.add(hasOnlyStableContributions() ? ".buildMemoized()" : ".build()").build();
+    }
+
+    /**
+     * Returns true if every contribution to this set always provides the same value, in which case
+     * the set can be built once instead of on every call to {@code get()}.
+     * <p>
+     * 所有的Set贡献都是稳定的（有Scope注解修饰或者是绑定的实例），那么生成的Set对象只需创建一次
+     */
+    private boolean hasOnlyStableContributions() {
+        return binding.bindingType().equals(BindingType.PROVISION)
+                && !binding.dependencies().isEmpty()
+                && binding.dependencies().stream()
+                .allMatch(dependency -> isStable(graph.contributionBinding(dependency.key())));
+    }
+
+    private boolean isStable(ContributionBinding contribution) {
+        // @Reusable bindings use SingleCheck, which may return different instances to racing threads.
+        if (contribution.scope().isPresent() && !contribution.scope().get().isReusable()) {
+            return true;
+        }
+        switch (contribution.kind()) {
+            case COMPONENT:
+            case BOUND_INSTANCE:
+            case COMPONENT_DEPENDENCY:
+                return true;
+            case DELEGATE:
+                // An unscoped @Binds returns whatever its delegate returns.
+                return isStable(
+                        graph.contributionBinding(getOnlyElement(contribution.dependencies()).key()));
+            default:
+                return false;
+        }
     }
 
     @AssistedFactory
@@ -2,7 +2,6 @@ package dagger.internal.codegen.writing;
 
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
@@ -46,7 +45,9 @@ final class SwitchingProviders {
      * Each switch size is fixed at 100 cases each and put in its own method. This is to limit the
      * size of the methods so that we don't reach the "huge" method size limit for Android that will
      * prevent it from being AOT compiled in some versions of Android (b/77652521). This generally
-     * starts to happen around 1500 cases, but we are choosing 100 to be safe.
+     * starts to happen around 1500 cases, but we are choosing 100 to be safe. A switch is split
+     * sooner if its cases are large enough to bring its method near the JIT's huge method limit; see
+     * {@link BytecodeSizeEstimator}.
      */
     // TODO(bcorso): Include a proguard_spec in the Dagger library to prevent inlining these methods?
     // TODO(ronshapiro): Consider making this configurable via a flag.
@@ -178,9 +179,12 @@ final class SwitchingProviders {
         }
 
         private ImmutableList<MethodSpec> getMethods() {
-            ImmutableList<CodeBlock> switchCodeBlockPartitions = switchCodeBlockPartitions();
+            ImmutableList<ImmutableList<CodeBlock>> casePartitions =
+                    BytecodeSizeEstimator.partition(
+                            ImmutableList.copyOf(switchCases.values()), MAX_CASES_PER_SWITCH);
+            ImmutableList<CodeBlock> switchCodeBlockPartitions = switchCodeBlockPartitions(casePartitions);
             if (switchCodeBlockPartitions.size() == 1) {
-                // There are less than MAX_CASES_PER_SWITCH cases, so no need for extra get methods.
+                // All cases fit in one switch, so no need for extra get methods.
                 return ImmutableList.of(
                         methodBuilder("get")
                                 .addModifiers(PUBLIC)
@@ -191,15 +195,24 @@ final class SwitchingProviders {
                                 .build());
             }
 
+            // Unless a switch was split early, the getter of an id is at id / MAX_CASES_PER_SWITCH.
+            boolean evenlyPartitioned =
+                    casePartitions.subList(0, casePartitions.size() - 1).stream()
+                            .allMatch(partition -> partition.size() == MAX_CASES_PER_SWITCH);
+
             // This is the main public "get" method that will route to private getter methods.
             MethodSpec.Builder routerMethod =
                     methodBuilder("get")
                             .addModifiers(PUBLIC)
                             .addAnnotation(Override.class)
-                            .returns(T)
-                            .beginControlFlow("switch (id / $L)", MAX_CASES_PER_SWITCH);
+                            .returns(T);
+            if (evenlyPartitioned) {
+                routerMethod.beginControlFlow("switch (id / $L)", MAX_CASES_PER_SWITCH);
+            }
 
             ImmutableList.Builder<MethodSpec> getMethods = ImmutableList.builder();
+            // The ids are assigned from 0, so each getter's ids end where the next getter's begin.
+            int endId = 0;
             for (int i = 0; i < switchCodeBlockPartitions.size(); i++) {
                 MethodSpec method =
                         methodBuilder("get" + i)
@@ -209,17 +222,31 @@ final class SwitchingProviders {
                                 .addCode(switchCodeBlockPartitions.get(i))
                                 .build();
                 getMethods.add(method);
-                routerMethod.addStatement("case $L: return $N()", i, method);
+                endId += casePartitions.get(i).size();
+                if (evenlyPartitioned) {
+                    routerMethod.addStatement("case $L: return $N()", i, method);
+                } else if (i < switchCodeBlockPartitions.size() - 1) {
+                    routerMethod.beginControlFlow("if (id < $L)", endId)
+                            .addStatement("return $N()", method)
+                            .endControlFlow();
+                } else {
+                    // The last getter throws for an unknown id.
+                    routerMethod.addStatement("return $N()", method);
+                }
             }
 
-            routerMethod.addStatement("default: throw new $T(id)", AssertionError.class).endControlFlow();
+            if (evenlyPartitioned) {
+                routerMethod
+                        .addStatement("default: throw new $T(id)", AssertionError.class)
+                        .endControlFlow();
+            }
 
             return getMethods.add(routerMethod.build()).build();
         }
 
-        private ImmutableList<CodeBlock> switchCodeBlockPartitions() {
-            return Lists.partition(ImmutableList.copyOf(switchCases.values()), MAX_CASES_PER_SWITCH)
-                    .stream()
+        private ImmutableList<CodeBlock> switchCodeBlockPartitions(
+                ImmutableList<ImmutableList<CodeBlock>> casePartitions) {
+            return casePartitions.stream()
                     .map(
                             partitionCases ->
                                     CodeBlock.builder()
@@ -8,6 +8,7 @@ import javax.lang.model.element.TypeElement;
 
 import androidx.room.compiler.processing.XFiler;
 import dagger.MapKey;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.langmodel.DaggerElements;
 
 /**
@@ -42,8 +43,12 @@ import dagger.internal.codegen.langmodel.DaggerElements;
 public final class UnwrappedMapKeyGenerator extends AnnotationCreatorGenerator {
 
     @Inject
-    UnwrappedMapKeyGenerator(XFiler filer, DaggerElements elements, SourceVersion sourceVersion) {
-        super(filer, elements, sourceVersion);
+    UnwrappedMapKeyGenerator(
+            XFiler filer,
+            DaggerElements elements,
+            SourceVersion sourceVersion,
+            ProcessingMetrics metrics) {
+        super(filer, elements, sourceVersion, metrics);
     }
 
     //遍历annotationElement里面的所有方法，如果方法返回类型还是注解类，那么收集起来，并且收集的集合删除当前annotationElement节点
@@ -8,6 +8,7 @@ import javax.lang.model.SourceVersion;
 import androidx.room.compiler.processing.XFiler;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.Factory;
+import dagger.internal.codegen.base.ProcessingMetrics;
 import dagger.internal.codegen.langmodel.DaggerElements;
 
 @DaggerGenerated
@@ -26,25 +27,28 @@ public final class UnwrappedMapKeyGenerator_Factory implements Factory<Unwrapped
 
     private final Provider<SourceVersion> sourceVersionProvider;
 
+    private final Provider<ProcessingMetrics> metricsProvider;
+
     public UnwrappedMapKeyGenerator_Factory(Provider<XFiler> filerProvider,
-                                            Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider) {
+                                            Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider, Provider<ProcessingMetrics> metricsProvider) {
         this.filerProvider = filerProvider;
         this.elementsProvider = elementsProvider;
         this.sourceVersionProvider = sourceVersionProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
     public UnwrappedMapKeyGenerator get() {
-        return newInstance(filerProvider.get(), elementsProvider.get(), sourceVersionProvider.get());
+        return newInstance(filerProvider.get(), elementsProvider.get(), sourceVersionProvider.get(), metricsProvider.get());
     }
 
     public static UnwrappedMapKeyGenerator_Factory create(Provider<XFiler> filerProvider,
-                                                          Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider) {
-        return new UnwrappedMapKeyGenerator_Factory(filerProvider, elementsProvider, sourceVersionProvider);
+                                                          Provider<DaggerElements> elementsProvider, Provider<SourceVersion> sourceVersionProvider, Provider<ProcessingMetrics> metricsProvider) {
+        return new UnwrappedMapKeyGenerator_Factory(filerProvider, elementsProvider, sourceVersionProvider, metricsProvider);
     }
 
     public static UnwrappedMapKeyGenerator newInstance(XFiler filer, DaggerElements elements,
-                                                       SourceVersion sourceVersion) {
-        return new UnwrappedMapKeyGenerator(filer, elements, sourceVersion);
+                                                       SourceVersion sourceVersion, ProcessingMetrics metrics) {
+        return new UnwrappedMapKeyGenerator(filer, elements, sourceVersion, metrics);
     }
 }
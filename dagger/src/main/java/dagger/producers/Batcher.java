@@ -0,0 +1,211 @@
+package dagger.producers;
+
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import dagger.internal.Beta;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static dagger.internal.Preconditions.checkNotNull;
+
+/**
+ * Coalesces the inputs of concurrent calls into one call of a batch function, so that the same
+ * {@link Produces @Produces} method in many production components, which are often created per
+ * request, makes one backend call instead of one each.
+ *
+ * <p>Keep one batcher for all components, for example in a static field or a {@code @Singleton}
+ * binding of the parent component, and load each input through it:
+ *
+ * <pre><code>
+ *   static final {@literal Batcher<UserId, User>} USERS =
+ *       Batcher.create(backend::lookUpUsers, 100, 5, TimeUnit.MILLISECONDS, backendExecutor);
+ *
+ *   {@literal @}Produces
+ *   static {@literal ListenableFuture<User>} user(UserId id) {
+ *     return USERS.load(id);
+ *   }
+ * </code></pre>
+ *
+ * <p>A batch is sent when it holds {@code maxBatchSize} distinct inputs, or {@code maxDelay} after
+ * its first input was added, by calling the batch function on the given executor; the shared timer
+ * thread that measures the delay never calls it, so a slow batch function does not delay the
+ * batches of other batchers. Equal inputs within a batch are sent once and share the result. The
+ * function must return a future of one output per input, in order; if it throws, returns null, or
+ * its future fails or has the wrong number of outputs, or the executor rejects the batch, every load
+ * of the batch fails. Cancelling the future of one load does not cancel the batch or other loads.
+ */
+@Beta
+public final class Batcher<I, O> {
+    private final AsyncFunction<? super List<I>, ? extends List<? extends O>> batchFunction;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Executor executor;
+    // Guarded by this.
+    private Batch pending;
+
+    private Batcher(
+            AsyncFunction<? super List<I>, ? extends List<? extends O>> batchFunction,
+            int maxBatchSize,
+            long maxDelayNanos,
+            Executor executor) {
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelayNanos;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a batcher that calls {@code batchFunction} on {@code executor} with at most {@code
+     * maxBatchSize} inputs, waiting at most {@code maxDelay} for a batch to fill up.
+     */
+    public static <I, O> Batcher<I, O> create(
+            AsyncFunction<? super List<I>, ? extends List<? extends O>> batchFunction,
+            int maxBatchSize,
+            long maxDelay,
+            TimeUnit unit,
+            Executor executor) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        if (maxDelay < 0) {
+            throw new IllegalArgumentException("maxDelay must not be negative: " + maxDelay);
+        }
+        return new Batcher<I, O>(
+                checkNotNull(batchFunction), maxBatchSize, unit.toNanos(maxDelay), checkNotNull(executor));
+    }
+
+    /** Adds {@code input} to the current batch and returns its output. */
+    public ListenableFuture<O> load(I input) {
+        checkNotNull(input);
+        SettableFuture<O> output;
+        Batch full = null;
+        synchronized (this) {
+            if (pending == null) {
+                pending = new Batch();
+                if (maxBatchSize > 1) {
+                    Timer.INSTANCE.schedule(pending, maxDelayNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+            output = pending.outputs.get(input);
+            if (output == null) {
+                output = SettableFuture.create();
+                pending.outputs.put(input, output);
+            }
+            if (pending.outputs.size() >= maxBatchSize) {
+                full = pending;
+                pending = null;
+            }
+        }
+        if (full != null) {
+            full.dispatch();
+        }
+        return Futures.nonCancellationPropagating(output);
+    }
+
+    /** The inputs of one call of the batch function, and the futures of their outputs. */
+    private final class Batch implements Runnable {
+        final Map<I, SettableFuture<O>> outputs = new LinkedHashMap<I, SettableFuture<O>>();
+
+        /** Sends this batch when its delay is up, unless it was sent when it filled up. */
+        @Override
+        public void run() {
+            synchronized (Batcher.this) {
+                if (pending != this) {
+                    return;
+                }
+                pending = null;
+            }
+            dispatch();
+        }
+
+        /** Sends this batch on the executor, failing its loads if the executor rejects it. */
+        void dispatch() {
+            try {
+                executor.execute(
+                        new Runnable() {
+                            @Override
+                            public void run() {
+                                send();
+                            }
+                        });
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }
+
+        private void send() {
+            final List<I> inputs = new ArrayList<I>(outputs.keySet());
+            ListenableFuture<? extends List<? extends O>> results;
+            try {
+                results =
+                        checkNotNull(
+                                batchFunction.apply(inputs), "Batch function returned a null future");
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            Futures.addCallback(
+                    results,
+                    new FutureCallback<List<? extends O>>() {
+                        @Override
+                        public void onSuccess(List<? extends O> results) {
+                            if (results == null || results.size() != inputs.size()) {
+                                onFailure(
+                                        new IllegalStateException(
+                                                "Batch function returned "
+                                                        + (results == null ? "null" : results.size())
+                                                        + " outputs for "
+                                                        + inputs.size()
+                                                        + " inputs"));
+                                return;
+                            }
+                            for (int i = 0; i < inputs.size(); i++) {
+                                outputs.get(inputs.get(i)).set(results.get(i));
+                            }
+                        }
+
+                        @Override
+                        public void onFailure(Throwable t) {
+                            fail(t);
+                        }
+                    },
+                    directExecutor());
+        }
+
+        private void fail(Throwable t) {
+            for (SettableFuture<O> output : outputs.values()) {
+                output.setException(t);
+            }
+        }
+    }
+
+    /**
+     * Holds the timer thread, so that it is only started by the first batcher with a delay. It only
+     * hands due batches to their batchers' executors.
+     */
+    private static final class Timer {
+        static final ScheduledExecutorService INSTANCE =
+                Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactory() {
+                            @Override
+                            public Thread newThread(Runnable task) {
+                                Thread thread = new Thread(task, "dagger-batcher");
+                                thread.setDaemon(true);
+                                return thread;
+                            }
+                        });
+    }
+}
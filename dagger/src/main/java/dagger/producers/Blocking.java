@@ -0,0 +1,28 @@
+package dagger.producers;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import dagger.internal.Beta;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a {@link Produces} method that blocks, for example on a JDBC or RPC call, so that it is run
+ * on a virtual thread of its own rather than on the component's {@link Production @Production}
+ * executor. A blocked virtual thread does not hold on to a platform thread, so the executor does not
+ * have to be sized for the number of producers that may be waiting at once.
+ *
+ * <p>On a JVM without virtual threads (before Java 21, or on Android), the method runs on the
+ * {@code @Production} executor as if it were not annotated.
+ *
+ * <p>To run every producer of a component on virtual threads instead, install {@link
+ * VirtualThreadExecutorModule}.
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+@Beta
+public @interface Blocking {}
@@ -0,0 +1,28 @@
+package dagger.producers;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import dagger.internal.Beta;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a {@link Produces} method as cheap and non-blocking, so that when all of its inputs are
+ * already complete it is called directly on the thread that requested it instead of being handed to
+ * the {@link Production @Production} executor. If any input is still pending, the method is
+ * scheduled on the executor as usual.
+ *
+ * <p>Only use this for methods that do little work and never block: an inlined method runs on
+ * whichever thread asked for its result, which may be the caller of the component's entry point or
+ * a thread that completed another producer.
+ *
+ * <p>A method cannot be both {@code @Inline} and {@link Blocking}.
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+@Beta
+public @interface Inline {}
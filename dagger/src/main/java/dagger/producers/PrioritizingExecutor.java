@@ -0,0 +1,108 @@
+package dagger.producers;
+
+import java.util.Map;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dagger.internal.Beta;
+import dagger.producers.monitoring.ProducerToken;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+/**
+ * A fixed pool of threads for the {@link Production @Production} executor that runs the producer
+ * methods closest to the component's entry points first, instead of in the order they became
+ * ready. With a FIFO executor, a wide fan-out of cheap producers deep in the graph, or the first
+ * producers of new requests, can keep the few producers that complete an entry point waiting in the
+ * queue; this executor lets in-flight entry points finish first.
+ *
+ * <p>The distance of each producer from the nearest entry point of its component is computed by
+ * Dagger when it generates the component, as the {@code depths()} of a generated {@code
+ * <component>_ProducerDepths} class next to it, when compiled with {@code
+ * -Adagger.producerDepths=ENABLED}. Producer methods of the same depth, and tasks that
+ * are not producer methods or not in the map, which run at depth 0, run in the order they were
+ * submitted.
+ *
+ * <pre><code>
+ *   {@literal @}Provides {@literal @}Production {@literal @}Singleton
+ *   static Executor executor() {
+ *     return new PrioritizingExecutor(8, DaggerMyComponent_ProducerDepths.depths());
+ *   }
+ * </code></pre>
+ */
+@Beta
+public final class PrioritizingExecutor extends ThreadPoolExecutor {
+    private final Map<ProducerToken, Integer> depths;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates an executor with {@code threads} daemon threads that prioritizes producers by their
+     * {@code depths}, the distance of each producer from the nearest entry point.
+     */
+    public PrioritizingExecutor(int threads, Map<ProducerToken, Integer> depths) {
+        super(
+                threads,
+                threads,
+                0,
+                TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    private final AtomicLong count = new AtomicLong();
+
+                    @Override
+                    public Thread newThread(Runnable task) {
+                        Thread thread =
+                                new Thread(
+                                        task, "dagger-producer-priority-" + count.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        this.depths = checkNotNull(depths);
+    }
+
+    /** Runs {@code task} at depth 0, with the producers closest to entry points. */
+    @Override
+    public void execute(Runnable task) {
+        super.execute(
+                task instanceof PrioritizedTask
+                        ? task
+                        : new PrioritizedTask(task, 0, sequence.getAndIncrement()));
+    }
+
+    /**
+     * Runs {@code task}, which calls the producer method identified by {@code token}, at that
+     * producer's depth. This is called by Dagger's producers.
+     */
+    public void execute(ProducerToken token, Runnable task) {
+        Integer depth = depths.get(token);
+        super.execute(
+                new PrioritizedTask(task, depth == null ? 0 : depth, sequence.getAndIncrement()));
+    }
+
+    private static final class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+        private final Runnable task;
+        private final int depth;
+        private final long sequence;
+
+        PrioritizedTask(Runnable task, int depth, long sequence) {
+            this.task = checkNotNull(task);
+            this.depth = depth;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            int byDepth = Integer.compare(depth, other.depth);
+            return byDepth != 0 ? byDepth : Long.compare(sequence, other.sequence);
+        }
+    }
+}
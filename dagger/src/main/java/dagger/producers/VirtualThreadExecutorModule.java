@@ -0,0 +1,36 @@
+package dagger.producers;
+
+import java.util.concurrent.Executor;
+
+import dagger.Module;
+import dagger.Provides;
+import dagger.internal.Beta;
+import dagger.producers.internal.VirtualThreadExecutor;
+
+/**
+ * Binds the {@link Production @Production} executor to one that starts a new virtual thread for
+ * each producer method, so that every producer of the component may block without tying up a
+ * platform thread. Install it in place of your own {@code @Production Executor} binding:
+ *
+ * <pre><code>
+ *   {@literal @ProductionComponent(modules = {VirtualThreadExecutorModule.class, MyProducerModule.class})}
+ *   interface MyComponent {
+ *     {@literal ListenableFuture<SomeType>} someType();
+ *   }
+ * </code></pre>
+ *
+ * <p>Virtual threads require Java 21. On an older JVM, or on Android, each producer method runs on
+ * a pooled platform thread instead; idle threads are re-used, but none is ever refused. To only move
+ * the producers that block, annotate them with {@link Blocking} instead.
+ */
+@Module
+@Beta
+public final class VirtualThreadExecutorModule {
+    @Provides
+    @Production
+    static Executor virtualThreadExecutor() {
+        return VirtualThreadExecutor.get();
+    }
+
+    private VirtualThreadExecutorModule() {}
+}
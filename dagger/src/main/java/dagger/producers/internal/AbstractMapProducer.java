@@ -52,6 +52,7 @@ abstract class AbstractMapProducer<K, V, V2> extends AbstractProducer<Map<K, V2>
         Builder<K, V, V2> put(K key, Producer<V> producerOfValue) {
             checkNotNull(key, "key");
             checkNotNull(producerOfValue, "producer of value");
+            AbstractProducer.retain(producerOfValue);
             mapBuilder.put(key, producerOfValue);
             return this;
         }
@@ -5,6 +5,7 @@ import com.google.common.util.concurrent.AbstractFuture;
 import com.google.common.util.concurrent.ListenableFuture;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import dagger.producers.Producer;
 
@@ -14,6 +15,13 @@ import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 public abstract class AbstractProducer<T> implements CancellableProducer<T> {
     private final AtomicBoolean requested = new AtomicBoolean();
     private final NonExternallyCancellableFuture<T> future = new NonExternallyCancellableFuture<T>();
+    /** The number of {@linkplain #newEagerlyCancellingView eagerly cancelling views} not cancelled. */
+    private final AtomicInteger liveEagerViews = new AtomicInteger();
+    /**
+     * Whether anything other than an eagerly cancelling view uses this producer, so that it must not
+     * be cancelled when those views are.
+     */
+    private volatile boolean retained;
 
     protected AbstractProducer() {}
 
@@ -22,12 +30,40 @@ public abstract class AbstractProducer<T> implements CancellableProducer<T> {
 
     @Override
     public final ListenableFuture<T> get() {
+        if (!retained) {
+            retained = true;
+        }
+        return getFuture();
+    }
+
+    /** Starts this producer if it hasn't been, and returns its future. */
+    private ListenableFuture<T> getFuture() {
+        beforeGet();
         if (requested.compareAndSet(false, true)) {
             future.setFuture(compute());
         }
         return future;
     }
 
+    /** Called at the start of every {@link #get()}, including those that return the cached future. */
+    void beforeGet() {}
+
+    /** Returns {@code true} if this producer has been cancelled. */
+    final boolean isCancelled() {
+        return future.isCancelled();
+    }
+
+    /**
+     * Records that {@code producer} is used by a node that holds it directly rather than through a
+     * view, such as a multibinding, or by subcomponents that may not have been created yet, so that
+     * it is never cancelled by its eagerly cancelling views.
+     */
+    static void retain(Producer<?> producer) {
+        if (producer instanceof AbstractProducer) {
+            ((AbstractProducer<?>) producer).retained = true;
+        }
+    }
+
     @Override
     public final void cancel(boolean mayInterruptIfRunning) {
         requested.set(true); // Avoid potentially starting the task later only to cancel it immediately.
@@ -36,16 +72,42 @@ public abstract class AbstractProducer<T> implements CancellableProducer<T> {
 
     @Override
     public Producer<T> newDependencyView() {
+        retained = true;
         return new NonCancellationPropagatingView();
     }
 
     @Override
     public Producer<T> newEntryPointView(CancellationListener cancellationListener) {
+        retained = true;
         NonCancellationPropagatingView result = new NonCancellationPropagatingView();
         result.addCancellationListener(cancellationListener);
         return result;
     }
 
+    /**
+     * Returns a new view of this producer for use as a dependency of another node, which cancels
+     * this producer once its future and those of all other eagerly cancelling views of this producer
+     * have been cancelled, unless anything else uses this producer.
+     *
+     * <p>Cancelling a producer cancels the futures of the views of its dependencies, so cancelling
+     * the last consumer of a subgraph cancels as much of it as nothing else is waiting for, and the
+     * producer methods that haven't started yet are never called.
+     */
+    final Producer<T> newEagerlyCancellingView() {
+        liveEagerViews.incrementAndGet();
+        NonCancellationPropagatingView result = new NonCancellationPropagatingView();
+        result.addCancellationListener(
+                new CancellationListener() {
+                    @Override
+                    public void onProducerFutureCancelled(boolean mayInterruptIfRunning) {
+                        if (liveEagerViews.decrementAndGet() == 0 && !retained) {
+                            cancel(mayInterruptIfRunning);
+                        }
+                    }
+                });
+        return result;
+    }
+
     /**
      * A view of this producer that returns a future that can be cancelled without cancelling the
      * producer itself.
@@ -60,7 +122,7 @@ public abstract class AbstractProducer<T> implements CancellableProducer<T> {
         @SuppressWarnings("FutureReturnValueIgnored")
         @Override
         public ListenableFuture<T> get() {
-            AbstractProducer.this.get(); // force compute()
+            getFuture(); // force compute()
             return viewFuture;
         }
 
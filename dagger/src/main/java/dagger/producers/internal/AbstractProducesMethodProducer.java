@@ -11,10 +11,12 @@ import java.util.concurrent.Executor;
 
 import javax.inject.Provider;
 
+import dagger.producers.PrioritizingExecutor;
 import dagger.producers.monitoring.ProducerMonitor;
 import dagger.producers.monitoring.ProducerToken;
 import dagger.producers.monitoring.ProductionComponentMonitor;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static dagger.internal.Preconditions.checkNotNull;
 
 /**
@@ -29,26 +31,62 @@ import static dagger.internal.Preconditions.checkNotNull;
  */
 public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProducer<T>
         implements AsyncFunction<D, T>, Executor {
+    /**
+     * The monitored producer that is requesting its dependencies on this thread, either while
+     * collecting them or from its method through {@code Producer<T>.get()}, so that the producers
+     * it requests can report it to {@link ProducerMonitor#dependencyRequested}.
+     */
+    private static final ThreadLocal<AbstractProducesMethodProducer<?, ?>> requester =
+            new ThreadLocal<AbstractProducesMethodProducer<?, ?>>();
+
     private final Provider<ProductionComponentMonitor> monitorProvider;
     @NullableDecl
     private final ProducerToken token;
     private final Provider<Executor> executorProvider;
+    private final boolean inline;
     private volatile ProducerMonitor monitor = null;
 
     protected AbstractProducesMethodProducer(
             Provider<ProductionComponentMonitor> monitorProvider,
             @NullableDecl ProducerToken token,
             Provider<Executor> executorProvider) {
+        this(monitorProvider, token, executorProvider, false);
+    }
+
+    /**
+     * @param inline whether the method is {@link dagger.producers.Inline}, and so may be called on
+     *     the requesting thread when its dependencies are already complete
+     */
+    protected AbstractProducesMethodProducer(
+            Provider<ProductionComponentMonitor> monitorProvider,
+            @NullableDecl ProducerToken token,
+            Provider<Executor> executorProvider,
+            boolean inline) {
         this.monitorProvider = checkNotNull(monitorProvider);
         this.token = token;
         this.executorProvider = checkNotNull(executorProvider);
+        this.inline = inline;
     }
 
     @Override
     protected final ListenableFuture<T> compute() {
         monitor = monitorProvider.get().producerMonitorFor(token);
         monitor.requested();
-        ListenableFuture<T> result = Futures.transformAsync(collectDependencies(), this, this);
+        AbstractProducesMethodProducer<?, ?> previousRequester = enterRequester();
+        ListenableFuture<D> dependencies;
+        try {
+            dependencies = collectDependencies();
+        } finally {
+            exitRequester(previousRequester);
+        }
+        ListenableFuture<T> result;
+        if (inline && dependencies.isDone()) {
+            // Nothing to wait for, so skip the executor hand-off; execute() is not called on this path.
+            monitor.ready();
+            result = Futures.transformAsync(dependencies, this, directExecutor());
+        } else {
+            result = Futures.transformAsync(dependencies, this, this);
+        }
         monitor.addCallbackTo(result);
         return result;
     }
@@ -67,16 +105,56 @@ public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProdu
         // because we'll wrap all monitoring in non-throwing monitors before we pass them to the
         // factories.
         monitor.methodStarting();
+        AbstractProducesMethodProducer<?, ?> previousRequester = enterRequester();
         try {
             return callProducesMethod(asyncDependencies);
         } finally {
+            exitRequester(previousRequester);
             monitor.methodFinished();
         }
     }
 
+    /**
+     * Makes this producer the {@linkplain #requester requester} on this thread if it is monitored,
+     * returning the previous one, or this producer if nothing changed.
+     */
+    private AbstractProducesMethodProducer<?, ?> enterRequester() {
+        if (monitor == ProducerMonitor.noOp()) {
+            return this;
+        }
+        AbstractProducesMethodProducer<?, ?> previous = requester.get();
+        requester.set(this);
+        return previous;
+    }
+
+    private void exitRequester(AbstractProducesMethodProducer<?, ?> previous) {
+        if (previous == this) {
+            return;
+        }
+        if (previous == null) {
+            // Don't leave an entry behind on pooled threads.
+            requester.remove();
+        } else {
+            requester.set(previous);
+        }
+    }
+
+    @Override
+    final void beforeGet() {
+        // A request is only reported if this producer's component is monitored, so unmonitored
+        // components never read the thread local.
+        if (token != null && monitorProvider.get() != ProductionComponentMonitor.noOp()) {
+            AbstractProducesMethodProducer<?, ?> current = requester.get();
+            if (current != null && current != this) {
+                current.monitor.dependencyRequested(token);
+            }
+        }
+    }
+
     /**
      * Calls the {@link dagger.producers.Produces} method. This will always be called on the {@link
-     * Executor} provided to this producer.
+     * Executor} provided to this producer, unless the method is {@link dagger.producers.Inline} and
+     * its dependencies were complete when it was requested.
      */
     protected abstract ListenableFuture<T> callProducesMethod(D asyncDependencies) throws Exception;
 
@@ -84,7 +162,17 @@ public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProdu
     @Deprecated
     @Override
     public final void execute(Runnable runnable) {
+        if (isCancelled()) {
+            // The method won't be called, so don't take up an executor thread to find that out.
+            runnable.run();
+            return;
+        }
         monitor.ready();
-        executorProvider.get().execute(runnable);
+        Executor executor = executorProvider.get();
+        if (executor instanceof PrioritizingExecutor && token != null) {
+            ((PrioritizingExecutor) executor).execute(token, runnable);
+        } else {
+            executor.execute(runnable);
+        }
     }
 }
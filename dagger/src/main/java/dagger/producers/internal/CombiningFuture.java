@@ -0,0 +1,125 @@
+package dagger.producers.internal;
+
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+/**
+ * A future of a value {@linkplain #combine combined} from the values of several input futures, for
+ * the multibinding producers.
+ *
+ * <p>It behaves like {@code Futures.transform(Futures.allAsList(inputs), combiner)}: it fails as
+ * soon as any input fails, is cancelled if any input is, and cancelling it cancels the inputs. But
+ * instead of a list future and a transform future, and a transform future per input in {@link
+ * MapProducer}, it only needs a small listener per input. Each listener writes its input's value
+ * into a presized array and counts down; the last one combines the values.
+ *
+ * <p>Call {@link #start()} once, after construction.
+ */
+abstract class CombiningFuture<R> extends AbstractFuture<R> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<CombiningFuture> REMAINING =
+            AtomicIntegerFieldUpdater.newUpdater(CombiningFuture.class, "remaining");
+
+    private ListenableFuture<?>[] inputs;
+    private Object[] values;
+    private volatile int remaining;
+
+    CombiningFuture(ListenableFuture<?>[] inputs) {
+        this.inputs = inputs;
+        this.values = new Object[inputs.length];
+        this.remaining = inputs.length;
+    }
+
+    /**
+     * Returns the result of this future, given the value of each input in order. If this throws, the
+     * future fails with that exception.
+     */
+    protected abstract R combine(Object[] values);
+
+    /** Starts listening to the inputs, and returns this future. */
+    final CombiningFuture<R> start() {
+        ListenableFuture<?>[] inputs = this.inputs;
+        if (inputs.length == 0) {
+            complete();
+            return this;
+        }
+        for (int i = 0; i < inputs.length && !isDone(); i++) {
+            if (inputs[i].isDone()) {
+                // Most provision contributions are: take their value now rather than via a listener.
+                inputDone(i);
+            } else {
+                inputs[i].addListener(new InputListener(i), directExecutor());
+            }
+        }
+        return this;
+    }
+
+    private void inputDone(int index) {
+        ListenableFuture<?>[] inputs = this.inputs;
+        Object[] values = this.values;
+        if (inputs == null || values == null) {
+            return; // Already failed or cancelled.
+        }
+        try {
+            values[index] = Futures.getDone(inputs[index]);
+        } catch (ExecutionException e) {
+            setException(e.getCause());
+            return;
+        } catch (CancellationException e) {
+            cancel(false);
+            return;
+        } catch (RuntimeException | Error e) {
+            setException(e);
+            return;
+        }
+        // The decrement publishes the value written above to whichever thread completes this future.
+        if (REMAINING.decrementAndGet(this) == 0) {
+            complete();
+        }
+    }
+
+    private void complete() {
+        Object[] values = this.values;
+        if (values == null) {
+            return;
+        }
+        try {
+            set(combine(values));
+        } catch (RuntimeException | Error e) {
+            setException(e);
+        }
+    }
+
+    @Override
+    protected final void afterDone() {
+        ListenableFuture<?>[] inputs = this.inputs;
+        this.inputs = null;
+        this.values = null;
+        if (isCancelled() && inputs != null) {
+            boolean mayInterruptIfRunning = wasInterrupted();
+            for (ListenableFuture<?> input : inputs) {
+                input.cancel(mayInterruptIfRunning);
+            }
+        }
+    }
+
+    private final class InputListener implements Runnable {
+        private final int index;
+
+        InputListener(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void run() {
+            inputDone(index);
+        }
+    }
+}
@@ -41,6 +41,7 @@ public final class DelegateProducer<T> implements CancellableProducer<T> {
         if (asDelegateProducer.delegate != null) {
             throw new IllegalStateException();
         }
+        AbstractProducer.retain(delegate);
         asDelegateProducer.delegate = (CancellableProducer<T>) delegate;
     }
 
@@ -1,22 +1,15 @@
 package dagger.producers.internal;
 
 
-import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
-import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 import javax.inject.Provider;
 
 import dagger.producers.Producer;
 
-import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
-
 /**
  * A {@link Producer} implementation used to implement {@link Map} bindings. This producer returns a
  * {@code Map<K, V>} which is populated by calls to the delegate {@link Producer#get} methods.
@@ -63,28 +56,23 @@ public final class MapProducer<K, V> extends AbstractMapProducer<K, V, V> {
 
     @Override
     protected ListenableFuture<Map<K, V>> compute() {
-        final List<ListenableFuture<Map.Entry<K, V>>> listOfEntries = new ArrayList<>();
-        for (final Map.Entry<K, Producer<V>> entry : contributingMap().entrySet()) {
-            listOfEntries.add(
-                    Futures.transform(
-                            entry.getValue().get(),
-                            new Function<V, Map.Entry<K, V>>() {
-                                @Override
-                                public Map.Entry<K, V> apply(V computedValue) {
-                                    return Maps.immutableEntry(entry.getKey(), computedValue);
-                                }
-                            },
-                            directExecutor()));
+        final ImmutableMap<K, Producer<V>> contributingMap = contributingMap();
+        ListenableFuture<?>[] futures = new ListenableFuture<?>[contributingMap.size()];
+        int next = 0;
+        for (Producer<V> producer : contributingMap.values()) {
+            futures[next++] = producer.get();
         }
-
-        return Futures.transform(
-                Futures.allAsList(listOfEntries),
-                new Function<List<Map.Entry<K, V>>, Map<K, V>>() {
-                    @Override
-                    public Map<K, V> apply(List<Map.Entry<K, V>> entries) {
-                        return ImmutableMap.copyOf(entries);
-                    }
-                },
-                directExecutor());
+        return new CombiningFuture<Map<K, V>>(futures) {
+            @SuppressWarnings("unchecked") // futures[i] is the future of the i-th value
+            @Override
+            protected Map<K, V> combine(Object[] values) {
+                ImmutableMap.Builder<K, V> builder = ImmutableMap.builderWithExpectedSize(values.length);
+                int i = 0;
+                for (K key : contributingMap.keySet()) {
+                    builder.put(key, (V) values[i++]);
+                }
+                return builder.build();
+            }
+        }.start();
     }
 }
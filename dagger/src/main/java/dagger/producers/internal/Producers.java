@@ -11,6 +11,7 @@ import com.google.common.util.concurrent.ListenableFuture;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javax.inject.Provider;
 
@@ -123,6 +124,24 @@ public final class Producers {
         };
     }
 
+    /**
+     * Returns the executor provider for a {@link dagger.producers.Blocking} producer method: a new
+     * virtual thread for each call where the JVM supports them, otherwise the component's executor.
+     */
+    public static Provider<Executor> blockingExecutorProvider(Provider<Executor> executorProvider) {
+        checkNotNull(executorProvider);
+        if (!VirtualThreadExecutor.isSupported()) {
+            return executorProvider;
+        }
+        final Executor virtualThreadExecutor = VirtualThreadExecutor.get();
+        return new Provider<Executor>() {
+            @Override
+            public Executor get() {
+                return virtualThreadExecutor;
+            }
+        };
+    }
+
     /**
      * Returns a producer that succeeds with the given value.
      *
@@ -162,6 +181,31 @@ public final class Producers {
                 "nonCancellationPropagatingViewOf called with non-CancellableProducer: " + producer);
     }
 
+    /**
+     * Returns a new view of the given {@code producer} for use as a dependency of another node, like
+     * {@link #nonCancellationPropagatingViewOf}, except that once the futures of all such views of a
+     * producer of a {@code Produces} method, multibinding or other {@link AbstractProducer} have been
+     * cancelled, and nothing else holds a view of it, the producer itself is cancelled. Other
+     * producers get an ordinary view.
+     *
+     * @throws IllegalArgumentException if {@code producer} is not a {@code CancellableProducer}
+     */
+    public static <T> Producer<T> eagerlyCancellingViewOf(Producer<T> producer) {
+        if (producer instanceof AbstractProducer) {
+            return ((AbstractProducer<T>) producer).newEagerlyCancellingView();
+        }
+        return nonCancellationPropagatingViewOf(producer);
+    }
+
+    /**
+     * Keeps the given {@code producer} from being cancelled by its {@linkplain
+     * #eagerlyCancellingViewOf eagerly cancelling views}, because a subcomponent that is created later
+     * may still depend on it. Other producers are not affected.
+     */
+    public static void retainForSubcomponents(Producer<?> producer) {
+        AbstractProducer.retain(producer);
+    }
+
     /**
      * Returns a new view of the given {@code producer} for use as an entry point in a production
      * component, if and only if it is a {@link CancellableProducer}. When the returned producer's
@@ -56,6 +56,7 @@ public final class SetOfProducedProducer<T> extends AbstractProducer<Set<Produce
         @SuppressWarnings("unchecked")
         public Builder<T> addProducer(Producer<? extends T> individualProducer) {
             assert individualProducer != null : "Codegen error? Null producer";
+            AbstractProducer.retain(individualProducer);
             individualProducers.add((Producer<T>) individualProducer);
             return this;
         }
@@ -64,6 +65,7 @@ public final class SetOfProducedProducer<T> extends AbstractProducer<Set<Produce
         public Builder<T> addCollectionProducer(
                 Producer<? extends Collection<? extends T>> multipleProducer) {
             assert multipleProducer != null : "Codegen error? Null producer";
+            AbstractProducer.retain(multipleProducer);
             collectionProducers.add((Producer<Collection<T>>) multipleProducer);
             return this;
         }
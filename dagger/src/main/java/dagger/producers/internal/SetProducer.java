@@ -1,12 +1,9 @@
 package dagger.producers.internal;
 
 
-import com.google.common.base.Function;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -14,8 +11,6 @@ import java.util.Set;
 import dagger.producers.Producer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.util.concurrent.Futures.transform;
-import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static dagger.internal.DaggerCollections.hasDuplicates;
 import static dagger.internal.DaggerCollections.presizedList;
 
@@ -59,6 +54,7 @@ public final class SetProducer<T> extends AbstractProducer<Set<T>> {
         @SuppressWarnings("unchecked")
         public Builder<T> addProducer(Producer<? extends T> individualProducer) {
             assert individualProducer != null : "Codegen error? Null producer";
+            AbstractProducer.retain(individualProducer);
             individualProducers.add((Producer<T>) individualProducer);
             return this;
         }
@@ -67,6 +63,7 @@ public final class SetProducer<T> extends AbstractProducer<Set<T>> {
         public Builder<T> addCollectionProducer(
                 Producer<? extends Collection<? extends T>> multipleProducer) {
             assert multipleProducer != null : "Codegen error? Null producer";
+            AbstractProducer.retain(multipleProducer);
             collectionProducers.add((Producer<Collection<T>>) multipleProducer);
             return this;
         }
@@ -103,32 +100,29 @@ public final class SetProducer<T> extends AbstractProducer<Set<T>> {
      */
     @Override
     public ListenableFuture<Set<T>> compute() {
-        List<ListenableFuture<T>> individualFutures =
-                new ArrayList<ListenableFuture<T>>(individualProducers.size());
+        final int individualCount = individualProducers.size();
+        ListenableFuture<?>[] futures =
+                new ListenableFuture<?>[individualCount + collectionProducers.size()];
+        int next = 0;
         for (Producer<T> producer : individualProducers) {
-            individualFutures.add(checkNotNull(producer.get()));
+            futures[next++] = checkNotNull(producer.get());
         }
-
-        // Presize the list of collections produced by the amount of collectionProducers, with one more
-        // for the consolidate individualFutures from Futures.allAsList.
-        List<ListenableFuture<? extends Collection<T>>> futureCollections =
-                new ArrayList<ListenableFuture<? extends Collection<T>>>(collectionProducers.size() + 1);
-        futureCollections.add(Futures.allAsList(individualFutures));
         for (Producer<Collection<T>> producer : collectionProducers) {
-            futureCollections.add(checkNotNull(producer.get()));
+            futures[next++] = checkNotNull(producer.get());
         }
-        return transform(
-                Futures.allAsList(futureCollections),
-                new Function<List<Collection<T>>, Set<T>>() {
-                    @Override
-                    public Set<T> apply(List<Collection<T>> sets) {
-                        ImmutableSet.Builder<T> builder = ImmutableSet.builder();
-                        for (Collection<T> set : sets) {
-                            builder.addAll(set);
-                        }
-                        return builder.build();
-                    }
-                },
-                directExecutor());
+        return new CombiningFuture<Set<T>>(futures) {
+            @SuppressWarnings("unchecked") // futures[i] is a future of T, then of Collection<T>
+            @Override
+            protected Set<T> combine(Object[] values) {
+                ImmutableSet.Builder<T> builder = ImmutableSet.builderWithExpectedSize(values.length);
+                for (int i = 0; i < individualCount; i++) {
+                    builder.add((T) values[i]);
+                }
+                for (int i = individualCount; i < values.length; i++) {
+                    builder.addAll((Collection<T>) values[i]);
+                }
+                return builder.build();
+            }
+        }.start();
     }
 }
@@ -0,0 +1,77 @@
+package dagger.producers.internal;
+
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link Executor} that runs each task on a new virtual thread.
+ *
+ * <p>Dagger's runtime is compiled for Java 8 and Android, so virtual threads are looked up
+ * reflectively once; {@link #isSupported()} is {@code false} where they do not exist or are a
+ * preview feature that is not enabled. There, tasks run on a shared, unbounded pool of daemon
+ * platform threads instead, which keeps the "a thread for every blocked producer" behavior at a
+ * higher cost per thread. An executor must not throw, as a task it drops would leave a producer
+ * that never completes.
+ */
+public final class VirtualThreadExecutor implements Executor {
+    @NullableDecl private static final ThreadFactory VIRTUAL_THREADS = virtualThreadFactory();
+    private static final VirtualThreadExecutor INSTANCE = new VirtualThreadExecutor();
+
+    /** Returns {@code Thread.ofVirtual().name("dagger-producer-", 0).factory()}, or null. */
+    @NullableDecl
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, "dagger-producer-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Returns {@code true} if this JVM can start virtual threads. */
+    public static boolean isSupported() {
+        return VIRTUAL_THREADS != null;
+    }
+
+    /** Returns the executor. */
+    public static Executor get() {
+        return INSTANCE;
+    }
+
+    private VirtualThreadExecutor() {}
+
+    @Override
+    public void execute(Runnable task) {
+        if (VIRTUAL_THREADS != null) {
+            VIRTUAL_THREADS.newThread(task).start();
+        } else {
+            PlatformThreads.POOL.execute(task);
+        }
+    }
+
+    /** Holds the fallback pool, so that it is only created where virtual threads are missing. */
+    private static final class PlatformThreads {
+        static final ExecutorService POOL =
+                Executors.newCachedThreadPool(
+                        new ThreadFactory() {
+                            private final AtomicLong count = new AtomicLong();
+
+                            @Override
+                            public Thread newThread(Runnable task) {
+                                Thread thread =
+                                        new Thread(task, "dagger-producer-" + count.getAndIncrement());
+                                thread.setDaemon(true);
+                                return thread;
+                            }
+                        });
+    }
+}
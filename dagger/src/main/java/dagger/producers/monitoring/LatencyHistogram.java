@@ -0,0 +1,139 @@
+package dagger.producers.monitoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds, in the style of an HDR histogram: values
+ * below 32ns have a bucket each, and each power of two above that is split into 16 linear buckets,
+ * so a recorded value is reported with a relative error of at most 1/16 (6.25%). Values above
+ * {@link #MAX_TRACKABLE_NANOS} (about 36 minutes) are recorded as that value.
+ *
+ * <p>{@link #record} is a single atomic increment and does not allocate, so it may be called
+ * concurrently from any thread. A {@link Snapshot} is not an atomic view of the histogram: values
+ * recorded while it is taken may or may not be included.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** The largest value that is recorded precisely; larger values are clamped to it. */
+    public static final long MAX_TRACKABLE_NANOS = (1L << 41) - 1;
+
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /** Records one latency of {@code nanos}. Negative values are recorded as 0. */
+    public void record(long nanos) {
+        counts.getAndIncrement(bucketIndex(nanos));
+    }
+
+    /** Returns a copy of the counts recorded so far. */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(copy, total);
+    }
+
+    static int bucketIndex(long nanos) {
+        if (nanos < 2 * SUB_BUCKETS) {
+            return nanos < 0 ? 0 : (int) nanos;
+        }
+        long value = Math.min(nanos, MAX_TRACKABLE_NANOS);
+        // The top SUB_BUCKET_BITS + 1 bits of the value select the bucket within its power of two.
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long lowestValue(int bucketIndex) {
+        if (bucketIndex < 2 * SUB_BUCKETS) {
+            return bucketIndex;
+        }
+        int shift = (bucketIndex >>> SUB_BUCKET_BITS) - 1;
+        return (long) ((bucketIndex & (SUB_BUCKETS - 1)) + SUB_BUCKETS) << shift;
+    }
+
+    static long highestValue(int bucketIndex) {
+        return bucketIndex + 1 == BUCKET_COUNT
+                ? MAX_TRACKABLE_NANOS
+                : lowestValue(bucketIndex + 1) - 1;
+    }
+
+    /** An immutable copy of the counts of a {@link LatencyHistogram}. */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long totalCount;
+
+        private Snapshot(long[] counts, long totalCount) {
+            this.counts = counts;
+            this.totalCount = totalCount;
+        }
+
+        /** Returns the number of recorded values. */
+        public long count() {
+            return totalCount;
+        }
+
+        /**
+         * Returns the value at or below which {@code percentile} percent of the recorded values lie,
+         * as the highest value of its bucket, or 0 if nothing was recorded.
+         */
+        public long valueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be in [0, 100]: " + percentile);
+            }
+            if (totalCount == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return highestValue(i);
+                }
+            }
+            return maxValue();
+        }
+
+        /** Returns the highest value of the highest bucket recorded into, or 0 if none. */
+        public long maxValue() {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] != 0) {
+                    return highestValue(i);
+                }
+            }
+            return 0;
+        }
+
+        /** Returns the mean of the recorded values, taking each to be the middle of its bucket. */
+        public double mean() {
+            if (totalCount == 0) {
+                return 0;
+            }
+            double sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    sum += counts[i] * ((lowestValue(i) + highestValue(i)) / 2.0);
+                }
+            }
+            return sum / totalCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "count=%d p50=%dns p90=%dns p99=%dns p99.9=%dns max=%dns",
+                    totalCount,
+                    valueAtPercentile(50),
+                    valueAtPercentile(90),
+                    valueAtPercentile(99),
+                    valueAtPercentile(99.9),
+                    maxValue());
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package dagger.producers.monitoring;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * A monitor factory that records, for each {@linkplain ProducerToken producer}, histograms of:
+ * <ul>
+ *   <li>queue wait: from {@link ProducerMonitor#requested()} to {@link ProducerMonitor#ready()},
+ *       i.e. the time spent waiting for the producer's inputs;
+ *   <li>scheduling: from {@link ProducerMonitor#ready()} to {@link
+ *       ProducerMonitor#methodStarting()}, i.e. the time spent in the executor's queue;
+ *   <li>execution: from {@link ProducerMonitor#methodStarting()} to {@link
+ *       ProducerMonitor#methodFinished()};
+ *   <li>end to end: from {@link ProducerMonitor#requested()} to {@link
+ *       ProducerMonitor#succeeded(Object)} or {@link ProducerMonitor#failed(Throwable)}.
+ * </ul>
+ *
+ * <p>One factory may be shared by any number of components and threads; the latencies of all
+ * components are recorded into the same histograms. Recording takes no locks and, once a producer
+ * has been seen, allocates nothing beyond the monitor itself. Most of the cost is reading {@link
+ * System#nanoTime()}, which takes 20-50ns depending on the clock source, so each monitored
+ * execution measures only one of the four latencies, chosen at random, and reads the clock twice.
+ * Only a random one in {@linkplain #samplingInterval() n} executions is monitored, {@value
+ * #DEFAULT_SAMPLING_INTERVAL} by default, which keeps the average overhead per producer well below
+ * 100ns; each histogram then holds a random one in {@code 4n} executions, and {@link
+ * ProducerLatencies#failures()} counts the failures among the monitored executions. To install it,
+ * bind an instance into the component's set of monitor factories, and read it with {@link
+ * #snapshot()} or {@link #writeCsv(Appendable)}:
+ *
+ * <pre><code>
+ *   {@literal @}Provides {@literal @}IntoSet
+ *   static ProductionComponentMonitor.Factory latencies() {
+ *     return LATENCIES;
+ *   }
+ * </code></pre>
+ * <p>
+ * 按生产者统计排队、调度、执行及端到端延迟的无锁直方图监控。
+ */
+public final class LatencyHistogramMonitorFactory extends ProductionComponentMonitor.Factory {
+    /** The sampling interval of {@link #LatencyHistogramMonitorFactory()}. */
+    public static final int DEFAULT_SAMPLING_INTERVAL = 4;
+
+    // The latencies a monitored execution may measure, one each.
+    private static final int QUEUE_WAIT = 0;
+    private static final int SCHEDULING = 1;
+    private static final int EXECUTION = 2;
+    private static final int END_TO_END = 3;
+    private static final int LATENCIES = 4;
+
+    private final ConcurrentMap<ProducerToken, Histograms> histograms = new ConcurrentHashMap<>();
+    private final int samplingInterval;
+
+    private final ProductionComponentMonitor componentMonitor =
+            new ProductionComponentMonitor() {
+                @Override
+                public ProducerMonitor producerMonitorFor(ProducerToken token) {
+                    if (token == null) {
+                        return ProducerMonitor.noOp();
+                    }
+                    // One draw both samples the execution and picks the latency it measures.
+                    int latency = ThreadLocalRandom.current().nextInt(samplingInterval * LATENCIES);
+                    return latency < LATENCIES
+                            ? new TimingProducerMonitor(histogramsFor(token), latency)
+                            : ProducerMonitor.noOp();
+                }
+            };
+
+    /**
+     * Creates a factory that monitors a random one in {@value #DEFAULT_SAMPLING_INTERVAL} executions
+     * of each producer.
+     */
+    public LatencyHistogramMonitorFactory() {
+        this(DEFAULT_SAMPLING_INTERVAL);
+    }
+
+    /**
+     * Creates a factory that monitors a random one in {@code samplingInterval} executions of each
+     * producer; 1 monitors every execution.
+     */
+    public LatencyHistogramMonitorFactory(int samplingInterval) {
+        if (samplingInterval < 1 || samplingInterval > Integer.MAX_VALUE / LATENCIES) {
+            throw new IllegalArgumentException(
+                    "samplingInterval must be in [1, "
+                            + Integer.MAX_VALUE / LATENCIES
+                            + "]: "
+                            + samplingInterval);
+        }
+        this.samplingInterval = samplingInterval;
+    }
+
+    /** Returns the {@code n} such that one in {@code n} executions is monitored. */
+    public int samplingInterval() {
+        return samplingInterval;
+    }
+
+    @Override
+    public ProductionComponentMonitor create(Object component) {
+        return componentMonitor;
+    }
+
+    private Histograms histogramsFor(ProducerToken token) {
+        // get() first: after the first request for a token this never takes a lock.
+        Histograms result = histograms.get(token);
+        if (result == null) {
+            Histograms created = new Histograms();
+            result = histograms.putIfAbsent(token, created);
+            if (result == null) {
+                result = created;
+            }
+        }
+        return result;
+    }
+
+    /** Returns the latencies recorded so far, per producer. */
+    public Map<ProducerToken, ProducerLatencies> snapshot() {
+        Map<ProducerToken, ProducerLatencies> snapshot = new LinkedHashMap<>();
+        for (Map.Entry<ProducerToken, Histograms> entry : histograms.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return unmodifiableMap(snapshot);
+    }
+
+    /** Forgets all latencies recorded so far. Monitors already handed out keep recording. */
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Writes the {@linkplain #snapshot() snapshot} as CSV, one row per producer and histogram, with
+     * all latencies in nanoseconds.
+     */
+    public void writeCsv(Appendable out) throws IOException {
+        out.append("producer,histogram,count,failures,mean,p50,p90,p99,p999,max\n");
+        for (Map.Entry<ProducerToken, ProducerLatencies> entry : snapshot().entrySet()) {
+            String producer = csvString(entry.getKey().toString());
+            ProducerLatencies latencies = entry.getValue();
+            writeCsvRow(out, producer, "queueWait", latencies.failures(), latencies.queueWait());
+            writeCsvRow(out, producer, "scheduling", latencies.failures(), latencies.scheduling());
+            writeCsvRow(out, producer, "execution", latencies.failures(), latencies.execution());
+            writeCsvRow(out, producer, "endToEnd", latencies.failures(), latencies.endToEnd());
+        }
+    }
+
+    private static void writeCsvRow(
+            Appendable out, String producer, String histogram, long failures,
+            LatencyHistogram.Snapshot snapshot) throws IOException {
+        out.append(producer).append(',')
+                .append(histogram).append(',')
+                .append(String.valueOf(snapshot.count())).append(',')
+                .append(String.valueOf(failures)).append(',')
+                .append(String.valueOf(Math.round(snapshot.mean()))).append(',')
+                .append(String.valueOf(snapshot.valueAtPercentile(50))).append(',')
+                .append(String.valueOf(snapshot.valueAtPercentile(90))).append(',')
+                .append(String.valueOf(snapshot.valueAtPercentile(99))).append(',')
+                .append(String.valueOf(snapshot.valueAtPercentile(99.9))).append(',')
+                .append(String.valueOf(snapshot.maxValue())).append('\n');
+    }
+
+    private static String csvString(String value) {
+        return value.indexOf(',') < 0 && value.indexOf('"') < 0
+                ? value
+                : '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /** The latencies recorded for one producer. */
+    public static final class ProducerLatencies {
+        private final LatencyHistogram.Snapshot queueWait;
+        private final LatencyHistogram.Snapshot scheduling;
+        private final LatencyHistogram.Snapshot execution;
+        private final LatencyHistogram.Snapshot endToEnd;
+        private final long failures;
+
+        ProducerLatencies(
+                LatencyHistogram.Snapshot queueWait,
+                LatencyHistogram.Snapshot scheduling,
+                LatencyHistogram.Snapshot execution,
+                LatencyHistogram.Snapshot endToEnd,
+                long failures) {
+            this.queueWait = queueWait;
+            this.scheduling = scheduling;
+            this.execution = execution;
+            this.endToEnd = endToEnd;
+            this.failures = failures;
+        }
+
+        /** From requested to ready: the time spent waiting for inputs. */
+        public LatencyHistogram.Snapshot queueWait() {
+            return queueWait;
+        }
+
+        /** From ready to the method starting: the time spent in the executor's queue. */
+        public LatencyHistogram.Snapshot scheduling() {
+            return scheduling;
+        }
+
+        /** The time spent in the producer method itself, not including any future it returns. */
+        public LatencyHistogram.Snapshot execution() {
+            return execution;
+        }
+
+        /** From requested to succeeded or failed. */
+        public LatencyHistogram.Snapshot endToEnd() {
+            return endToEnd;
+        }
+
+        /**
+         * Returns the number of monitored executions in which the producer, or one of its inputs,
+         * failed.
+         */
+        public long failures() {
+            return failures;
+        }
+
+        @Override
+        public String toString() {
+            return "queueWait: " + queueWait
+                    + "\nscheduling: " + scheduling
+                    + "\nexecution: " + execution
+                    + "\nendToEnd: " + endToEnd
+                    + "\nfailures: " + failures;
+        }
+    }
+
+    private static final class Histograms {
+        final LatencyHistogram queueWait = new LatencyHistogram();
+        final LatencyHistogram scheduling = new LatencyHistogram();
+        final LatencyHistogram execution = new LatencyHistogram();
+        final LatencyHistogram endToEnd = new LatencyHistogram();
+        final AtomicLong failures = new AtomicLong();
+
+        ProducerLatencies snapshot() {
+            return new ProducerLatencies(
+                    queueWait.snapshot(),
+                    scheduling.snapshot(),
+                    execution.snapshot(),
+                    endToEnd.snapshot(),
+                    failures.get());
+        }
+    }
+
+    /**
+     * Monitors one execution of a producer, measuring one of the latencies with two reads of the
+     * clock. The callbacks may come from different threads, but each happens-before the next through
+     * the futures and executor that trigger them, so the start time need not be volatile.
+     */
+    private static final class TimingProducerMonitor extends ProducerMonitor {
+        private final Histograms histograms;
+        private final int latency;
+        private boolean started;
+        private long startNanos;
+
+        TimingProducerMonitor(Histograms histograms, int latency) {
+            this.histograms = histograms;
+            this.latency = latency;
+        }
+
+        @Override
+        public void requested() {
+            if (latency == QUEUE_WAIT || latency == END_TO_END) {
+                start();
+            }
+        }
+
+        @Override
+        public void ready() {
+            if (latency == QUEUE_WAIT) {
+                stop(histograms.queueWait);
+            } else if (latency == SCHEDULING) {
+                start();
+            }
+        }
+
+        @Override
+        public void methodStarting() {
+            if (latency == SCHEDULING) {
+                stop(histograms.scheduling);
+            } else if (latency == EXECUTION) {
+                start();
+            }
+        }
+
+        @Override
+        public void methodFinished() {
+            if (latency == EXECUTION) {
+                stop(histograms.execution);
+            }
+        }
+
+        @Override
+        public void succeeded(Object value) {
+            if (latency == END_TO_END) {
+                stop(histograms.endToEnd);
+            }
+        }
+
+        @Override
+        public void failed(Throwable t) {
+            histograms.failures.incrementAndGet();
+            if (latency == END_TO_END) {
+                stop(histograms.endToEnd);
+            }
+        }
+
+        private void start() {
+            startNanos = System.nanoTime();
+            started = true;
+        }
+
+        /** Records the time since {@link #start()}, unless the callback that starts was skipped. */
+        private void stop(LatencyHistogram histogram) {
+            if (started) {
+                histogram.record(System.nanoTime() - startNanos);
+                started = false;
+            }
+        }
+    }
+}
@@ -72,7 +72,10 @@ public final class Monitors {
         public ProducerMonitor producerMonitorFor(ProducerToken token) {
             try {
                 ProducerMonitor monitor = delegate.producerMonitorFor(token);
-                return monitor == null ? ProducerMonitor.noOp() : new NonThrowingProducerMonitor(monitor);
+                // The no-op monitor cannot throw, and producers check for it to skip their bookkeeping.
+                return monitor == null || monitor == ProducerMonitor.noOp()
+                        ? ProducerMonitor.noOp()
+                        : new NonThrowingProducerMonitor(monitor);
             } catch (RuntimeException e) {
                 logProducerMonitorForException(e, delegate, token);
                 return ProducerMonitor.noOp();
@@ -130,6 +133,15 @@ public final class Monitors {
             }
         }
 
+        @Override
+        public void dependencyRequested(ProducerToken dependency) {
+            try {
+                delegate.dependencyRequested(dependency);
+            } catch (RuntimeException e) {
+                logProducerMonitorMethodException(e, delegate, "dependencyRequested");
+            }
+        }
+
         @Override
         public void methodStarting() {
             try {
@@ -185,7 +197,7 @@ public final class Monitors {
             for (ProductionComponentMonitor delegate : delegates) {
                 try {
                     ProducerMonitor monitor = delegate.producerMonitorFor(token);
-                    if (monitor != null) {
+                    if (monitor != null && monitor != ProducerMonitor.noOp()) {
                         monitorsBuilder.add(monitor);
                     }
                 } catch (RuntimeException e) {
@@ -266,6 +278,17 @@ public final class Monitors {
             }
         }
 
+        @Override
+        public void dependencyRequested(ProducerToken dependency) {
+            for (ProducerMonitor delegate : delegates) {
+                try {
+                    delegate.dependencyRequested(dependency);
+                } catch (RuntimeException e) {
+                    logProducerMonitorMethodException(e, delegate, "dependencyRequested");
+                }
+            }
+        }
+
         @Override
         public void methodStarting() {
             for (ProducerMonitor delegate : delegates) {
@@ -103,6 +103,21 @@ public abstract class ProducerMonitor {
     public void ready() {
     }
 
+    /**
+     * Called when this producer requests the output of another monitored producer that it depends
+     * on, identified by {@code dependency}. This is called every time, even if the dependency was
+     * already requested by another producer and its output is shared, so together these calls give
+     * the edges of the binding graph that the component actually executed.
+     *
+     * <p>This is called from the thread that called {@link #requested()} while the inputs are
+     * collected, or from the producer method's thread if it calls {@link Producer#get()} on an
+     * injected {@code Producer<T>}.
+     *
+     * <p>This implementation is a no-op.
+     */
+    public void dependencyRequested(@SuppressWarnings("unused") ProducerToken dependency) {
+    }
+
     /**
      * Called when the producer method is about to start executing. This will be called from the same
      * thread as the producer method itself.
@@ -0,0 +1,477 @@
+package dagger.producers.monitoring;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A monitor factory that traces each execution of the components it monitors: when every producer
+ * was requested, ran and completed, on which thread it ran, and which producers it
+ * requested (through {@link ProducerMonitor#dependencyRequested}), which are the edges of the
+ * binding graph that was executed.
+ *
+ * <p>From these, {@link #criticalPaths()} finds, for each entry-point execution, the chain of
+ * producers that bounded its latency: starting from the entry point, each step is the dependency
+ * that completed last, down to a producer that had none. {@link #writeChromeTrace(Appendable)}
+ * exports the traces in the Chrome trace-event JSON format, which {@code chrome://tracing} and
+ * <a href="https://ui.perfetto.dev">Perfetto</a> open without any collector: one process per
+ * component, the method executions on the threads that ran them, each request as an async span,
+ * and the critical path of each entry point on a lane of its own.
+ *
+ * <p>Tracing keeps every event in memory, so only the latest {@code maxComponents} components are
+ * kept. It is meant for diagnosing a slow entry point, not for always-on use; see {@link
+ * LatencyHistogramMonitorFactory} for that.
+ * <p>
+ * 记录生产者执行轨迹并计算关键路径，可导出为Chrome trace-event JSON。
+ */
+public final class TracingMonitorFactory extends ProductionComponentMonitor.Factory {
+    private final long originNanos = System.nanoTime();
+    private final int maxComponents;
+    private final ConcurrentLinkedQueue<ComponentTrace> components =
+            new ConcurrentLinkedQueue<ComponentTrace>();
+    private final AtomicInteger componentCount = new AtomicInteger();
+    private final AtomicInteger nextComponentId = new AtomicInteger();
+
+    /** Creates a factory that keeps the traces of the latest 1024 components. */
+    public TracingMonitorFactory() {
+        this(1024);
+    }
+
+    /** Creates a factory that keeps the traces of the latest {@code maxComponents} components. */
+    public TracingMonitorFactory(int maxComponents) {
+        if (maxComponents < 1) {
+            throw new IllegalArgumentException("maxComponents must be positive: " + maxComponents);
+        }
+        this.maxComponents = maxComponents;
+    }
+
+    @Override
+    public ProductionComponentMonitor create(Object component) {
+        ComponentTrace trace =
+                new ComponentTrace(
+                        nextComponentId.incrementAndGet(),
+                        component == null ? "component" : component.getClass().getName());
+        components.add(trace);
+        if (componentCount.incrementAndGet() > maxComponents && components.poll() != null) {
+            componentCount.decrementAndGet();
+        }
+        return trace;
+    }
+
+    /** Forgets all traces recorded so far. */
+    public void clear() {
+        while (components.poll() != null) {
+            componentCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the critical path of each completed entry-point execution, in the order that the
+     * components were created. An entry point is a producer that no other traced producer
+     * requested; as only completed producers are looked at, call this once the executions of
+     * interest are done.
+     */
+    public List<CriticalPath> criticalPaths() {
+        List<CriticalPath> paths = new ArrayList<CriticalPath>();
+        for (ComponentTrace component : components) {
+            paths.addAll(component.criticalPaths());
+        }
+        return unmodifiableList(paths);
+    }
+
+    /**
+     * Writes all traces in the Chrome trace-event JSON format. Timestamps are in microseconds since
+     * this factory was created.
+     */
+    public void writeChromeTrace(Appendable out) throws IOException {
+        out.append("{\"displayTimeUnit\":\"ns\",\"traceEvents\":[");
+        boolean first = true;
+        for (ComponentTrace component : components) {
+            first = component.writeChromeEvents(out, first);
+        }
+        out.append("\n]}\n");
+    }
+
+    private double micros(long nanos) {
+        return (nanos - originNanos) / 1000.0;
+    }
+
+    /** The chain of producers that bounded the latency of one entry-point execution. */
+    public static final class CriticalPath {
+        private final String component;
+        private final List<Step> steps;
+
+        CriticalPath(String component, List<Step> steps) {
+            this.component = component;
+            this.steps = steps;
+        }
+
+        /** The class name of the component that was executed. */
+        public String component() {
+            return component;
+        }
+
+        /** The producer that was requested by the entry point. */
+        public ProducerToken entryPoint() {
+            return steps.get(steps.size() - 1).token();
+        }
+
+        /**
+         * The steps of the path in execution order: from the producer that started it to the entry
+         * point.
+         */
+        public List<Step> steps() {
+            return steps;
+        }
+
+        /** The time from the request of the entry point to its completion. */
+        public long durationNanos() {
+            Step entryPoint = steps.get(steps.size() - 1);
+            return entryPoint.doneNanos - entryPoint.requestedNanos;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder =
+                    new StringBuilder(component)
+                            .append(": ")
+                            .append(entryPoint())
+                            .append(" took ")
+                            .append(durationNanos())
+                            .append("ns");
+            for (Step step : steps) {
+                builder.append("\n  +").append(step.pathNanos()).append("ns ").append(step.token());
+                if (step.failed()) {
+                    builder.append(" (failed)");
+                }
+            }
+            return builder.toString();
+        }
+    }
+
+    /** A producer on a {@link CriticalPath}. Times are {@link System#nanoTime()} values. */
+    public static final class Step {
+        private final ProducerToken token;
+        private final long requestedNanos;
+        private final long pathStartNanos;
+        private final long doneNanos;
+        private final boolean failed;
+
+        Step(
+                ProducerToken token,
+                long requestedNanos,
+                long pathStartNanos,
+                long doneNanos,
+                boolean failed) {
+            this.token = token;
+            this.requestedNanos = requestedNanos;
+            this.pathStartNanos = pathStartNanos;
+            this.doneNanos = doneNanos;
+            this.failed = failed;
+        }
+
+        public ProducerToken token() {
+            return token;
+        }
+
+        public long requestedNanos() {
+            return requestedNanos;
+        }
+
+        public long doneNanos() {
+            return doneNanos;
+        }
+
+        public boolean failed() {
+            return failed;
+        }
+
+        /**
+         * The time this step adds to the path: from the completion of the previous step (or this
+         * step's request, for the first) to this step's completion. The times of a path's steps add
+         * up to the time from the first step's request to the entry point's completion.
+         */
+        public long pathNanos() {
+            return doneNanos - pathStartNanos;
+        }
+    }
+
+    /** The trace of one component; also its monitor. */
+    private final class ComponentTrace extends ProductionComponentMonitor {
+        final int id;
+        final String name;
+        final ConcurrentHashMap<ProducerToken, Node> nodes =
+                new ConcurrentHashMap<ProducerToken, Node>();
+
+        ComponentTrace(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @Override
+        public ProducerMonitor producerMonitorFor(ProducerToken token) {
+            if (token == null) {
+                return ProducerMonitor.noOp();
+            }
+            Node node = new Node(token);
+            // A component computes each producer once, so a token is only seen again if a producer
+            // was created twice; the first one stands for it.
+            return nodes.putIfAbsent(token, node) == null ? node : ProducerMonitor.noOp();
+        }
+
+        /** Returns the nodes that have completed, and so are safe to read from this thread. */
+        private Map<ProducerToken, Node> completedNodes() {
+            Map<ProducerToken, Node> completed = new HashMap<ProducerToken, Node>();
+            for (Node node : nodes.values()) {
+                if (node.completed) {
+                    completed.put(node.token, node);
+                }
+            }
+            return completed;
+        }
+
+        List<CriticalPath> criticalPaths() {
+            Map<ProducerToken, Node> completed = completedNodes();
+            Set<ProducerToken> requestedByProducers = new HashSet<ProducerToken>();
+            for (Node node : completed.values()) {
+                requestedByProducers.addAll(node.dependencies);
+            }
+            List<Node> entryPoints = new ArrayList<Node>();
+            for (Node node : completed.values()) {
+                if (!requestedByProducers.contains(node.token)) {
+                    entryPoints.add(node);
+                }
+            }
+            Collections.sort(entryPoints, Node.BY_REQUEST_TIME);
+            List<CriticalPath> paths = new ArrayList<CriticalPath>();
+            for (Node entryPoint : entryPoints) {
+                paths.add(criticalPath(entryPoint, completed));
+            }
+            return paths;
+        }
+
+        private CriticalPath criticalPath(Node entryPoint, Map<ProducerToken, Node> completed) {
+            List<Node> path = new ArrayList<Node>();
+            Set<ProducerToken> visited = new HashSet<ProducerToken>();
+            for (Node node = entryPoint; node != null && visited.add(node.token); ) {
+                path.add(node);
+                node = lastCompletedDependency(node, completed);
+            }
+            Collections.reverse(path);
+            List<Step> steps = new ArrayList<Step>(path.size());
+            long previousDone = path.get(0).requestedNanos;
+            for (Node node : path) {
+                steps.add(
+                        new Step(
+                                node.token,
+                                node.requestedNanos,
+                                previousDone,
+                                node.doneNanos,
+                                node.failed));
+                previousDone = node.doneNanos;
+            }
+            return new CriticalPath(name, unmodifiableList(steps));
+        }
+
+        private Node lastCompletedDependency(Node node, Map<ProducerToken, Node> completed) {
+            Node last = null;
+            for (ProducerToken token : node.dependencies) {
+                Node dependency = completed.get(token);
+                if (dependency != null
+                        && dependency.doneNanos <= node.doneNanos
+                        && (last == null || dependency.doneNanos > last.doneNanos)) {
+                    last = dependency;
+                }
+            }
+            return last;
+        }
+
+        boolean writeChromeEvents(Appendable out, boolean first) throws IOException {
+            Map<ProducerToken, Node> completed = completedNodes();
+            if (completed.isEmpty()) {
+                return first;
+            }
+            first = event(out, first);
+            out.append("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":")
+                    .append(String.valueOf(id))
+                    .append(",\"args\":{\"name\":")
+                    .append(jsonString(name + " #" + id))
+                    .append("}}");
+
+            Set<Long> namedThreads = new HashSet<Long>();
+            int requestId = 0;
+            for (Node node : completed.values()) {
+                String name = jsonString(node.token.toString());
+                String asyncId = jsonString(id + "." + requestId++);
+                first = event(out, first);
+                out.append("{\"name\":").append(name)
+                        .append(",\"cat\":\"request\",\"ph\":\"b\",\"id\":").append(asyncId)
+                        .append(",\"pid\":").append(String.valueOf(id))
+                        .append(",\"tid\":0,\"ts\":").append(timestamp(node.requestedNanos))
+                        .append(",\"args\":{\"dependencies\":")
+                        .append(String.valueOf(node.dependencies.size()))
+                        .append(",\"failed\":").append(String.valueOf(node.failed)).append("}}");
+                first = event(out, first);
+                out.append("{\"name\":").append(name)
+                        .append(",\"cat\":\"request\",\"ph\":\"e\",\"id\":").append(asyncId)
+                        .append(",\"pid\":").append(String.valueOf(id))
+                        .append(",\"tid\":0,\"ts\":").append(timestamp(node.doneNanos)).append('}');
+                if (node.finished) {
+                    if (namedThreads.add(node.threadId)) {
+                        first = event(out, first);
+                        threadName(out, node.threadId, node.threadName);
+                    }
+                    first = event(out, first);
+                    out.append("{\"name\":").append(name)
+                            .append(",\"cat\":\"method\",\"ph\":\"X\",\"pid\":")
+                            .append(String.valueOf(id))
+                            .append(",\"tid\":").append(String.valueOf(node.threadId))
+                            .append(",\"ts\":").append(timestamp(node.startedNanos))
+                            .append(",\"dur\":")
+                            .append(duration(node.startedNanos, node.finishedNanos))
+                            .append('}');
+                }
+            }
+
+            // Entry points can run concurrently, so each critical path gets a lane of its own.
+            long lane = Integer.MAX_VALUE;
+            for (CriticalPath path : criticalPaths()) {
+                first = event(out, first);
+                threadName(out, lane, "critical path of " + path.entryPoint());
+                for (Step step : path.steps()) {
+                    first = event(out, first);
+                    out.append("{\"name\":").append(jsonString(step.token().toString()))
+                            .append(",\"cat\":\"critical\",\"ph\":\"X\",\"pid\":")
+                            .append(String.valueOf(id))
+                            .append(",\"tid\":").append(String.valueOf(lane))
+                            .append(",\"ts\":").append(timestamp(step.pathStartNanos))
+                            .append(",\"dur\":")
+                            .append(duration(step.pathStartNanos, step.doneNanos))
+                            .append('}');
+                }
+                lane--;
+            }
+            return first;
+        }
+
+        private void threadName(Appendable out, long tid, String threadName) throws IOException {
+            out.append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":").append(String.valueOf(id))
+                    .append(",\"tid\":").append(String.valueOf(tid))
+                    .append(",\"args\":{\"name\":").append(jsonString(threadName)).append("}}");
+        }
+    }
+
+    private String timestamp(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", micros(nanos));
+    }
+
+    private static String duration(long startNanos, long endNanos) {
+        return String.format(Locale.ROOT, "%.3f", (endNanos - startNanos) / 1000.0);
+    }
+
+    private static boolean event(Appendable out, boolean first) throws IOException {
+        out.append(first ? "\n" : ",\n");
+        return false;
+    }
+
+    private static String jsonString(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * The monitor of one producer in one component. The callbacks may come from different threads,
+     * but each happens-before the next through the futures and executor that trigger them, and the
+     * volatile write of {@link #completed} publishes all of them to the thread that exports the
+     * trace.
+     */
+    private static final class Node extends ProducerMonitor {
+        static final Comparator<Node> BY_REQUEST_TIME =
+                new Comparator<Node>() {
+                    @Override
+                    public int compare(Node a, Node b) {
+                        return Long.compare(a.requestedNanos, b.requestedNanos);
+                    }
+                };
+
+        final ProducerToken token;
+        final List<ProducerToken> dependencies = new ArrayList<ProducerToken>(4);
+        long requestedNanos;
+        long startedNanos;
+        long finishedNanos;
+        long doneNanos;
+        boolean finished;
+        boolean failed;
+        long threadId;
+        String threadName;
+        volatile boolean completed;
+
+        Node(ProducerToken token) {
+            this.token = token;
+        }
+
+        @Override
+        public void requested() {
+            requestedNanos = System.nanoTime();
+        }
+
+        @Override
+        public void dependencyRequested(ProducerToken dependency) {
+            if (!dependencies.contains(dependency)) {
+                dependencies.add(dependency);
+            }
+        }
+
+        @Override
+        public void methodStarting() {
+            Thread thread = Thread.currentThread();
+            threadId = thread.getId();
+            threadName = thread.getName();
+            startedNanos = System.nanoTime();
+        }
+
+        @Override
+        public void methodFinished() {
+            finishedNanos = System.nanoTime();
+            finished = true;
+        }
+
+        @Override
+        public void succeeded(Object value) {
+            complete(false);
+        }
+
+        @Override
+        public void failed(Throwable t) {
+            complete(true);
+        }
+
+        private void complete(boolean failed) {
+            doneNanos = System.nanoTime();
+            this.failed = failed;
+            completed = true;
+        }
+    }
+}
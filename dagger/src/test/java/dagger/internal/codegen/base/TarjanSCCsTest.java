@@ -0,0 +1,83 @@
+package dagger.internal.codegen.base;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(JUnit4.class)
+public final class TarjanSCCsTest {
+    // Deep enough that the recursive implementation overflowed a default thread stack.
+    private static final int DEEP_CHAIN_LENGTH = 200_000;
+
+    @Test
+    public void componentsInReverseTopologicalOrder() {
+        ImmutableSetMultimap<String, String> successors =
+                ImmutableSetMultimap.<String, String>builder()
+                        .put("a", "b")
+                        .put("b", "c")
+                        .put("c", "a")
+                        .put("c", "d")
+                        .put("d", "e")
+                        .put("e", "d")
+                        .build();
+
+        ImmutableSet<ImmutableSet<String>> components =
+                TarjanSCCs.compute(ImmutableSet.of("a", "b", "c", "d", "e", "f"), successors::get);
+
+        assertEquals(
+                ImmutableList.of(
+                        ImmutableSet.of("e", "d"), ImmutableSet.of("c", "b", "a"), ImmutableSet.of("f")),
+                components.asList());
+    }
+
+    @Test
+    public void successorsOutsideOfNodes() {
+        ImmutableSetMultimap<String, String> successors = ImmutableSetMultimap.of("a", "b");
+
+        assertEquals(
+                ImmutableList.of(ImmutableSet.of("b"), ImmutableSet.of("a")),
+                TarjanSCCs.compute(ImmutableSet.of("a"), successors::get).asList());
+    }
+
+    @Test
+    public void deepChain() {
+        List<Integer> nodes = new ArrayList<>();
+        for (int i = 0; i < DEEP_CHAIN_LENGTH; i++) {
+            nodes.add(i);
+        }
+
+        ImmutableSet<ImmutableSet<Integer>> components =
+                TarjanSCCs.compute(
+                        ImmutableList.copyOf(nodes),
+                        node -> node + 1 < DEEP_CHAIN_LENGTH ? ImmutableSet.of(node + 1) : ImmutableSet.of());
+
+        assertEquals(DEEP_CHAIN_LENGTH, components.size());
+        assertEquals(ImmutableSet.of(DEEP_CHAIN_LENGTH - 1), components.asList().get(0));
+        assertEquals(ImmutableSet.of(0), components.asList().get(DEEP_CHAIN_LENGTH - 1));
+    }
+
+    @Test
+    public void deepCycle() {
+        List<Integer> nodes = new ArrayList<>();
+        for (int i = 0; i < DEEP_CHAIN_LENGTH; i++) {
+            nodes.add(i);
+        }
+
+        ImmutableSet<ImmutableSet<Integer>> components =
+                TarjanSCCs.compute(
+                        ImmutableList.copyOf(nodes),
+                        node -> ImmutableSet.of((node + 1) % DEEP_CHAIN_LENGTH));
+
+        assertEquals(1, components.size());
+        assertEquals(DEEP_CHAIN_LENGTH, components.asList().get(0).size());
+    }
+}
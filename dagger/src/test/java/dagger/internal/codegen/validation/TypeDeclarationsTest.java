@@ -0,0 +1,108 @@
+package dagger.internal.codegen.validation;
+
+import com.google.common.collect.ImmutableList;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.Trees;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public final class TypeDeclarationsTest {
+    private static final String SOURCE =
+            "package app;\n"
+                    + "\n"
+                    + "@SuppressWarnings(\"serial\")\n"
+                    + "public class Screen extends com.google.common.collect.ForwardingList<String> {\n"
+                    + "  @Override protected java.util.List<String> delegate() { return null; }\n"
+                    + "  static class Nested extends Base {}\n"
+                    + "}\n"
+                    + "\n"
+                    + "class Base {\n"
+                    + "  int field;\n"
+                    + "}\n";
+
+    private JavacTask task;
+    private Trees trees;
+
+    @Before
+    public void setUp() throws IOException {
+        JavaFileObject source =
+                new SimpleJavaFileObject(URI.create("string:///app/Screen.java"), JavaFileObject.Kind.SOURCE) {
+                    @Override
+                    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                        return SOURCE;
+                    }
+                };
+        task =
+                (JavacTask)
+                        ToolProvider.getSystemJavaCompiler()
+                                .getTask(
+                                        null,
+                                        null,
+                                        null,
+                                        Arrays.asList("-proc:none", "-classpath", System.getProperty("java.class.path")),
+                                        null,
+                                        ImmutableList.of(source));
+        task.analyze();
+        trees = Trees.instance(task);
+    }
+
+    @Test
+    public void sourceTypes_describedWithMembersAndWalked() {
+        Map<String, String> declarations = stopAtClasspathTypes().describe(ImmutableList.of(type("app.Screen")));
+
+        assertTrue(declarations.get("app.Screen").contains("delegate"));
+        // The nested type is described with its enclosing type, and its superclass is walked to.
+        assertTrue(declarations.get("app.Screen").contains("app.Screen.Nested"));
+        assertTrue(declarations.get("app.Base").contains("field"));
+    }
+
+    @Test
+    public void classpathTypes_describedByHeaderOnly() {
+        Map<String, String> declarations = stopAtClasspathTypes().describe(ImmutableList.of(type("app.Screen")));
+
+        String forwardingList = declarations.get("com.google.common.collect.ForwardingList");
+        assertEquals(1, forwardingList.split("\n").length);
+        assertTrue(forwardingList.contains("extends com.google.common.collect.ForwardingCollection<E>"));
+        // Its supertypes are not walked to.
+        assertFalse(declarations.containsKey("com.google.common.collect.ForwardingCollection"));
+        assertFalse(declarations.containsKey("java.util.List"));
+    }
+
+    @Test
+    public void everyTypeFromSource_walksClasspathHierarchies() {
+        Map<String, String> declarations =
+                new TypeDeclarations(type -> true).describe(ImmutableList.of(type("app.Screen")));
+
+        assertTrue(declarations.get("com.google.common.collect.ForwardingList").contains("delegate"));
+        assertTrue(declarations.containsKey("com.google.common.collect.ForwardingCollection"));
+        assertTrue(declarations.containsKey("com.google.common.collect.ForwardingObject"));
+        // The JDK's types are never described.
+        assertFalse(declarations.containsKey("java.util.List"));
+    }
+
+    private TypeDeclarations stopAtClasspathTypes() {
+        return new TypeDeclarations(type -> trees.getTree(type) != null);
+    }
+
+    private TypeElement type(String name) {
+        return task.getElements().getTypeElement(name);
+    }
+}
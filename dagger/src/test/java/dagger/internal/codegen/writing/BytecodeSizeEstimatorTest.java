@@ -0,0 +1,271 @@
+package dagger.internal.codegen.writing;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import static dagger.internal.codegen.writing.BytecodeSizeEstimator.METHOD_SIZE_TARGET;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public final class BytecodeSizeEstimatorTest {
+    /** Declarations that the method bodies below compile against. */
+    private static final String DECLARATIONS =
+            "interface Provider<T> { T get(); }\n"
+                    + "final class DoubleCheck {\n"
+                    + "  static <T> Provider<T> provider(Provider<T> p) { return p; }\n"
+                    + "}\n"
+                    + "final class Foo { Foo(Object a, Object b) {} }\n"
+                    + "final class Foo_Factory implements Provider<Foo> {\n"
+                    + "  static Foo_Factory create(Provider<?> a, Provider<?> b) { return null; }\n"
+                    + "  public Foo get() { return null; }\n"
+                    + "}\n";
+
+    private static final String FIELDS =
+            "  Provider<Foo> fooProvider;\n"
+                    + "  Provider<Object> barProvider;\n"
+                    + "  Provider<Object> bazProvider;\n";
+
+    /**
+     * Representative bodies of generated methods: a field initialization of {@code initialize()}, a
+     * component method that inlines a chain, and a {@code SwitchingProvider.get()}.
+     */
+    private static final ImmutableMap<String, String> BODIES =
+            ImmutableMap.of(
+                    "initialization",
+                    "this.fooProvider = DoubleCheck.provider(Foo_Factory.create(barProvider, bazProvider));\n",
+                    "inlinedChain",
+                    "return new Foo(new Foo(barProvider.get(), null), bazProvider.get());\n",
+                    "switchingProvider",
+                    "switch (id) {\n"
+                            + "  case 0: // a.Foo\n"
+                            + "  return (T) new Foo(barProvider.get(), bazProvider.get());\n"
+                            + "  case 1: // java.lang.Object\n"
+                            + "  return (T) \"bar\";\n"
+                            + "  default: throw new AssertionError(id);\n"
+                            + "}\n");
+
+    @Test
+    public void estimates() {
+        // javac compiles them, with their returns, to 19, 34 and 66 bytes.
+        assertEquals(20, BytecodeSizeEstimator.estimate(BODIES.get("initialization")));
+        assertEquals(37, BytecodeSizeEstimator.estimate(BODIES.get("inlinedChain")));
+        assertEquals(97, BytecodeSizeEstimator.estimate(BODIES.get("switchingProvider")));
+    }
+
+    @Test
+    public void ignoresCommentsAndTypeArguments() {
+        assertEquals(
+                BytecodeSizeEstimator.estimate("return new Foo(bar);\n"),
+                BytecodeSizeEstimator.estimate(
+                        "// a comment with calls(), names and = signs;\n"
+                                + "return new Foo<Bar<Baz>>(/* bar */ bar);\n"));
+        // A comparison is not mistaken for type arguments.
+        assertTrue(
+                BytecodeSizeEstimator.estimate("return id < 3 && id > 1;\n")
+                        > BytecodeSizeEstimator.estimate("return id;\n"));
+    }
+
+    @Test
+    public void methodAddsReturnAndParameterLoads() {
+        CodeBlock body = CodeBlock.of("$L", BODIES.get("inlinedChain"));
+        MethodSpec method =
+                MethodSpec.methodBuilder("foo")
+                        .addParameter(TypeName.INT, "a")
+                        .addParameter(TypeName.INT, "b")
+                        .addCode(body)
+                        .build();
+
+        assertEquals(BytecodeSizeEstimator.estimate(body) + 3, BytecodeSizeEstimator.estimate(method));
+    }
+
+    /**
+     * The estimate errs high, so that methods split by it stay under the limit, but not so high that
+     * methods are split much sooner than they need to be.
+     */
+    @Test
+    public void estimatesAreAtLeastTheCompiledSize() throws IOException {
+        StringBuilder source = new StringBuilder(DECLARATIONS).append("final class Shapes {\n");
+        source.append(FIELDS);
+        source.append("  void initialization() {\n").append(BODIES.get("initialization")).append("}\n");
+        source.append("  Foo inlinedChain() {\n").append(BODIES.get("inlinedChain")).append("}\n");
+        source
+                .append("  @SuppressWarnings(\"unchecked\") <T> T switchingProvider(int id) {\n")
+                .append(BODIES.get("switchingProvider"))
+                .append("}\n");
+        source.append("}\n");
+
+        Map<String, Integer> compiledSizes = compile(source.toString(), "Shapes");
+
+        for (Map.Entry<String, String> body : BODIES.entrySet()) {
+            int compiled = compiledSizes.get(body.getKey());
+            int estimated = BytecodeSizeEstimator.estimate(body.getValue()) + 1;
+            assertTrue(
+                    body.getKey() + ": estimated " + estimated + " < compiled " + compiled,
+                    estimated >= compiled);
+            assertTrue(
+                    body.getKey() + ": estimated " + estimated + " > 2 * compiled " + compiled,
+                    estimated <= 2 * compiled);
+        }
+    }
+
+    @Test
+    public void partitionSplitsAtTheSizeTarget() {
+        CodeBlock statement = CodeBlock.of("$L", BODIES.get("initialization"));
+        int size = BytecodeSizeEstimator.estimate(statement);
+        int perGroup = METHOD_SIZE_TARGET / size;
+
+        ImmutableList<ImmutableList<CodeBlock>> atTarget =
+                BytecodeSizeEstimator.partition(
+                        Collections.nCopies(perGroup, statement), Integer.MAX_VALUE);
+        ImmutableList<ImmutableList<CodeBlock>> overTarget =
+                BytecodeSizeEstimator.partition(
+                        Collections.nCopies(perGroup + 1, statement), Integer.MAX_VALUE);
+
+        assertEquals(1, atTarget.size());
+        assertEquals(2, overTarget.size());
+        assertEquals(perGroup, overTarget.get(0).size());
+        assertEquals(1, overTarget.get(1).size());
+    }
+
+    @Test
+    public void partitionSplitsAtTheStatementLimit() {
+        CodeBlock statement = CodeBlock.of("a = b;\n");
+
+        ImmutableList<ImmutableList<CodeBlock>> groups =
+                BytecodeSizeEstimator.partition(Collections.nCopies(5, statement), 2);
+
+        assertEquals(3, groups.size());
+        assertEquals(2, groups.get(0).size());
+        assertEquals(1, groups.get(2).size());
+    }
+
+    @Test
+    public void partitionKeepsAnOversizedStatementOnItsOwn() {
+        StringBuilder large = new StringBuilder();
+        while (BytecodeSizeEstimator.estimate(large.toString()) <= METHOD_SIZE_TARGET) {
+            large.append(BODIES.get("initialization"));
+        }
+        CodeBlock small = CodeBlock.of("a = b;\n");
+
+        ImmutableList<ImmutableList<CodeBlock>> groups =
+                BytecodeSizeEstimator.partition(
+                        ImmutableList.of(small, CodeBlock.of("$L", large), small), Integer.MAX_VALUE);
+
+        assertEquals(3, groups.size());
+        assertEquals(1, groups.get(1).size());
+    }
+
+    /** Compiles {@code source} and returns the code length of each method of {@code className}. */
+    private static Map<String, Integer> compile(String source, String className) throws IOException {
+        Path directory = Files.createTempDirectory("estimator");
+        File sourceFile = directory.resolve(className + ".java").toFile();
+        Files.write(sourceFile.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        assertEquals(
+                0,
+                javac.run(
+                        null,
+                        null,
+                        null,
+                        "-proc:none",
+                        "-d",
+                        directory.toString(),
+                        sourceFile.getPath()));
+        try (InputStream in = new FileInputStream(directory.resolve(className + ".class").toFile())) {
+            return codeLengths(new DataInputStream(in));
+        }
+    }
+
+    /** Reads the length of the {@code Code} attribute of each method from a class file. */
+    private static Map<String, Integer> codeLengths(DataInputStream in) throws IOException {
+        in.skipBytes(8); // magic and version
+        int constantPoolCount = in.readUnsignedShort();
+        List<String> utf8 = new ArrayList<>(Collections.nCopies(constantPoolCount, (String) null));
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    utf8.set(i, in.readUTF());
+                    break;
+                case 5: // long
+                case 6: // double
+                    in.skipBytes(8);
+                    i++;
+                    break;
+                case 7: // class
+                case 8: // string
+                case 16: // method type
+                case 19: // module
+                case 20: // package
+                    in.skipBytes(2);
+                    break;
+                case 15: // method handle
+                    in.skipBytes(3);
+                    break;
+                default: // integer, float, refs, name and type, dynamic
+                    in.skipBytes(4);
+                    break;
+            }
+        }
+        in.skipBytes(6); // access flags, this and super
+        in.skipBytes(2 * in.readUnsignedShort()); // interfaces
+        int fields = in.readUnsignedShort();
+        for (int i = 0; i < fields; i++) {
+            in.skipBytes(6);
+            skipAttributes(in);
+        }
+        Map<String, Integer> codeLengths = new HashMap<>();
+        int methods = in.readUnsignedShort();
+        for (int i = 0; i < methods; i++) {
+            in.skipBytes(2);
+            String name = utf8.get(in.readUnsignedShort());
+            in.skipBytes(2);
+            int attributes = in.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                String attribute = utf8.get(in.readUnsignedShort());
+                int length = in.readInt();
+                if (attribute.equals("Code")) {
+                    in.skipBytes(4); // max stack and locals
+                    codeLengths.put(name, in.readInt());
+                    in.skipBytes(length - 8);
+                } else {
+                    in.skipBytes(length);
+                }
+            }
+        }
+        return codeLengths;
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int attributes = in.readUnsignedShort();
+        for (int i = 0; i < attributes; i++) {
+            in.skipBytes(2);
+            in.skipBytes(in.readInt());
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package dagger.producers;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(JUnit4.class)
+public final class BatcherTest {
+    // Long enough that only full batches are sent.
+    private static final long NEVER_HOURS = 1;
+
+    /** A batch function that records its batches and returns each input's length. */
+    private static final class RecordingFunction implements AsyncFunction<List<String>, List<Integer>> {
+        final List<List<String>> batches = Collections.synchronizedList(new ArrayList<List<String>>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<Thread>());
+
+        @Override
+        public ListenableFuture<List<Integer>> apply(List<String> inputs) {
+            batches.add(ImmutableList.copyOf(inputs));
+            threads.add(Thread.currentThread());
+            List<Integer> lengths = new ArrayList<Integer>();
+            for (String input : inputs) {
+                lengths.add(input.length());
+            }
+            return Futures.immediateFuture(lengths);
+        }
+    }
+
+    @Test
+    public void flushesWhenFull() throws Exception {
+        RecordingFunction function = new RecordingFunction();
+        Batcher<String, Integer> batcher =
+                Batcher.create(function, 3, NEVER_HOURS, TimeUnit.HOURS, directExecutor());
+
+        ListenableFuture<Integer> a = batcher.load("a");
+        ListenableFuture<Integer> bb = batcher.load("bb");
+        ListenableFuture<Integer> aAgain = batcher.load("a");
+        assertFalse(a.isDone());
+        assertTrue(function.batches.isEmpty());
+
+        ListenableFuture<Integer> ccc = batcher.load("ccc");
+
+        assertEquals(ImmutableList.of(ImmutableList.of("a", "bb", "ccc")), function.batches);
+        assertEquals(1, (int) a.get());
+        assertEquals(1, (int) aAgain.get());
+        assertEquals(2, (int) bb.get());
+        assertEquals(3, (int) ccc.get());
+    }
+
+    @Test
+    public void flushesAfterDelay() throws Exception {
+        RecordingFunction function = new RecordingFunction();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Batcher<String, Integer> batcher =
+                    Batcher.create(function, 100, 10, TimeUnit.MILLISECONDS, executor);
+
+            ListenableFuture<Integer> a = batcher.load("a");
+            ListenableFuture<Integer> bb = batcher.load("bb");
+
+            assertEquals(1, (int) a.get(10, TimeUnit.SECONDS));
+            assertEquals(2, (int) bb.get(10, TimeUnit.SECONDS));
+            assertEquals(ImmutableList.of(ImmutableList.of("a", "bb")), function.batches);
+            // The timer thread hands the batch to the executor instead of calling the function.
+            assertNotEquals("dagger-batcher", function.threads.get(0).getName());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void slowBatchDoesNotDelayOtherBatchers() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        AsyncFunction<List<String>, List<Integer>> blocking =
+                new AsyncFunction<List<String>, List<Integer>>() {
+                    @Override
+                    public ListenableFuture<List<Integer>> apply(List<String> inputs)
+                            throws InterruptedException {
+                        release.await();
+                        return Futures.<List<Integer>>immediateFuture(ImmutableList.of(0));
+                    }
+                };
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Batcher<String, Integer> slow =
+                    Batcher.create(blocking, 100, 1, TimeUnit.MILLISECONDS, executor);
+            Batcher<String, Integer> fast =
+                    Batcher.create(new RecordingFunction(), 100, 1, TimeUnit.MILLISECONDS, executor);
+
+            ListenableFuture<Integer> blocked = slow.load("a");
+            Thread.sleep(50);
+            assertEquals(2, (int) fast.load("bb").get(10, TimeUnit.SECONDS));
+            assertFalse(blocked.isDone());
+
+            release.countDown();
+            assertEquals(0, (int) blocked.get(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void thrownExceptionFailsEveryLoad() throws Exception {
+        final IllegalStateException thrown = new IllegalStateException("backend down");
+        Batcher<String, Integer> batcher =
+                Batcher.create(
+                        new AsyncFunction<List<String>, List<Integer>>() {
+                            @Override
+                            public ListenableFuture<List<Integer>> apply(List<String> inputs) {
+                                throw thrown;
+                            }
+                        },
+                        2,
+                        NEVER_HOURS,
+                        TimeUnit.HOURS,
+                        directExecutor());
+
+        ListenableFuture<Integer> a = batcher.load("a");
+        ListenableFuture<Integer> b = batcher.load("b");
+
+        assertSame(thrown, failure(a));
+        assertSame(thrown, failure(b));
+    }
+
+    @Test
+    public void nullFutureFailsEveryLoad() throws Exception {
+        Batcher<String, Integer> batcher =
+                Batcher.create(
+                        new AsyncFunction<List<String>, List<Integer>>() {
+                            @Override
+                            public ListenableFuture<List<Integer>> apply(List<String> inputs) {
+                                return null;
+                            }
+                        },
+                        2,
+                        NEVER_HOURS,
+                        TimeUnit.HOURS,
+                        directExecutor());
+
+        ListenableFuture<Integer> a = batcher.load("a");
+        ListenableFuture<Integer> b = batcher.load("b");
+
+        assertTrue(failure(a) instanceof NullPointerException);
+        assertTrue(failure(b) instanceof NullPointerException);
+    }
+
+    @Test
+    public void failedFutureFailsEveryLoad() throws Exception {
+        final SettableFuture<List<Integer>> results = SettableFuture.create();
+        Batcher<String, Integer> batcher =
+                Batcher.create(
+                        new AsyncFunction<List<String>, List<Integer>>() {
+                            @Override
+                            public ListenableFuture<List<Integer>> apply(List<String> inputs) {
+                                return results;
+                            }
+                        },
+                        2,
+                        NEVER_HOURS,
+                        TimeUnit.HOURS,
+                        directExecutor());
+
+        ListenableFuture<Integer> a = batcher.load("a");
+        ListenableFuture<Integer> b = batcher.load("b");
+        RuntimeException cause = new RuntimeException();
+        results.setException(cause);
+
+        assertSame(cause, failure(a));
+        assertSame(cause, failure(b));
+    }
+
+    @Test
+    public void wrongNumberOfOutputsFailsEveryLoad() throws Exception {
+        Batcher<String, Integer> batcher =
+                Batcher.create(
+                        new AsyncFunction<List<String>, List<Integer>>() {
+                            @Override
+                            public ListenableFuture<List<Integer>> apply(List<String> inputs) {
+                                return Futures.<List<Integer>>immediateFuture(ImmutableList.of(1));
+                            }
+                        },
+                        2,
+                        NEVER_HOURS,
+                        TimeUnit.HOURS,
+                        directExecutor());
+
+        ListenableFuture<Integer> a = batcher.load("a");
+        ListenableFuture<Integer> b = batcher.load("b");
+
+        assertTrue(failure(a) instanceof IllegalStateException);
+        assertTrue(failure(b) instanceof IllegalStateException);
+    }
+
+    @Test
+    public void rejectedBatchFailsEveryLoad() throws Exception {
+        final RejectedExecutionException rejected = new RejectedExecutionException();
+        Batcher<String, Integer> batcher =
+                Batcher.create(
+                        new RecordingFunction(),
+                        2,
+                        NEVER_HOURS,
+                        TimeUnit.HOURS,
+                        new Executor() {
+                            @Override
+                            public void execute(Runnable command) {
+                                throw rejected;
+                            }
+                        });
+
+        ListenableFuture<Integer> a = batcher.load("a");
+        ListenableFuture<Integer> b = batcher.load("b");
+
+        assertSame(rejected, failure(a));
+        assertSame(rejected, failure(b));
+    }
+
+    @Test
+    public void cancellingOneLoadLeavesTheOthers() throws Exception {
+        final SettableFuture<List<Integer>> results = SettableFuture.create();
+        Batcher<String, Integer> batcher =
+                Batcher.create(
+                        new AsyncFunction<List<String>, List<Integer>>() {
+                            @Override
+                            public ListenableFuture<List<Integer>> apply(List<String> inputs) {
+                                return results;
+                            }
+                        },
+                        2,
+                        NEVER_HOURS,
+                        TimeUnit.HOURS,
+                        directExecutor());
+
+        ListenableFuture<Integer> a = batcher.load("a");
+        ListenableFuture<Integer> aAgain = batcher.load("a");
+        ListenableFuture<Integer> b = batcher.load("b");
+        a.cancel(true);
+        results.set(ImmutableList.of(1, 1));
+
+        assertFalse(results.isCancelled());
+        assertEquals(1, (int) aAgain.get());
+        assertEquals(1, (int) b.get());
+    }
+
+    private static Throwable failure(ListenableFuture<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        fail("expected " + future + " to fail");
+        return null;
+    }
+}
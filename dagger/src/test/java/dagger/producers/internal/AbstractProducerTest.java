@@ -0,0 +1,62 @@
+package dagger.producers.internal;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import dagger.producers.Producer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public final class AbstractProducerTest {
+
+    /** A producer whose future is completed by the test. */
+    private static final class SettableProducer extends AbstractProducer<String> {
+        final SettableFuture<String> result = SettableFuture.create();
+        int computations;
+
+        @Override
+        protected ListenableFuture<String> compute() {
+            computations++;
+            return result;
+        }
+    }
+
+    @Test
+    public void lastEagerViewCancelled_cancelsProducer() {
+        SettableProducer producer = new SettableProducer();
+        Producer<String> first = Producers.eagerlyCancellingViewOf(producer);
+        Producer<String> second = Producers.eagerlyCancellingViewOf(producer);
+
+        first.get().cancel(true);
+        assertFalse(producer.isCancelled());
+
+        second.get().cancel(true);
+        assertTrue(producer.isCancelled());
+    }
+
+    @Test
+    public void retainedForSubcomponents_subcomponentCreatedAfterSiblingCancelled() throws Exception {
+        // The parent component's initialization, for a producer that a subcomponent depends on.
+        SettableProducer parentProducer = new SettableProducer();
+        Producers.retainForSubcomponents(parentProducer);
+        Producer<String> siblingConsumerView = Producers.eagerlyCancellingViewOf(parentProducer);
+
+        siblingConsumerView.get().cancel(true);
+        assertFalse(parentProducer.isCancelled());
+
+        // The subcomponent is created afterwards, and its producers take views of the parent's.
+        Producer<String> subcomponentConsumerView = Producers.eagerlyCancellingViewOf(parentProducer);
+        ListenableFuture<String> future = subcomponentConsumerView.get();
+        parentProducer.result.set("value");
+
+        assertEquals("value", future.get());
+        assertEquals(1, parentProducer.computations);
+    }
+}